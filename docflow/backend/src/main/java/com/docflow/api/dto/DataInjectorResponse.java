@@ -9,8 +9,14 @@ public class DataInjectorResponse {
     private int totalRows;
     private int inserted;
     private int updated;
+    private int unchanged;
     private int skipped;
+    private int failed;
+    private boolean unchangedFile;
+    private String errorReportId;
     private List<String> ignoredColumns = new ArrayList<>();
+    private List<String> ignoredSheets = new ArrayList<>();
+    private List<DataInjectorSheetResult> sheets = new ArrayList<>();
 
     public int getTotalRows() {
         return totalRows;
@@ -51,4 +57,52 @@ public class DataInjectorResponse {
     public void setIgnoredColumns(List<String> ignoredColumns) {
         this.ignoredColumns = ignoredColumns != null ? new ArrayList<>(ignoredColumns) : new ArrayList<>();
     }
+
+    public List<String> getIgnoredSheets() {
+        return Collections.unmodifiableList(ignoredSheets);
+    }
+
+    public void setIgnoredSheets(List<String> ignoredSheets) {
+        this.ignoredSheets = ignoredSheets != null ? new ArrayList<>(ignoredSheets) : new ArrayList<>();
+    }
+
+    public List<DataInjectorSheetResult> getSheets() {
+        return Collections.unmodifiableList(sheets);
+    }
+
+    public void setSheets(List<DataInjectorSheetResult> sheets) {
+        this.sheets = sheets != null ? new ArrayList<>(sheets) : new ArrayList<>();
+    }
+
+    public int getUnchanged() {
+        return unchanged;
+    }
+
+    public void setUnchanged(int unchanged) {
+        this.unchanged = unchanged;
+    }
+
+    public boolean isUnchangedFile() {
+        return unchangedFile;
+    }
+
+    public void setUnchangedFile(boolean unchangedFile) {
+        this.unchangedFile = unchangedFile;
+    }
+
+    public int getFailed() {
+        return failed;
+    }
+
+    public void setFailed(int failed) {
+        this.failed = failed;
+    }
+
+    public String getErrorReportId() {
+        return errorReportId;
+    }
+
+    public void setErrorReportId(String errorReportId) {
+        this.errorReportId = errorReportId;
+    }
 }
@@ -0,0 +1,135 @@
+package com.docflow.api.dto;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+public class DataInjectorSheetResult {
+
+    private String sheetName;
+    private String profile;
+    private String targetTable;
+    private int totalRows;
+    private int inserted;
+    private int updated;
+    private int unchanged;
+    private int skipped;
+    private int failed;
+    private int batches;
+    private int roundTrips;
+    private long elapsedMillis;
+    private String error;
+    private List<String> ignoredColumns = new ArrayList<>();
+
+    public String getSheetName() {
+        return sheetName;
+    }
+
+    public void setSheetName(String sheetName) {
+        this.sheetName = sheetName;
+    }
+
+    public String getProfile() {
+        return profile;
+    }
+
+    public void setProfile(String profile) {
+        this.profile = profile;
+    }
+
+    public String getTargetTable() {
+        return targetTable;
+    }
+
+    public void setTargetTable(String targetTable) {
+        this.targetTable = targetTable;
+    }
+
+    public int getTotalRows() {
+        return totalRows;
+    }
+
+    public void setTotalRows(int totalRows) {
+        this.totalRows = totalRows;
+    }
+
+    public int getInserted() {
+        return inserted;
+    }
+
+    public void setInserted(int inserted) {
+        this.inserted = inserted;
+    }
+
+    public int getUpdated() {
+        return updated;
+    }
+
+    public void setUpdated(int updated) {
+        this.updated = updated;
+    }
+
+    public int getSkipped() {
+        return skipped;
+    }
+
+    public void setSkipped(int skipped) {
+        this.skipped = skipped;
+    }
+
+    public int getBatches() {
+        return batches;
+    }
+
+    public void setBatches(int batches) {
+        this.batches = batches;
+    }
+
+    public int getRoundTrips() {
+        return roundTrips;
+    }
+
+    public void setRoundTrips(int roundTrips) {
+        this.roundTrips = roundTrips;
+    }
+
+    public long getElapsedMillis() {
+        return elapsedMillis;
+    }
+
+    public void setElapsedMillis(long elapsedMillis) {
+        this.elapsedMillis = elapsedMillis;
+    }
+
+    public String getError() {
+        return error;
+    }
+
+    public void setError(String error) {
+        this.error = error;
+    }
+
+    public List<String> getIgnoredColumns() {
+        return Collections.unmodifiableList(ignoredColumns);
+    }
+
+    public void setIgnoredColumns(List<String> ignoredColumns) {
+        this.ignoredColumns = ignoredColumns != null ? new ArrayList<>(ignoredColumns) : new ArrayList<>();
+    }
+
+    public int getUnchanged() {
+        return unchanged;
+    }
+
+    public void setUnchanged(int unchanged) {
+        this.unchanged = unchanged;
+    }
+
+    public int getFailed() {
+        return failed;
+    }
+
+    public void setFailed(int failed) {
+        this.failed = failed;
+    }
+}
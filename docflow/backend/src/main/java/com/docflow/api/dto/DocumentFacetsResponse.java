@@ -0,0 +1,26 @@
+package com.docflow.api.dto;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+public class DocumentFacetsResponse {
+
+    private Map<String, Long> statusCounts = new LinkedHashMap<>();
+    private Map<String, Map<String, Long>> optionCounts = new LinkedHashMap<>();
+
+    public Map<String, Long> getStatusCounts() {
+        return statusCounts;
+    }
+
+    public void setStatusCounts(Map<String, Long> statusCounts) {
+        this.statusCounts = statusCounts;
+    }
+
+    public Map<String, Map<String, Long>> getOptionCounts() {
+        return optionCounts;
+    }
+
+    public void setOptionCounts(Map<String, Map<String, Long>> optionCounts) {
+        this.optionCounts = optionCounts;
+    }
+}
@@ -0,0 +1,26 @@
+package com.docflow.api.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class SearchProjectionRebuildResponse {
+
+    private List<String> slotKeys = new ArrayList<>();
+    private int documents;
+
+    public List<String> getSlotKeys() {
+        return slotKeys;
+    }
+
+    public void setSlotKeys(List<String> slotKeys) {
+        this.slotKeys = slotKeys;
+    }
+
+    public int getDocuments() {
+        return documents;
+    }
+
+    public void setDocuments(int documents) {
+        this.documents = documents;
+    }
+}
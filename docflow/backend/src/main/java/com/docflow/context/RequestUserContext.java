@@ -3,12 +3,46 @@ package com.docflow.context;
 import org.springframework.stereotype.Component;
 
 import java.util.Optional;
+import java.util.function.Supplier;
 
+// The current request's user, bound per thread. Bindings are scoped: open() restores whatever was bound before, so
+// the same code is safe on pooled platform threads and on virtual threads, and nested or propagated scopes unwind
+// cleanly. Work handed to another thread carries the user along through wrap() or RequestUserTaskDecorator.
 @Component
 public class RequestUserContext {
 
     private final ThreadLocal<RequestUser> currentUser = new ThreadLocal<>();
 
+    public Scope open(RequestUser user) {
+        RequestUser previous = currentUser.get();
+        currentUser.set(user);
+        return () -> {
+            if (previous != null) {
+                currentUser.set(previous);
+            } else {
+                currentUser.remove();
+            }
+        };
+    }
+
+    public void runAs(RequestUser user, Runnable action) {
+        try (Scope ignored = open(user)) {
+            action.run();
+        }
+    }
+
+    public <T> T callAs(RequestUser user, Supplier<T> action) {
+        try (Scope ignored = open(user)) {
+            return action.get();
+        }
+    }
+
+    // Captures the calling thread's user now and binds it wherever the returned task runs.
+    public Runnable wrap(Runnable task) {
+        RequestUser user = currentUser.get();
+        return user == null ? task : () -> runAs(user, task);
+    }
+
     public void setCurrentUser(RequestUser user) {
         currentUser.set(user);
     }
@@ -24,4 +58,10 @@ public class RequestUserContext {
     public void clear() {
         currentUser.remove();
     }
+
+    public interface Scope extends AutoCloseable {
+
+        @Override
+        void close();
+    }
 }
@@ -0,0 +1,20 @@
+package com.docflow.context;
+
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.stereotype.Component;
+
+// Boot applies a single TaskDecorator bean to the applicationTaskExecutor; our own executors set it explicitly.
+@Component
+public class RequestUserTaskDecorator implements TaskDecorator {
+
+    private final RequestUserContext requestUserContext;
+
+    public RequestUserTaskDecorator(RequestUserContext requestUserContext) {
+        this.requestUserContext = requestUserContext;
+    }
+
+    @Override
+    public Runnable decorate(Runnable runnable) {
+        return requestUserContext.wrap(runnable);
+    }
+}
@@ -0,0 +1,91 @@
+package com.docflow.domain;
+
+import jakarta.persistence.*;
+import org.hibernate.annotations.Immutable;
+
+import java.time.OffsetDateTime;
+
+// Read model for the review grid: one row per document with the listing columns and the review filter values
+// in numbered slots. Written only through DocumentSearchProjectionRepository; attribute names match DocumentParent
+// so document filters and sort properties apply unchanged.
+@Entity
+@Immutable
+@Table(name = "document_search_projection")
+public class DocumentSearchProjection {
+
+    public static final int SLOT_COUNT = 8;
+
+    @Id
+    @Column(name = "document_id")
+    private Long id;
+
+    @Column(name = "document_number", nullable = false)
+    private String documentNumber;
+
+    @Column(name = "title", nullable = false)
+    private String title;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false)
+    private DocumentStatus status;
+
+    @Column(name = "created_by", nullable = false)
+    private String createdBy;
+
+    @Column(name = "created_at", nullable = false)
+    private OffsetDateTime createdAt;
+
+    @Column(name = "updated_by")
+    private String updatedBy;
+
+    @Column(name = "updated_at")
+    private OffsetDateTime updatedAt;
+
+    // Lower-cased metadata values with JSON string quotes removed, truncated to the column length.
+    @Column(name = "slot_1")
+    private String slot1;
+
+    @Column(name = "slot_2")
+    private String slot2;
+
+    @Column(name = "slot_3")
+    private String slot3;
+
+    @Column(name = "slot_4")
+    private String slot4;
+
+    @Column(name = "slot_5")
+    private String slot5;
+
+    @Column(name = "slot_6")
+    private String slot6;
+
+    @Column(name = "slot_7")
+    private String slot7;
+
+    @Column(name = "slot_8")
+    private String slot8;
+
+    @Column(name = "refreshed_at", nullable = false)
+    private OffsetDateTime refreshedAt;
+
+    public static String slotAttribute(int slot) {
+        return "slot" + slot;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getDocumentNumber() {
+        return documentNumber;
+    }
+
+    public DocumentStatus getStatus() {
+        return status;
+    }
+
+    public OffsetDateTime getRefreshedAt() {
+        return refreshedAt;
+    }
+}
@@ -1,11 +1,13 @@
 package com.docflow.domain;
 
+import com.docflow.security.UserRoleCacheListener;
 import jakarta.persistence.*;
 
 import java.time.OffsetDateTime;
 
 @Entity
 @Table(name = "user_roles")
+@EntityListeners(UserRoleCacheListener.class)
 @SequenceGenerator(name = "user_roles_seq", sequenceName = "user_roles_seq", allocationSize = 1)
 public class UserRole {
 
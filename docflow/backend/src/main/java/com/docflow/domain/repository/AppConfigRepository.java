@@ -2,10 +2,23 @@ package com.docflow.domain.repository;
 
 import com.docflow.domain.AppConfig;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
+import java.time.OffsetDateTime;
+import java.util.List;
 import java.util.Optional;
 
 public interface AppConfigRepository extends JpaRepository<AppConfig, Long> {
 
     Optional<AppConfig> findByConfigKey(String configKey);
+
+    @Query("select c.configKey as configKey, c.updatedAt as updatedAt from AppConfig c")
+    List<ConfigVersion> findAllVersions();
+
+    interface ConfigVersion {
+
+        String getConfigKey();
+
+        OffsetDateTime getUpdatedAt();
+    }
 }
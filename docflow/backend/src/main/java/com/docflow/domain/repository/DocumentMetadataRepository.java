@@ -3,10 +3,26 @@ package com.docflow.domain.repository;
 import com.docflow.domain.DocumentMetadata;
 import com.docflow.domain.DocumentParent;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface DocumentMetadataRepository extends JpaRepository<DocumentMetadata, Long> {
 
     List<DocumentMetadata> findByDocument(DocumentParent document);
+
+    @Query("select m.document.id as documentId, m.fieldKey as fieldKey, m.fieldValue as fieldValue "
+        + "from DocumentMetadata m where m.document.id in :documentIds")
+    List<MetadataValue> findValuesByDocumentIds(@Param("documentIds") Collection<Long> documentIds);
+
+    interface MetadataValue {
+
+        Long getDocumentId();
+
+        String getFieldKey();
+
+        String getFieldValue();
+    }
 }
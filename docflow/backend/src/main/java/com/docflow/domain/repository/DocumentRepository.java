@@ -1,11 +1,32 @@
 package com.docflow.domain.repository;
 
 import com.docflow.domain.DocumentParent;
+import com.docflow.domain.DocumentStatus;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
+import java.time.OffsetDateTime;
+import java.util.List;
 import java.util.Optional;
 
 public interface DocumentRepository extends JpaRepository<DocumentParent, Long>, DocumentRepositoryCustom {
 
     Optional<DocumentParent> findByDocumentNumber(String documentNumber);
+
+    // Answered from idx_document_parent_status_upd. Creations only move the count and the highest id, edits and
+    // status changes move updated_at.
+    @Query("select d.status as status, count(d) as documents, max(d.id) as lastId, max(d.updatedAt) as updatedAt "
+        + "from DocumentParent d group by d.status")
+    List<StatusVersion> findStatusVersions();
+
+    interface StatusVersion {
+
+        DocumentStatus getStatus();
+
+        long getDocuments();
+
+        Long getLastId();
+
+        OffsetDateTime getUpdatedAt();
+    }
 }
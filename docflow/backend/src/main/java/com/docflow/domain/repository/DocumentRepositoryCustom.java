@@ -3,10 +3,16 @@ package com.docflow.domain.repository;
 import com.docflow.domain.DocumentParent;
 import com.docflow.domain.DocumentStatus;
 import com.docflow.service.search.DocumentSearchFilter;
+import com.docflow.service.search.SearchProjectionLayout;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
 
 public interface DocumentRepositoryCustom {
 
@@ -16,4 +22,46 @@ public interface DocumentRepositoryCustom {
         List<DocumentSearchFilter> dynamicFilters,
         Pageable pageable
     );
+
+    // Every match of a search, read through a forward-only cursor and handed over in chunks. The persistence context
+    // is cleared after each chunk, so entities must not be used once the consumer returns.
+    void scrollDocuments(
+        String documentNumber,
+        DocumentStatus status,
+        List<DocumentSearchFilter> dynamicFilters,
+        Sort sort,
+        int chunkSize,
+        Consumer<List<DocumentParent>> chunkConsumer
+    );
+
+    // Same contract as searchDocuments, answered from document_search_projection; callers check layout.covers first.
+    Page<DocumentParent> searchProjection(
+        SearchProjectionLayout layout,
+        String documentNumber,
+        DocumentStatus status,
+        List<DocumentSearchFilter> dynamicFilters,
+        Pageable pageable
+    );
+
+    // Document counts per status with every filter except the status filter applied.
+    Map<DocumentStatus, Long> countByStatus(
+        String documentNumber,
+        List<DocumentSearchFilter> dynamicFilters
+    );
+
+    // Document counts per metadata key and option in a single scan; options match like an EQUALS filter.
+    Map<String, Map<String, Long>> countMetadataOptions(
+        Map<String, List<String>> optionsByKey,
+        String documentNumber,
+        DocumentStatus status,
+        List<DocumentSearchFilter> dynamicFilters
+    );
+
+    // The subset of the given documents that a search with these criteria would return.
+    Set<Long> findMatchingIds(
+        Collection<Long> documentIds,
+        String documentNumber,
+        DocumentStatus status,
+        List<DocumentSearchFilter> dynamicFilters
+    );
 }
@@ -2,54 +2,84 @@ package com.docflow.domain.repository;
 
 import com.docflow.domain.DocumentMetadata;
 import com.docflow.domain.DocumentParent;
+import com.docflow.domain.DocumentSearchProjection;
 import com.docflow.domain.DocumentStatus;
+import com.docflow.service.search.DocumentNumberQuery;
 import com.docflow.service.search.DocumentSearchFilter;
+import com.docflow.service.search.SearchProjectionLayout;
+import com.docflow.service.search.SearchValueType;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
 import jakarta.persistence.TypedQuery;
 import jakarta.persistence.criteria.*;
+import org.hibernate.ScrollMode;
+import org.hibernate.ScrollableResults;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Repository;
 
-import java.time.OffsetDateTime;
-import java.time.format.DateTimeParseException;
-import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
 
 @Repository
 public class DocumentRepositoryImpl implements DocumentRepositoryCustom {
 
+    // Filters are applied in a fixed order so the same filter combination always yields the same SQL text.
+    private static final Comparator<DocumentSearchFilter> PREDICATE_ORDER = Comparator
+        .comparing(DocumentSearchFilter::getSource)
+        .thenComparing(DocumentSearchFilter::getKey)
+        .thenComparing(DocumentSearchFilter::getOperation);
+
     @PersistenceContext
     private EntityManager entityManager;
 
+    private final SearchShapeMetrics shapeMetrics;
+
+    public DocumentRepositoryImpl(ObjectProvider<MeterRegistry> meterRegistry) {
+        this.shapeMetrics = new SearchShapeMetrics(meterRegistry.getIfAvailable());
+    }
+
     @Override
     public Page<DocumentParent> searchDocuments(String documentNumber,
                                                 DocumentStatus status,
                                                 List<DocumentSearchFilter> dynamicFilters,
                                                 Pageable pageable) {
+        List<DocumentSearchFilter> orderedFilters = orderFilters(dynamicFilters);
         CriteriaBuilder cb = entityManager.getCriteriaBuilder();
         CriteriaQuery<DocumentParent> query = cb.createQuery(DocumentParent.class);
         Root<DocumentParent> root = query.from(DocumentParent.class);
         query.select(root).distinct(true);
 
-        List<Predicate> predicates = buildPredicates(cb, query, root, documentNumber, status, dynamicFilters);
+        SearchQueryParameters parameters = new SearchQueryParameters(cb);
+        List<Predicate> predicates = buildPredicates(cb, query, root, parameters, documentNumber, status, orderedFilters);
         if (!predicates.isEmpty()) {
             query.where(predicates.toArray(Predicate[]::new));
         }
         applySorting(cb, query, root, pageable.getSort());
 
-        TypedQuery<DocumentParent> typedQuery = entityManager.createQuery(query);
+        TypedQuery<DocumentParent> typedQuery = parameters.applyTo(entityManager.createQuery(query));
         typedQuery.setFirstResult((int) pageable.getOffset());
         typedQuery.setMaxResults(pageable.getPageSize());
         List<DocumentParent> content = typedQuery.getResultList();
+        shapeMetrics.record(shapeOf(documentNumber, status, orderedFilters, pageable.getSort()));
 
-        long total = count(documentNumber, status, dynamicFilters);
+        long total = count(documentNumber, status, orderedFilters);
         return new PageImpl<>(content, pageable, total);
     }
 
@@ -59,45 +89,339 @@ public class DocumentRepositoryImpl implements DocumentRepositoryCustom {
         Root<DocumentParent> root = countQuery.from(DocumentParent.class);
         countQuery.select(cb.countDistinct(root));
 
-        List<Predicate> predicates = buildPredicates(cb, countQuery, root, documentNumber, status, dynamicFilters);
+        SearchQueryParameters parameters = new SearchQueryParameters(cb);
+        List<Predicate> predicates = buildPredicates(cb, countQuery, root, parameters, documentNumber, status, dynamicFilters);
         if (!predicates.isEmpty()) {
             countQuery.where(predicates.toArray(Predicate[]::new));
         }
-        return entityManager.createQuery(countQuery).getSingleResult();
+        return parameters.applyTo(entityManager.createQuery(countQuery)).getSingleResult();
+    }
+
+    @Override
+    public void scrollDocuments(String documentNumber,
+                                DocumentStatus status,
+                                List<DocumentSearchFilter> dynamicFilters,
+                                Sort sort,
+                                int chunkSize,
+                                Consumer<List<DocumentParent>> chunkConsumer) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<DocumentParent> query = cb.createQuery(DocumentParent.class);
+        Root<DocumentParent> root = query.from(DocumentParent.class);
+        query.select(root);
+
+        SearchQueryParameters parameters = new SearchQueryParameters(cb);
+        List<Predicate> predicates = buildPredicates(cb, query, root, parameters, documentNumber, status,
+            orderFilters(dynamicFilters));
+        if (!predicates.isEmpty()) {
+            query.where(predicates.toArray(Predicate[]::new));
+        }
+        applySorting(cb, query, root, sort);
+
+        @SuppressWarnings("unchecked")
+        org.hibernate.query.Query<DocumentParent> hibernateQuery = parameters.applyTo(entityManager.createQuery(query))
+            .unwrap(org.hibernate.query.Query.class);
+        hibernateQuery.setFetchSize(chunkSize);
+        hibernateQuery.setReadOnly(true);
+
+        try (ScrollableResults<DocumentParent> results = hibernateQuery.scroll(ScrollMode.FORWARD_ONLY)) {
+            List<DocumentParent> chunk = new ArrayList<>(chunkSize);
+            while (results.next()) {
+                chunk.add(results.get());
+                if (chunk.size() == chunkSize) {
+                    chunkConsumer.accept(chunk);
+                    entityManager.clear();
+                    chunk = new ArrayList<>(chunkSize);
+                }
+            }
+            if (!chunk.isEmpty()) {
+                chunkConsumer.accept(chunk);
+                entityManager.clear();
+            }
+        }
+    }
+
+    @Override
+    public Page<DocumentParent> searchProjection(SearchProjectionLayout layout,
+                                                 String documentNumber,
+                                                 DocumentStatus status,
+                                                 List<DocumentSearchFilter> dynamicFilters,
+                                                 Pageable pageable) {
+        List<DocumentSearchFilter> orderedFilters = orderFilters(dynamicFilters);
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<DocumentSearchProjection> root = query.from(DocumentSearchProjection.class);
+        query.select(root.get("id"));
+
+        SearchQueryParameters parameters = new SearchQueryParameters(cb);
+        List<Predicate> predicates = buildProjectionPredicates(cb, root, parameters, layout, documentNumber, status,
+            orderedFilters);
+        if (!predicates.isEmpty()) {
+            query.where(predicates.toArray(Predicate[]::new));
+        }
+        applySorting(cb, query, root, pageable.getSort());
+
+        TypedQuery<Long> typedQuery = parameters.applyTo(entityManager.createQuery(query));
+        typedQuery.setFirstResult((int) pageable.getOffset());
+        typedQuery.setMaxResults(pageable.getPageSize());
+        List<Long> ids = typedQuery.getResultList();
+        shapeMetrics.record("projection|" + shapeOf(documentNumber, status, orderedFilters, pageable.getSort()));
+
+        CriteriaQuery<Long> countQuery = cb.createQuery(Long.class);
+        Root<DocumentSearchProjection> countRoot = countQuery.from(DocumentSearchProjection.class);
+        countQuery.select(cb.count(countRoot));
+        SearchQueryParameters countParameters = new SearchQueryParameters(cb);
+        List<Predicate> countPredicates = buildProjectionPredicates(cb, countRoot, countParameters, layout,
+            documentNumber, status, orderedFilters);
+        if (!countPredicates.isEmpty()) {
+            countQuery.where(countPredicates.toArray(Predicate[]::new));
+        }
+        long total = countParameters.applyTo(entityManager.createQuery(countQuery)).getSingleResult();
+
+        return new PageImpl<>(loadInOrder(ids), pageable, total);
+    }
+
+    // Page sized primary key lookup, returned in the order the projection query produced.
+    private List<DocumentParent> loadInOrder(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, DocumentParent> byId = new HashMap<>();
+        entityManager.createQuery("select d from DocumentParent d where d.id in :ids", DocumentParent.class)
+            .setParameter("ids", ids)
+            .getResultList()
+            .forEach(document -> byId.put(document.getId(), document));
+        List<DocumentParent> documents = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            DocumentParent document = byId.get(id);
+            if (document != null) {
+                documents.add(document);
+            }
+        }
+        return documents;
+    }
+
+    private List<Predicate> buildProjectionPredicates(CriteriaBuilder cb,
+                                                      Root<DocumentSearchProjection> root,
+                                                      SearchQueryParameters parameters,
+                                                      SearchProjectionLayout layout,
+                                                      String documentNumber,
+                                                      DocumentStatus status,
+                                                      List<DocumentSearchFilter> dynamicFilters) {
+        List<Predicate> predicates = new ArrayList<>();
+
+        documentNumberPredicate(cb, root.get("documentNumber"), parameters, documentNumber).ifPresent(predicates::add);
+        if (status != null) {
+            predicates.add(cb.equal(root.get("status"), parameters.bind(DocumentStatus.class, status)));
+        }
+
+        for (DocumentSearchFilter filter : dynamicFilters) {
+            switch (filter.getSource()) {
+                case DOCUMENT_PARENT -> buildDocumentPredicate(cb, root, parameters, filter).ifPresent(predicates::add);
+                case META_DATA -> buildSlotPredicate(cb, root, parameters, layout, filter).ifPresent(predicates::add);
+                default -> { }
+            }
+        }
+        return predicates;
+    }
+
+    // Slots hold lower-cased values without JSON quotes, so no function is applied to the indexed column.
+    private Optional<Predicate> buildSlotPredicate(CriteriaBuilder cb,
+                                                   Root<DocumentSearchProjection> root,
+                                                   SearchQueryParameters parameters,
+                                                   SearchProjectionLayout layout,
+                                                   DocumentSearchFilter filter) {
+        int slot = layout.slotOf(filter.getKey());
+        String rawValue = filter.getRawValue();
+        if (slot == 0 || rawValue == null || rawValue.isBlank()) {
+            return Optional.empty();
+        }
+        Path<String> slotPath = root.get(DocumentSearchProjection.slotAttribute(slot));
+        String loweredValue = rawValue.toLowerCase(Locale.ROOT);
+        return Optional.of(switch (filter.getOperation()) {
+            case LIKE -> cb.like(slotPath, parameters.bind(String.class,
+                loweredValue.contains("%") ? loweredValue : "%" + loweredValue + "%"));
+            case GREATER_THAN -> cb.greaterThan(slotPath, parameters.bind(String.class, loweredValue));
+            case LESS_THAN -> cb.lessThan(slotPath, parameters.bind(String.class, loweredValue));
+            case EQUALS -> cb.equal(slotPath, parameters.bind(String.class, loweredValue));
+        });
+    }
+
+    @Override
+    public Map<DocumentStatus, Long> countByStatus(String documentNumber, List<DocumentSearchFilter> dynamicFilters) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<DocumentParent> root = query.from(DocumentParent.class);
+        Path<DocumentStatus> statusPath = root.get("status");
+        query.multiselect(statusPath, cb.count(root)).groupBy(statusPath);
+
+        SearchQueryParameters parameters = new SearchQueryParameters(cb);
+        List<Predicate> predicates = buildPredicates(cb, query, root, parameters, documentNumber, null,
+            orderFilters(dynamicFilters));
+        if (!predicates.isEmpty()) {
+            query.where(predicates.toArray(Predicate[]::new));
+        }
+
+        Map<DocumentStatus, Long> counts = new EnumMap<>(DocumentStatus.class);
+        for (Tuple row : parameters.applyTo(entityManager.createQuery(query)).getResultList()) {
+            DocumentStatus rowStatus = row.get(0, DocumentStatus.class);
+            if (rowStatus != null) {
+                counts.put(rowStatus, row.get(1, Long.class));
+            }
+        }
+        return counts;
+    }
+
+    @Override
+    public Map<String, Map<String, Long>> countMetadataOptions(Map<String, List<String>> optionsByKey,
+                                                               String documentNumber,
+                                                               DocumentStatus status,
+                                                               List<DocumentSearchFilter> dynamicFilters) {
+        Map<String, Map<String, Long>> counts = new LinkedHashMap<>();
+        if (optionsByKey == null || optionsByKey.isEmpty()) {
+            return counts;
+        }
+
+        // field_value is a CLOB and cannot be grouped, so each option becomes a conditional count over one scan.
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<DocumentMetadata> metadataRoot = query.from(DocumentMetadata.class);
+        Join<DocumentMetadata, DocumentParent> document = metadataRoot.join("document");
+        Path<String> keyPath = metadataRoot.get("fieldKey");
+        Expression<String> valueExpression = cb.lower(metadataRoot.<String>get("fieldValue").as(String.class));
+
+        SearchQueryParameters parameters = new SearchQueryParameters(cb);
+        List<Selection<?>> selections = new ArrayList<>();
+        List<Expression<String>> keys = new ArrayList<>();
+        for (Map.Entry<String, List<String>> entry : optionsByKey.entrySet()) {
+            Expression<String> key = parameters.bind(String.class, entry.getKey());
+            keys.add(key);
+            for (String option : entry.getValue()) {
+                String lowered = option.toLowerCase(Locale.ROOT);
+                Predicate matches = cb.and(
+                    cb.equal(keyPath, key),
+                    cb.or(
+                        cb.equal(valueExpression, parameters.bind(String.class, lowered)),
+                        cb.equal(valueExpression, parameters.bind(String.class, "\"" + lowered + "\""))));
+                selections.add(cb.countDistinct(cb.<Long>selectCase().when(matches, document.<Long>get("id"))));
+            }
+        }
+        query.multiselect(selections);
+
+        List<Predicate> predicates = buildPredicates(cb, query, document, parameters, documentNumber, status,
+            orderFilters(dynamicFilters));
+        predicates.add(keyPath.in(keys));
+        query.where(predicates.toArray(Predicate[]::new));
+
+        Tuple row = parameters.applyTo(entityManager.createQuery(query)).getSingleResult();
+        int column = 0;
+        for (Map.Entry<String, List<String>> entry : optionsByKey.entrySet()) {
+            Map<String, Long> optionCounts = new LinkedHashMap<>();
+            for (String option : entry.getValue()) {
+                Long count = row.get(column++, Long.class);
+                optionCounts.put(option, count != null ? count : 0L);
+            }
+            counts.put(entry.getKey(), optionCounts);
+        }
+        return counts;
+    }
+
+    // Callers keep documentIds within Oracle's 1000 element IN-list limit.
+    @Override
+    public Set<Long> findMatchingIds(Collection<Long> documentIds,
+                                     String documentNumber,
+                                     DocumentStatus status,
+                                     List<DocumentSearchFilter> dynamicFilters) {
+        if (documentIds == null || documentIds.isEmpty()) {
+            return Set.of();
+        }
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<DocumentParent> root = query.from(DocumentParent.class);
+        query.select(root.get("id")).distinct(true);
+
+        SearchQueryParameters parameters = new SearchQueryParameters(cb);
+        List<Predicate> predicates = buildPredicates(cb, query, root, parameters, documentNumber, status,
+            orderFilters(dynamicFilters));
+        predicates.add(root.get("id").in(documentIds));
+        query.where(predicates.toArray(Predicate[]::new));
+        return new HashSet<>(parameters.applyTo(entityManager.createQuery(query)).getResultList());
+    }
+
+    private List<DocumentSearchFilter> orderFilters(List<DocumentSearchFilter> dynamicFilters) {
+        if (dynamicFilters == null || dynamicFilters.isEmpty()) {
+            return List.of();
+        }
+        List<DocumentSearchFilter> ordered = new ArrayList<>(dynamicFilters.size());
+        for (DocumentSearchFilter filter : dynamicFilters) {
+            if (filter != null && filter.getRawValue() != null && filter.getSource() != null) {
+                ordered.add(filter);
+            }
+        }
+        ordered.sort(PREDICATE_ORDER);
+        return ordered;
+    }
+
+    // Everything that changes the generated SQL text, and nothing that is bound as a value.
+    private String shapeOf(String documentNumber,
+                           DocumentStatus status,
+                           List<DocumentSearchFilter> filters,
+                           Sort sort) {
+        StringBuilder shape = new StringBuilder();
+        DocumentNumberQuery numberQuery = DocumentNumberQuery.parse(documentNumber);
+        shape.append(numberQuery != null ? numberQuery.mode().name().charAt(0) : '-');
+        shape.append(status != null ? 'S' : '-');
+        for (DocumentSearchFilter filter : filters) {
+            shape.append('|').append(filter.getSource()).append(':').append(filter.getKey())
+                .append(':').append(filter.getOperation());
+        }
+        shape.append('|').append(sort);
+        return shape.toString();
     }
 
     private List<Predicate> buildPredicates(CriteriaBuilder cb,
                                             CriteriaQuery<?> query,
-                                            Root<DocumentParent> root,
+                                            From<?, DocumentParent> root,
+                                            SearchQueryParameters parameters,
                                             String documentNumber,
                                             DocumentStatus status,
                                             List<DocumentSearchFilter> dynamicFilters) {
         List<Predicate> predicates = new ArrayList<>();
 
-        if (documentNumber != null && !documentNumber.isBlank()) {
-            String likePattern = "%" + documentNumber.toLowerCase(Locale.ROOT) + "%";
-            predicates.add(cb.like(cb.lower(root.get("documentNumber")), likePattern));
-        }
+        documentNumberPredicate(cb, root.get("documentNumber"), parameters, documentNumber).ifPresent(predicates::add);
         if (status != null) {
-            predicates.add(cb.equal(root.get("status"), status));
+            predicates.add(cb.equal(root.get("status"), parameters.bind(DocumentStatus.class, status)));
         }
 
-        if (dynamicFilters != null) {
-            for (DocumentSearchFilter filter : dynamicFilters) {
-                if (filter == null || filter.getRawValue() == null) continue;
-                switch (filter.getSource()) {
-                    case DOCUMENT_PARENT -> buildDocumentPredicate(cb, root, filter).ifPresent(predicates::add);
-                    case META_DATA -> buildMetadataPredicate(cb, query, root, filter).ifPresent(predicates::add);
-                    default -> { }
-                }
+        for (DocumentSearchFilter filter : dynamicFilters) {
+            switch (filter.getSource()) {
+                case DOCUMENT_PARENT -> buildDocumentPredicate(cb, root, parameters, filter).ifPresent(predicates::add);
+                case META_DATA -> buildMetadataPredicate(cb, query, root, parameters, filter).ifPresent(predicates::add);
+                default -> { }
             }
         }
         return predicates;
     }
 
+    // Exact numbers use the unique index on document_number and prefixes the LOWER(document_number) index.
+    private Optional<Predicate> documentNumberPredicate(CriteriaBuilder cb,
+                                                        Path<String> path,
+                                                        SearchQueryParameters parameters,
+                                                        String documentNumber) {
+        DocumentNumberQuery query = DocumentNumberQuery.parse(documentNumber);
+        if (query == null) {
+            return Optional.empty();
+        }
+        return Optional.of(switch (query.mode()) {
+            case EXACT -> cb.equal(path, parameters.bind(String.class, query.value()));
+            case PREFIX, CONTAINS -> cb.like(cb.lower(path), parameters.bind(String.class, query.likePattern()), '\\');
+        });
+    }
+
     private Optional<Predicate> buildDocumentPredicate(CriteriaBuilder cb,
-                                                       Root<DocumentParent> root,
+                                                       From<?, ?> root,
+                                                       SearchQueryParameters parameters,
                                                        DocumentSearchFilter filter) {
+        // Compiled filters carry a validated attribute and a pre-converted value; others are resolved here.
         Path<?> path;
         try {
             path = root.get(filter.getKey());
@@ -105,70 +429,78 @@ public class DocumentRepositoryImpl implements DocumentRepositoryCustom {
             return Optional.empty();
         }
 
-        Class<?> javaType = path.getJavaType();
         String rawValue = filter.getRawValue();
         if (rawValue == null || rawValue.isBlank()) return Optional.empty();
+        SearchValueType valueType = filter.getValueType() != null
+            ? filter.getValueType()
+            : SearchValueType.of(path.getJavaType());
 
         return switch (filter.getOperation()) {
-            case LIKE -> buildLikePredicate(cb, path.as(String.class), rawValue);
-            case GREATER_THAN -> buildComparisonPredicate(cb, path, javaType, rawValue, true);
-            case LESS_THAN -> buildComparisonPredicate(cb, path, javaType, rawValue, false);
-            case EQUALS -> buildEqualsPredicate(cb, path, javaType, rawValue);
+            case LIKE -> buildLikePredicate(cb, parameters, path.as(String.class), rawValue);
+            case GREATER_THAN -> buildComparisonPredicate(cb, parameters, path, boundValue(filter, valueType, true), true);
+            case LESS_THAN -> buildComparisonPredicate(cb, parameters, path, boundValue(filter, valueType, true), false);
+            case EQUALS -> buildEqualsPredicate(cb, parameters, path, boundValue(filter, valueType, false));
         };
     }
 
+    private Object boundValue(DocumentSearchFilter filter, SearchValueType valueType, boolean comparison) {
+        return filter.getBoundValue() != null ? filter.getBoundValue() : valueType.convert(filter.getRawValue(), comparison);
+    }
+
+    @SuppressWarnings("unchecked")
     private Optional<Predicate> buildEqualsPredicate(CriteriaBuilder cb,
+                                                     SearchQueryParameters parameters,
                                                      Path<?> path,
-                                                     Class<?> javaType,
-                                                     String rawValue) {
-        Object converted = convertValue(rawValue, javaType, false);
+                                                     Object converted) {
         if (converted == null) return Optional.empty();
 
         if (converted instanceof String stringValue) {
             Expression<String> expression = cb.lower(path.as(String.class));
-            return Optional.of(cb.equal(expression, stringValue.toLowerCase(Locale.ROOT)));
+            return Optional.of(cb.equal(expression, parameters.bind(String.class, stringValue.toLowerCase(Locale.ROOT))));
         }
-        return Optional.of(cb.equal(path, converted));
+        return Optional.of(cb.equal(path, parameters.bind((Class<Object>) converted.getClass(), converted)));
     }
 
     private Optional<Predicate> buildLikePredicate(CriteriaBuilder cb,
+                                                   SearchQueryParameters parameters,
                                                    Expression<String> expression,
                                                    String rawValue) {
         String lowered = rawValue.toLowerCase(Locale.ROOT);
         String pattern = lowered.contains("%") ? lowered : "%" + lowered + "%";
-        return Optional.of(cb.like(cb.lower(expression), pattern));
+        return Optional.of(cb.like(cb.lower(expression), parameters.bind(String.class, pattern)));
     }
 
     // ✅ Option 3 implementation — Expression<Comparable> version
     @SuppressWarnings("unchecked")
     private Optional<Predicate> buildComparisonPredicate(CriteriaBuilder cb,
+                                                         SearchQueryParameters parameters,
                                                          Path<?> path,
-                                                         Class<?> javaType,
-                                                         String rawValue,
+                                                         Object converted,
                                                          boolean greaterThan) {
-        Object converted = convertValue(rawValue, javaType, true);
         if (!(converted instanceof Comparable<?> value)) return Optional.empty();
 
         Expression<Comparable> expr = (Expression<Comparable>) path;
+        Expression<Comparable> bound = parameters.bind((Class<Comparable>) value.getClass(), (Comparable) value);
 
         Predicate predicate = greaterThan
-            ? cb.greaterThan(expr, (Comparable) value)
-            : cb.lessThan(expr, (Comparable) value);
+            ? cb.greaterThan(expr, bound)
+            : cb.lessThan(expr, bound);
 
         return Optional.of(predicate);
     }
 
     private Optional<Predicate> buildMetadataPredicate(CriteriaBuilder cb,
                                                        CriteriaQuery<?> query,
-                                                       Root<DocumentParent> root,
+                                                       From<?, DocumentParent> root,
+                                                       SearchQueryParameters parameters,
                                                        DocumentSearchFilter filter) {
         Subquery<Long> subquery = query.subquery(Long.class);
         Root<DocumentMetadata> metadataRoot = subquery.from(DocumentMetadata.class);
         subquery.select(metadataRoot.get("document").get("id"));
 
         Predicate matchDocument = cb.equal(metadataRoot.get("document").get("id"), root.get("id"));
-        Predicate matchKey = cb.equal(metadataRoot.get("fieldKey"), filter.getKey());
-        Predicate valuePredicate = buildMetadataValuePredicate(cb, metadataRoot.get("fieldValue"), filter);
+        Predicate matchKey = cb.equal(metadataRoot.get("fieldKey"), parameters.bind(String.class, filter.getKey()));
+        Predicate valuePredicate = buildMetadataValuePredicate(cb, parameters, metadataRoot.get("fieldValue"), filter);
         if (valuePredicate == null) return Optional.empty();
 
         subquery.where(matchDocument, matchKey, valuePredicate);
@@ -176,6 +508,7 @@ public class DocumentRepositoryImpl implements DocumentRepositoryCustom {
     }
 
     private Predicate buildMetadataValuePredicate(CriteriaBuilder cb,
+                                                  SearchQueryParameters parameters,
                                                   Path<String> valuePath,
                                                   DocumentSearchFilter filter) {
         String rawValue = filter.getRawValue();
@@ -185,8 +518,6 @@ public class DocumentRepositoryImpl implements DocumentRepositoryCustom {
 
         String loweredValue = rawValue.toLowerCase(Locale.ROOT);
         Expression<String> lhs = cb.lower(valuePath.as(String.class));
-        Expression<String> unquotedLiteral = cb.literal(loweredValue);
-        Expression<String> quotedLiteral = cb.literal("\"" + loweredValue + "\"");
 
         return switch (filter.getOperation()) {
             case LIKE -> {
@@ -215,68 +546,24 @@ public class DocumentRepositoryImpl implements DocumentRepositoryCustom {
                     quotedPattern = quotedPattern + "%";
                 }
 
-                Predicate unquotedLike = cb.like(lhs, cb.literal(pattern));
-                Predicate quotedLike = cb.like(lhs, cb.literal(quotedPattern));
+                Predicate unquotedLike = cb.like(lhs, parameters.bind(String.class, pattern));
+                Predicate quotedLike = cb.like(lhs, parameters.bind(String.class, quotedPattern));
                 yield cb.or(unquotedLike, quotedLike);
             }
-            case GREATER_THAN -> cb.greaterThan(lhs, unquotedLiteral);
-            case LESS_THAN -> cb.lessThan(lhs, unquotedLiteral);
+            case GREATER_THAN -> cb.greaterThan(lhs, parameters.bind(String.class, loweredValue));
+            case LESS_THAN -> cb.lessThan(lhs, parameters.bind(String.class, loweredValue));
             case EQUALS -> {
-                Predicate unquotedEquals = cb.equal(lhs, unquotedLiteral);
-                Predicate quotedEquals = cb.equal(lhs, quotedLiteral);
+                Predicate unquotedEquals = cb.equal(lhs, parameters.bind(String.class, loweredValue));
+                Predicate quotedEquals = cb.equal(lhs, parameters.bind(String.class, "\"" + loweredValue + "\""));
                 yield cb.or(unquotedEquals, quotedEquals);
             }
         };
     }
 
 
-    private Object convertValue(String rawValue, Class<?> javaType, boolean truncateToStartOfDay) {
-        String trimmed = rawValue.trim();
-        if (trimmed.isEmpty()) return null;
-
-        if (OffsetDateTime.class.isAssignableFrom(javaType)) {
-            try {
-                OffsetDateTime parsed = OffsetDateTime.parse(trimmed);
-                return truncateToStartOfDay ? parsed.truncatedTo(ChronoUnit.SECONDS) : parsed;
-            } catch (DateTimeParseException ex) {
-                try {
-                    OffsetDateTime midnight = OffsetDateTime.parse(trimmed + "T00:00:00Z");
-                    return truncateToStartOfDay ? midnight.truncatedTo(ChronoUnit.SECONDS) : midnight;
-                } catch (DateTimeParseException ignored) {
-                    return null;
-                }
-            }
-        }
-        if (Enum.class.isAssignableFrom(javaType) && DocumentStatus.class.isAssignableFrom(javaType)) {
-            try {
-                return DocumentStatus.valueOf(trimmed.toUpperCase(Locale.ROOT));
-            } catch (IllegalArgumentException ex) {
-                return null;
-            }
-        }
-        if (Long.class.isAssignableFrom(javaType) || long.class.isAssignableFrom(javaType)) {
-            try {
-                return Long.parseLong(trimmed);
-            } catch (NumberFormatException ex) {
-                return null;
-            }
-        }
-        if (Integer.class.isAssignableFrom(javaType) || int.class.isAssignableFrom(javaType)) {
-            try {
-                return Integer.parseInt(trimmed);
-            } catch (NumberFormatException ex) {
-                return null;
-            }
-        }
-        if (Boolean.class.isAssignableFrom(javaType) || boolean.class.isAssignableFrom(javaType)) {
-            return Boolean.parseBoolean(trimmed);
-        }
-        return trimmed;
-    }
-
     private void applySorting(CriteriaBuilder cb,
-                              CriteriaQuery<DocumentParent> query,
-                              Root<DocumentParent> root,
+                              CriteriaQuery<?> query,
+                              From<?, ?> root,
                               Sort sort) {
         if (sort == null || sort.isUnsorted()) return;
 
@@ -0,0 +1,90 @@
+package com.docflow.domain.repository;
+
+import com.docflow.domain.DocumentSearchProjection;
+import com.docflow.service.search.SearchProjectionLayout;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// Writes document_search_projection with one set-based MERGE that pivots the slotted metadata keys into columns,
+// either for a single document or for all of them.
+@Repository
+public class DocumentSearchProjectionRepository {
+
+    // Values longer than the slot column are truncated and keep their quotes, so they only match LIKE filters.
+    private static final String SLOT_VALUE =
+        "LOWER(REGEXP_REPLACE(DBMS_LOB.SUBSTR(m.field_value, 1000, 1), '^\"(.*)\"$', '\\1'))";
+    private static final String DOCUMENT_COLUMNS =
+        "d.id, d.document_number, d.title, d.status, d.created_by, d.created_at, d.updated_by, d.updated_at";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public DocumentSearchProjectionRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    // Callers flush pending entity changes first; the MERGE reads document_parent and document_metadata directly.
+    public void refresh(SearchProjectionLayout layout, Long documentId) {
+        List<Object> parameters = new ArrayList<>();
+        String sql = mergeSql(layout, true, parameters);
+        parameters.add(documentId);
+        jdbcTemplate.update(sql, parameters.toArray());
+    }
+
+    public int rebuild(SearchProjectionLayout layout) {
+        List<Object> parameters = new ArrayList<>();
+        return jdbcTemplate.update(mergeSql(layout, false, parameters), parameters.toArray());
+    }
+
+    private String mergeSql(SearchProjectionLayout layout, boolean singleDocument, List<Object> parameters) {
+        List<String> slotKeys = layout.slotKeys();
+        StringBuilder source = new StringBuilder("SELECT ").append(DOCUMENT_COLUMNS);
+        List<String> joinedKeys = new ArrayList<>();
+        for (int slot = 1; slot <= DocumentSearchProjection.SLOT_COUNT; slot++) {
+            String key = slot <= slotKeys.size() ? slotKeys.get(slot - 1) : null;
+            if (key == null) {
+                source.append(", CAST(NULL AS VARCHAR2(1000 CHAR)) AS slot_").append(slot);
+            } else {
+                source.append(", MAX(CASE WHEN m.field_key = ? THEN ").append(SLOT_VALUE).append(" END) AS slot_")
+                    .append(slot);
+                parameters.add(key);
+                joinedKeys.add(key);
+            }
+        }
+        source.append(" FROM document_parent d");
+        if (!joinedKeys.isEmpty()) {
+            source.append(" LEFT JOIN document_metadata m ON m.document_id = d.id AND m.field_key IN (");
+            for (int index = 0; index < joinedKeys.size(); index++) {
+                source.append(index > 0 ? ", ?" : "?");
+            }
+            source.append(')');
+            parameters.addAll(joinedKeys);
+        }
+        if (singleDocument) {
+            source.append(" WHERE d.id = ?");
+        }
+        if (!joinedKeys.isEmpty()) {
+            source.append(" GROUP BY ").append(DOCUMENT_COLUMNS);
+        }
+
+        StringBuilder update = new StringBuilder();
+        StringBuilder insertColumns = new StringBuilder();
+        StringBuilder insertValues = new StringBuilder();
+        for (int slot = 1; slot <= DocumentSearchProjection.SLOT_COUNT; slot++) {
+            update.append(", p.slot_").append(slot).append(" = s.slot_").append(slot);
+            insertColumns.append(", slot_").append(slot);
+            insertValues.append(", s.slot_").append(slot);
+        }
+
+        return "MERGE INTO document_search_projection p USING (" + source + ") s ON (p.document_id = s.id) "
+            + "WHEN MATCHED THEN UPDATE SET p.document_number = s.document_number, p.title = s.title, "
+            + "p.status = s.status, p.created_by = s.created_by, p.created_at = s.created_at, "
+            + "p.updated_by = s.updated_by, p.updated_at = s.updated_at" + update + ", p.refreshed_at = SYSTIMESTAMP "
+            + "WHEN NOT MATCHED THEN INSERT (document_id, document_number, title, status, created_by, created_at, "
+            + "updated_by, updated_at" + insertColumns + ", refreshed_at) "
+            + "VALUES (s.id, s.document_number, s.title, s.status, s.created_by, s.created_at, "
+            + "s.updated_by, s.updated_at" + insertValues + ", SYSTIMESTAMP)";
+    }
+}
@@ -0,0 +1,32 @@
+package com.docflow.domain.repository;
+
+import jakarta.persistence.Parameter;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.ParameterExpression;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+// Collects criteria parameters so user values are bound instead of rendered into the SQL text.
+final class SearchQueryParameters {
+
+    private final CriteriaBuilder cb;
+    private final Map<ParameterExpression<?>, Object> values = new LinkedHashMap<>();
+
+    SearchQueryParameters(CriteriaBuilder cb) {
+        this.cb = cb;
+    }
+
+    <T> ParameterExpression<T> bind(Class<T> type, T value) {
+        ParameterExpression<T> parameter = cb.parameter(type);
+        values.put(parameter, value);
+        return parameter;
+    }
+
+    @SuppressWarnings("unchecked")
+    <Q extends TypedQuery<?>> Q applyTo(Q query) {
+        values.forEach((parameter, value) -> query.setParameter((Parameter<Object>) parameter, value));
+        return query;
+    }
+}
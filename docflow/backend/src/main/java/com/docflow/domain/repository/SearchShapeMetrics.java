@@ -0,0 +1,38 @@
+package com.docflow.domain.repository;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Tracks how many distinct search SQL shapes have been issued; with bound values this should stay small and flat.
+final class SearchShapeMetrics {
+
+    private static final int MAX_TRACKED_SHAPES = 10_000;
+
+    private final Set<String> shapes = ConcurrentHashMap.newKeySet();
+    private final Counter repeatedShapes;
+    private final Counter newShapes;
+
+    SearchShapeMetrics(MeterRegistry meterRegistry) {
+        this.repeatedShapes = meterRegistry != null
+            ? Counter.builder("docflow.search.queries").tag("shape", "repeat").register(meterRegistry)
+            : null;
+        this.newShapes = meterRegistry != null
+            ? Counter.builder("docflow.search.queries").tag("shape", "new").register(meterRegistry)
+            : null;
+        if (meterRegistry != null) {
+            Gauge.builder("docflow.search.shapes.distinct", shapes, Set::size).register(meterRegistry);
+        }
+    }
+
+    void record(String shape) {
+        boolean added = shapes.size() < MAX_TRACKED_SHAPES ? shapes.add(shape) : !shapes.contains(shape);
+        Counter counter = added ? newShapes : repeatedShapes;
+        if (counter != null) {
+            counter.increment();
+        }
+    }
+}
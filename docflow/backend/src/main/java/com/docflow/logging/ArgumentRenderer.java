@@ -0,0 +1,63 @@
+package com.docflow.logging;
+
+import java.lang.reflect.Array;
+import java.time.temporal.Temporal;
+import java.util.Collection;
+import java.util.Map;
+
+// Bounded, allocation-light rendering of method arguments and results for debug logs. Only scalars are printed;
+// collections, maps and arrays are summarised by size and anything else by type, so a metadata map or a sheet of
+// POI rows costs the same as an int.
+public final class ArgumentRenderer {
+
+    private final int maxLength;
+
+    public ArgumentRenderer(int maxLength) {
+        this.maxLength = Math.max(8, maxLength);
+    }
+
+    public String renderAll(Object[] values) {
+        if (values == null || values.length == 0) {
+            return "[]";
+        }
+        StringBuilder rendered = new StringBuilder("[");
+        for (int index = 0; index < values.length; index++) {
+            if (index > 0) {
+                rendered.append(", ");
+            }
+            if (rendered.length() >= maxLength) {
+                rendered.append("…+").append(values.length - index);
+                break;
+            }
+            appendValue(rendered, values[index]);
+        }
+        return rendered.append(']').toString();
+    }
+
+    public String render(Object value) {
+        StringBuilder rendered = new StringBuilder();
+        appendValue(rendered, value);
+        return rendered.toString();
+    }
+
+    private void appendValue(StringBuilder target, Object value) {
+        if (value == null) {
+            target.append("null");
+        } else if (value instanceof CharSequence text) {
+            int length = Math.min(text.length(), maxLength);
+            target.append('"').append(text, 0, length).append(length < text.length() ? "…\"" : "\"");
+        } else if (value instanceof Number || value instanceof Boolean || value instanceof Character
+            || value instanceof Enum<?> || value instanceof Temporal) {
+            target.append(value);
+        } else if (value instanceof Collection<?> collection) {
+            target.append(value.getClass().getSimpleName()).append("[size=").append(collection.size()).append(']');
+        } else if (value instanceof Map<?, ?> map) {
+            target.append(value.getClass().getSimpleName()).append("[size=").append(map.size()).append(']');
+        } else if (value.getClass().isArray()) {
+            target.append(value.getClass().getComponentType().getSimpleName())
+                .append("[length=").append(Array.getLength(value)).append(']');
+        } else {
+            target.append(value.getClass().getSimpleName());
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.docflow.logging;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.aopalliance.aop.Advice;
+import org.springframework.aop.Pointcut;
+import org.springframework.aop.support.AbstractPointcutAdvisor;
+import org.springframework.aop.support.StaticMethodMatcherPointcut;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.GenericFilterBean;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.List;
+
+// Applies InstrumentationInterceptor to public methods of beans that are annotated with @Instrumented or live under
+// one of docflow.instrumentation.packages. Matching is static, so unmatched beans are never proxied for it.
+@Component
+public class InstrumentationAdvisor extends AbstractPointcutAdvisor {
+
+    private final List<String> packagePrefixes;
+    private final InstrumentationInterceptor interceptor;
+    private final Pointcut pointcut = new InstrumentedPointcut();
+
+    // The registry is resolved lazily: advisors are created before other beans, and pulling the registry in here
+    // would create it before its binders and customizers are applied.
+    public InstrumentationAdvisor(ObjectProvider<MeterRegistry> meterRegistry,
+                                  @Value("${docflow.instrumentation.packages:}") List<String> packages,
+                                  @Value("${docflow.instrumentation.sample-rate:0.01}") double sampleRate,
+                                  @Value("${docflow.instrumentation.max-argument-length:200}") int maxArgumentLength) {
+        this.packagePrefixes = packages.stream()
+            .map(String::trim)
+            .filter(prefix -> !prefix.isEmpty())
+            .map(prefix -> prefix + ".")
+            .toList();
+        this.interceptor = new InstrumentationInterceptor(meterRegistry, sampleRate, maxArgumentLength);
+    }
+
+    @Override
+    public Pointcut getPointcut() {
+        return pointcut;
+    }
+
+    @Override
+    public Advice getAdvice() {
+        return interceptor;
+    }
+
+    private final class InstrumentedPointcut extends StaticMethodMatcherPointcut {
+
+        @Override
+        public boolean matches(Method method, Class<?> targetClass) {
+            if (!Modifier.isPublic(method.getModifiers()) || method.getDeclaringClass() == Object.class
+                || GenericFilterBean.class.isAssignableFrom(targetClass)) {
+                return false;
+            }
+            if (AnnotatedElementUtils.hasAnnotation(method, Instrumented.class)
+                || AnnotatedElementUtils.hasAnnotation(targetClass, Instrumented.class)) {
+                return true;
+            }
+            String className = targetClass.getName();
+            for (String prefix : packagePrefixes) {
+                if (className.startsWith(prefix)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package com.docflow.logging;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.beans.factory.ObjectProvider;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+// Times every instrumented call into docflow.method.duration and, when the target's logger is at DEBUG, logs a
+// sample of calls with bounded argument rendering. Per-method timers and loggers are resolved once, so the steady
+// state cost is two clock reads, a map lookup and a timer update.
+public class InstrumentationInterceptor implements MethodInterceptor {
+
+    static final String TIMER_NAME = "docflow.method.duration";
+
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+    private final double sampleRate;
+    private final ArgumentRenderer renderer;
+    private final Map<Method, MethodMeters> meters = new ConcurrentHashMap<>();
+
+    public InstrumentationInterceptor(ObjectProvider<MeterRegistry> meterRegistry, double sampleRate, int maxArgumentLength) {
+        this.meterRegistry = meterRegistry;
+        this.sampleRate = Math.max(0, Math.min(1, sampleRate));
+        this.renderer = new ArgumentRenderer(maxArgumentLength);
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        Method method = invocation.getMethod();
+        MethodMeters methodMeters = meters.computeIfAbsent(method, key -> createMeters(invocation));
+        boolean logged = methodMeters.logger().isDebugEnabled() && sampled();
+        if (logged) {
+            methodMeters.logger().debug("Entering {} with args {}", methodMeters.name(),
+                renderer.renderAll(invocation.getArguments()));
+        }
+
+        long start = System.nanoTime();
+        try {
+            Object result = invocation.proceed();
+            long elapsed = System.nanoTime() - start;
+            methodMeters.success().record(elapsed, TimeUnit.NANOSECONDS);
+            if (logged) {
+                methodMeters.logger().debug("Exiting {} -> {} ({} µs)", methodMeters.name(), renderer.render(result),
+                    elapsed / 1_000);
+            }
+            return result;
+        } catch (Throwable ex) {
+            methodMeters.error().record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            if (logged) {
+                methodMeters.logger().debug("Exception in {}: {}", methodMeters.name(), ex.toString());
+            }
+            throw ex;
+        }
+    }
+
+    private boolean sampled() {
+        return sampleRate >= 1 || ThreadLocalRandom.current().nextDouble() < sampleRate;
+    }
+
+    private MethodMeters createMeters(MethodInvocation invocation) {
+        Class<?> targetClass = invocation.getThis() != null
+            ? AopUtils.getTargetClass(invocation.getThis())
+            : invocation.getMethod().getDeclaringClass();
+        String className = targetClass.getSimpleName();
+        String methodName = invocation.getMethod().getName();
+        MeterRegistry registry = meterRegistry.getIfAvailable(() -> Metrics.globalRegistry);
+        return new MethodMeters(
+            className + "." + methodName,
+            LoggerFactory.getLogger(targetClass),
+            timer(registry, className, methodName, "success"),
+            timer(registry, className, methodName, "error"));
+    }
+
+    private static Timer timer(MeterRegistry registry, String className, String methodName, String outcome) {
+        return Timer.builder(TIMER_NAME)
+            .description("Duration of instrumented service calls")
+            .tag("class", className)
+            .tag("method", methodName)
+            .tag("outcome", outcome)
+            .publishPercentileHistogram()
+            .register(registry);
+    }
+
+    private record MethodMeters(String name, Logger logger, Timer success, Timer error) {
+    }
+}
@@ -0,0 +1,15 @@
+package com.docflow.logging;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+// Opts a bean class or a single method into timing and sampled debug logging; see InstrumentationAdvisor.
+// Whole packages can be opted in with docflow.instrumentation.packages instead.
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.TYPE, ElementType.METHOD})
+public @interface Instrumented {
+}
@@ -0,0 +1,70 @@
+package com.docflow.persistence;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.Map;
+
+// Counts the Hibernate statements of each request into docflow.sql.statements per endpoint, and warns when one
+// statement shape repeats often enough to look like an N+1. Work continued on other threads after the handler
+// returns (streamed exports, change streams) is not attributed to the request.
+@Component
+public class StatementCountingFilter extends OncePerRequestFilter {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(StatementCountingFilter.class);
+
+    private final MeterRegistry meterRegistry;
+    private final int repeatThreshold;
+
+    public StatementCountingFilter(MeterRegistry meterRegistry,
+                                   @Value("${docflow.sql.n-plus-one-threshold:10}") int repeatThreshold) {
+        this.meterRegistry = meterRegistry;
+        this.repeatThreshold = repeatThreshold;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        try (StatementStatistics.Recording recording = StatementStatistics.begin()) {
+            filterChain.doFilter(request, response);
+            report(request, recording);
+        }
+    }
+
+    private void report(HttpServletRequest request, StatementStatistics.Recording recording) {
+        String endpoint = endpointOf(request);
+        DistributionSummary.builder("docflow.sql.statements")
+            .description("Hibernate statements per HTTP request")
+            .tag("method", request.getMethod())
+            .tag("uri", endpoint)
+            .publishPercentileHistogram()
+            .register(meterRegistry)
+            .record(recording.total());
+
+        Map<String, Integer> repeated = recording.repeatedShapes(repeatThreshold);
+        if (!repeated.isEmpty()) {
+            meterRegistry.counter("docflow.sql.n_plus_one", "method", request.getMethod(), "uri", endpoint)
+                .increment();
+            repeated.forEach((shape, count) -> LOGGER.warn(
+                "Possible N+1 in {} {}: {} of {} statements were {}",
+                request.getMethod(), endpoint, count, recording.total(), shape));
+        }
+    }
+
+    // The matched handler pattern keeps the tag cardinality bounded; unmatched requests are grouped together.
+    private static String endpointOf(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return pattern != null ? pattern.toString() : "UNKNOWN";
+    }
+}
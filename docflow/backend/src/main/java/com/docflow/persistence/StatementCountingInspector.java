@@ -0,0 +1,13 @@
+package com.docflow.persistence;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+// Observes every statement Hibernate prepares and returns it unchanged. JdbcTemplate statements bypass it.
+public class StatementCountingInspector implements StatementInspector {
+
+    @Override
+    public String inspect(String sql) {
+        StatementStatistics.record(sql);
+        return sql;
+    }
+}
@@ -0,0 +1,92 @@
+package com.docflow.persistence;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+// Per-thread counts of the SQL statements Hibernate prepares, grouped by statement shape: the SQL text with its bind
+// placeholders, IN-lists collapsed so that batches of different sizes share a shape. Recordings nest, so a test
+// budget can run inside a request recording and both see every statement.
+public final class StatementStatistics {
+
+    private static final ThreadLocal<Recording> CURRENT = new ThreadLocal<>();
+    private static final Pattern IN_LIST = Pattern.compile("\\(\\s*\\?(\\s*,\\s*\\?)+\\s*\\)");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private StatementStatistics() {
+    }
+
+    public static Recording begin() {
+        Recording recording = new Recording(CURRENT.get());
+        CURRENT.set(recording);
+        return recording;
+    }
+
+    static void record(String sql) {
+        Recording recording = CURRENT.get();
+        if (recording == null) {
+            return;
+        }
+        String shape = shapeOf(sql);
+        for (Recording target = recording; target != null; target = target.parent) {
+            target.add(shape);
+        }
+    }
+
+    static String shapeOf(String sql) {
+        String collapsed = WHITESPACE.matcher(sql.trim()).replaceAll(" ");
+        return IN_LIST.matcher(collapsed).replaceAll("(?, …)");
+    }
+
+    public static final class Recording implements AutoCloseable {
+
+        private final Recording parent;
+        private final Map<String, Integer> countsByShape = new HashMap<>();
+        private int total;
+        private boolean closed;
+
+        private Recording(Recording parent) {
+            this.parent = parent;
+        }
+
+        private void add(String shape) {
+            if (!closed) {
+                total++;
+                countsByShape.merge(shape, 1, Integer::sum);
+            }
+        }
+
+        public int total() {
+            return total;
+        }
+
+        public Map<String, Integer> countsByShape() {
+            return Collections.unmodifiableMap(countsByShape);
+        }
+
+        // Shapes executed at least threshold times: the signature of a lazy load or save inside a loop.
+        public Map<String, Integer> repeatedShapes(int threshold) {
+            Map<String, Integer> repeated = new HashMap<>();
+            countsByShape.forEach((shape, count) -> {
+                if (count >= threshold) {
+                    repeated.put(shape, count);
+                }
+            });
+            return repeated;
+        }
+
+        @Override
+        public void close() {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            if (parent != null) {
+                CURRENT.set(parent);
+            } else {
+                CURRENT.remove();
+            }
+        }
+    }
+}
@@ -2,8 +2,6 @@ package com.docflow.security;
 
 import com.docflow.context.RequestUser;
 import com.docflow.context.RequestUserContext;
-import com.docflow.domain.UserRole;
-import com.docflow.domain.repository.UserRoleRepository;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -18,7 +16,6 @@ import org.springframework.web.filter.OncePerRequestFilter;
 import java.io.IOException;
 import java.util.Arrays;
 import java.util.Set;
-import java.util.stream.Collectors;
 
 @Component
 public class UserContextFilter extends OncePerRequestFilter {
@@ -27,16 +24,16 @@ public class UserContextFilter extends OncePerRequestFilter {
     private static final String USER_HEADER = "X-USER-ID";
 
     private final RequestUserContext requestUserContext;
-    private final UserRoleRepository userRoleRepository;
+    private final UserRoleCache userRoleCache;
     private final boolean devProfileActive;
 
     public UserContextFilter(
             RequestUserContext requestUserContext,
-            UserRoleRepository userRoleRepository,
+            UserRoleCache userRoleCache,
             Environment environment
     ) {
         this.requestUserContext = requestUserContext;
-        this.userRoleRepository = userRoleRepository;
+        this.userRoleCache = userRoleCache;
         this.devProfileActive = Arrays.asList(environment.getActiveProfiles()).contains("dev");
     }
 
@@ -67,20 +64,15 @@ public class UserContextFilter extends OncePerRequestFilter {
             return;
         }
 
-        Set<String> roles = userRoleRepository.findByUserId(userId).stream()
-                .map(UserRole::getRoleName)
-                .collect(Collectors.toUnmodifiableSet());
+        Set<String> roles = userRoleCache.rolesOf(userId);
 
         if (roles.isEmpty()) {
             response.sendError(HttpStatus.UNAUTHORIZED.value(), "User has no assigned roles");
             return;
         }
 
-        try {
-            requestUserContext.setCurrentUser(new RequestUser(userId, roles));
+        try (RequestUserContext.Scope ignored = requestUserContext.open(new RequestUser(userId, roles))) {
             filterChain.doFilter(request, response);
-        } finally {
-            requestUserContext.clear();
         }
     }
 }
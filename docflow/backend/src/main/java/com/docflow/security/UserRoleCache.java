@@ -0,0 +1,87 @@
+package com.docflow.security;
+
+import com.docflow.domain.UserRole;
+import com.docflow.domain.repository.UserRoleRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+// Roles per user id for UserContextFilter, which would otherwise query user_roles on every request. Unknown users
+// are cached as an empty set for a shorter time so a flood of bad headers cannot reach the database either.
+@Component
+public class UserRoleCache {
+
+    private final UserRoleRepository userRoleRepository;
+    private final Cache<String, Set<String>> cache;
+
+    public UserRoleCache(UserRoleRepository userRoleRepository,
+                         MeterRegistry meterRegistry,
+                         @Value("${docflow.security.role-cache.ttl:5m}") Duration ttl,
+                         @Value("${docflow.security.role-cache.negative-ttl:30s}") Duration negativeTtl,
+                         @Value("${docflow.security.role-cache.size:10000}") long size) {
+        this.userRoleRepository = userRoleRepository;
+        this.cache = Caffeine.newBuilder()
+            .maximumSize(size)
+            .expireAfter(new RoleExpiry(ttl.toNanos(), negativeTtl.toNanos()))
+            .recordStats()
+            .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "userRoles");
+    }
+
+    public Set<String> rolesOf(String userId) {
+        return cache.get(userId, this::load);
+    }
+
+    // Called for writes to user_roles made through JPA; changes made directly in the database need the admin evict
+    // endpoint or wait out the TTL.
+    public void evict(String userId) {
+        cache.invalidate(userId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            // A request may reload the old roles before the write commits, so evict again once it has.
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    cache.invalidate(userId);
+                }
+            });
+        }
+    }
+
+    public void evictAll() {
+        cache.invalidateAll();
+    }
+
+    private Set<String> load(String userId) {
+        return userRoleRepository.findByUserId(userId).stream()
+            .map(UserRole::getRoleName)
+            .collect(Collectors.toUnmodifiableSet());
+    }
+
+    private record RoleExpiry(long ttlNanos, long negativeTtlNanos) implements Expiry<String, Set<String>> {
+
+        @Override
+        public long expireAfterCreate(String userId, Set<String> roles, long currentTime) {
+            return roles.isEmpty() ? negativeTtlNanos : ttlNanos;
+        }
+
+        @Override
+        public long expireAfterUpdate(String userId, Set<String> roles, long currentTime, long currentDuration) {
+            return expireAfterCreate(userId, roles, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String userId, Set<String> roles, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
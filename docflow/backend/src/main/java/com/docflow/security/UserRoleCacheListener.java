@@ -0,0 +1,27 @@
+package com.docflow.security;
+
+import com.docflow.domain.UserRole;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+// JPA entity listener on UserRole; Hibernate resolves it from the Spring context, so it can be injected. The cache is
+// looked up lazily: it depends on a repository, which needs the EntityManagerFactory that is building this listener.
+@Component
+public class UserRoleCacheListener {
+
+    private final ObjectProvider<UserRoleCache> userRoleCache;
+
+    public UserRoleCacheListener(ObjectProvider<UserRoleCache> userRoleCache) {
+        this.userRoleCache = userRoleCache;
+    }
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void onUserRoleChange(UserRole userRole) {
+        userRoleCache.getObject().evict(userRole.getUserId());
+    }
+}
@@ -16,10 +16,17 @@ public interface AuditService {
     void logFieldUpdate(DocumentParent document, String fieldKey, Object oldValue, Object newValue, String changeType,
                         RequestUser user, OffsetDateTime when);
 
+    // Writes all changes in one batch; they share the user and the timestamp.
+    @Transactional
+    void logFieldUpdates(DocumentParent document, List<FieldChange> changes, RequestUser user, OffsetDateTime when);
+
     @Transactional
     void logStatusChange(DocumentParent document, DocumentStatus previousStatus, DocumentStatus newStatus, String action,
                          String comment, RequestUser user, OffsetDateTime when);
 
     @Transactional(readOnly = true)
     List<AuditLog> getAuditTrail(Long documentId);
+
+    record FieldChange(String fieldKey, Object oldValue, Object newValue, String changeType) {
+    }
 }
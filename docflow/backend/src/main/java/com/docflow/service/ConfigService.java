@@ -2,6 +2,7 @@ package com.docflow.service;
 
 import com.docflow.api.dto.FilterDefinition;
 import com.docflow.context.RequestUser;
+import com.docflow.service.search.SearchFilterPlan;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
@@ -23,4 +24,8 @@ public interface ConfigService {
 
     @Transactional(readOnly = true)
     List<FilterDefinition> getReviewFilterDefinitions();
+
+    // Compiled once per config version and shared by every caller until the config changes.
+    @Transactional(readOnly = true)
+    SearchFilterPlan getReviewFilterPlan();
 }
@@ -5,8 +5,15 @@ import com.docflow.context.RequestUser;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.util.Optional;
+
 @Transactional
 public interface DataInjectorService {
 
-    DataInjectorResponse uploadExcel(MultipartFile file, RequestUser user);
+    DataInjectorResponse uploadExcel(MultipartFile file, boolean force, RequestUser user);
+
+    DataInjectorResponse uploadDelimited(MultipartFile file, String delimiter, String profile, boolean force,
+                                         RequestUser user);
+
+    Optional<String> findErrorReport(String reportId);
 }
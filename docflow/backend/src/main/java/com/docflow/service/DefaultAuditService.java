@@ -7,10 +7,13 @@ import com.docflow.domain.DocumentStatus;
 import com.docflow.domain.repository.AuditLogRepository;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.sql.Timestamp;
 import java.time.OffsetDateTime;
+import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
@@ -19,12 +22,19 @@ import java.util.Map;
 @Transactional
 public class DefaultAuditService implements AuditService {
 
+    private static final String INSERT_SQL = "INSERT INTO audit_log "
+        + "(id, document_id, field_key, old_value, new_value, change_type, changed_by, changed_at) "
+        + "VALUES (audit_log_seq.NEXTVAL, ?, ?, ?, ?, ?, ?, ?)";
+
     private final AuditLogRepository auditLogRepository;
     private final ObjectMapper objectMapper;
+    private final JdbcTemplate jdbcTemplate;
 
-    public DefaultAuditService(AuditLogRepository auditLogRepository, ObjectMapper objectMapper) {
+    public DefaultAuditService(AuditLogRepository auditLogRepository, ObjectMapper objectMapper,
+                               JdbcTemplate jdbcTemplate) {
         this.auditLogRepository = auditLogRepository;
         this.objectMapper = objectMapper;
+        this.jdbcTemplate = jdbcTemplate;
     }
 
     @Override
@@ -41,6 +51,28 @@ public class DefaultAuditService implements AuditService {
         auditLogRepository.save(log);
     }
 
+    @Override
+    public void logFieldUpdates(DocumentParent document, List<FieldChange> changes, RequestUser user,
+                                OffsetDateTime when) {
+        if (changes.isEmpty()) {
+            return;
+        }
+        Timestamp changedAt = Timestamp.from((when != null ? when : OffsetDateTime.now()).toInstant());
+        List<Object[]> parameters = new ArrayList<>(changes.size());
+        for (FieldChange change : changes) {
+            parameters.add(new Object[] {
+                document.getId(),
+                change.fieldKey(),
+                serialize(change.oldValue()),
+                serialize(change.newValue()),
+                change.changeType() != null ? change.changeType() : "UPDATED",
+                user.userId(),
+                changedAt
+            });
+        }
+        jdbcTemplate.batchUpdate(INSERT_SQL, parameters);
+    }
+
     @Override
     public void logStatusChange(DocumentParent document, DocumentStatus previousStatus, DocumentStatus newStatus, String action,
                                 String comment, RequestUser user, OffsetDateTime when) {
@@ -4,6 +4,8 @@ import com.docflow.api.dto.FilterDefinition;
 import com.docflow.context.RequestUser;
 import com.docflow.domain.AppConfig;
 import com.docflow.domain.repository.AppConfigRepository;
+import com.docflow.service.config.AppConfigCache;
+import com.docflow.service.search.SearchFilterPlan;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.springframework.stereotype.Service;
@@ -22,12 +24,19 @@ public class DefaultConfigService implements ConfigService {
     public static final String LEGACY_UPLOAD_FIELDS_KEY = "UPLOAD_FIELDS";
     public static final String REVIEW_FILTER_CONFIG_KEY = "REVIEW_FILTER_CONFIG";
 
+    private static final String FILTER_DEFINITIONS_VIEW = "filterDefinitions";
+    private static final String FILTER_PLAN_VIEW = "filterPlan";
+
     private final AppConfigRepository appConfigRepository;
     private final ObjectMapper objectMapper;
+    private final AppConfigCache configCache;
 
-    public DefaultConfigService(AppConfigRepository appConfigRepository, ObjectMapper objectMapper) {
+    public DefaultConfigService(AppConfigRepository appConfigRepository,
+                                ObjectMapper objectMapper,
+                                AppConfigCache configCache) {
         this.appConfigRepository = appConfigRepository;
         this.objectMapper = objectMapper;
+        this.configCache = configCache;
     }
 
     @Override
@@ -47,6 +56,7 @@ public class DefaultConfigService implements ConfigService {
         config.setUpdatedBy(requestUser.userId());
         config.setUpdatedAt(OffsetDateTime.now());
         appConfigRepository.save(config);
+        configCache.evict(config.getConfigKey());
         return config.getConfigValue();
     }
 
@@ -58,6 +68,7 @@ public class DefaultConfigService implements ConfigService {
 
     @Override
     public String upsertReviewFilterConfig(String configJson, RequestUser requestUser) {
+        validateReviewFilterConfig(configJson);
         AppConfig config = appConfigRepository.findByConfigKey(REVIEW_FILTER_CONFIG_KEY)
                 .orElseGet(AppConfig::new);
         config.setConfigKey(REVIEW_FILTER_CONFIG_KEY);
@@ -65,26 +76,50 @@ public class DefaultConfigService implements ConfigService {
         config.setUpdatedBy(requestUser.userId());
         config.setUpdatedAt(OffsetDateTime.now());
         appConfigRepository.save(config);
+        configCache.evict(config.getConfigKey());
         return config.getConfigValue();
     }
 
     @Override
     @Transactional(readOnly = true)
     public List<FilterDefinition> getReviewFilterDefinitions() {
-        String rawConfig = getReviewFilterConfig();
+        return configCache.parsed(REVIEW_FILTER_CONFIG_KEY, FILTER_DEFINITIONS_VIEW, this::parseFilterDefinitions);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public SearchFilterPlan getReviewFilterPlan() {
+        return configCache.parsed(REVIEW_FILTER_CONFIG_KEY, FILTER_PLAN_VIEW,
+                json -> SearchFilterPlan.compile(parseFilterDefinitions(json)));
+    }
+
+    private void validateReviewFilterConfig(String configJson) {
+        if (configJson == null || configJson.isBlank()) {
+            return;
+        }
+        List<FilterDefinition> definitions;
+        try {
+            definitions = objectMapper.readValue(configJson, new TypeReference<List<FilterDefinition>>() {
+            });
+        } catch (Exception ex) {
+            throw new IllegalArgumentException("Review filter configuration must be a JSON array of filter definitions");
+        }
+        SearchFilterPlan.validate(definitions);
+    }
+
+    private List<FilterDefinition> parseFilterDefinitions(String rawConfig) {
         if (rawConfig == null || rawConfig.isBlank()) {
             return Collections.emptyList();
         }
         try {
-            return objectMapper.readValue(rawConfig, new TypeReference<List<FilterDefinition>>() {
-            });
+            return List.copyOf(objectMapper.readValue(rawConfig, new TypeReference<List<FilterDefinition>>() {
+            }));
         } catch (Exception ex) {
             return Collections.emptyList();
         }
     }
 
     private Optional<String> findConfigValue(String key) {
-        return appConfigRepository.findByConfigKey(key)
-                .map(AppConfig::getConfigValue);
+        return configCache.value(key);
     }
 }
@@ -1,11 +1,24 @@
 package com.docflow.service;
 
 import com.docflow.api.dto.DataInjectorResponse;
+import com.docflow.api.dto.DataInjectorSheetResult;
 import com.docflow.context.RequestUser;
 import com.docflow.service.config.DataInjectorProperties;
+import com.docflow.service.config.DataInjectorProperties.CommitMode;
 import com.docflow.service.config.ExcelHeaderMappingResolver;
-import com.docflow.service.config.ExcelHeaderMappingResolver.ColumnBinding;
 import com.docflow.service.config.ExcelHeaderMappingResolver.HeaderDescriptor;
+import com.docflow.service.config.InjectionProfile;
+import com.docflow.service.injector.BatchedRowWriter;
+import com.docflow.service.injector.DataInjectorErrorReportStore;
+import com.docflow.service.injector.DataInjectorErrorReportStore.ReportLine;
+import com.docflow.service.injector.DataInjectorExecutor;
+import com.docflow.service.injector.DataInjectorLoadRegistry;
+import com.docflow.service.injector.DelimitedRowReader;
+import com.docflow.service.injector.IngestPlan;
+import com.docflow.service.injector.IngestPlan.IngestRow;
+import com.docflow.service.injector.RowFailure;
+import com.docflow.service.injector.RowFingerprintStore;
+import com.docflow.service.metrics.DocflowMetrics;
 import org.apache.poi.ss.usermodel.Cell;
 import org.apache.poi.ss.usermodel.DateUtil;
 import org.apache.poi.ss.usermodel.Row;
@@ -16,23 +29,25 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
 import java.io.InputStream;
-import java.math.BigDecimal;
-import java.sql.Date;
-import java.sql.Time;
-import java.sql.Timestamp;
-import java.time.LocalDate;
-import java.time.LocalDateTime;
-import java.time.LocalTime;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.util.ArrayList;
-import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Locale;
-import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 
 @Service
 @Transactional
@@ -43,94 +58,72 @@ public class DefaultDataInjectorService implements DataInjectorService {
     private final JdbcTemplate jdbcTemplate;
     private final DataInjectorProperties properties;
     private final ExcelHeaderMappingResolver headerMappingResolver;
+    private final TransactionTemplate transactionTemplate;
+    private final DataInjectorExecutor executor;
+    private final DataInjectorLoadRegistry loadRegistry;
+    private final DataInjectorErrorReportStore errorReports;
+    private final DocflowMetrics metrics;
 
     public DefaultDataInjectorService(JdbcTemplate jdbcTemplate,
                                       DataInjectorProperties properties,
-                                      ExcelHeaderMappingResolver headerMappingResolver) {
+                                      ExcelHeaderMappingResolver headerMappingResolver,
+                                      PlatformTransactionManager transactionManager,
+                                      DataInjectorExecutor executor,
+                                      DataInjectorLoadRegistry loadRegistry,
+                                      DataInjectorErrorReportStore errorReports,
+                                      DocflowMetrics metrics) {
         this.jdbcTemplate = jdbcTemplate;
         this.properties = properties;
         this.headerMappingResolver = headerMappingResolver;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.executor = executor;
+        this.loadRegistry = loadRegistry;
+        this.errorReports = errorReports;
+        this.metrics = metrics;
     }
 
     @Override
-    public DataInjectorResponse uploadExcel(MultipartFile file, RequestUser user) {
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public DataInjectorResponse uploadExcel(MultipartFile file, boolean force, RequestUser user) {
         if (file == null || file.isEmpty()) {
             throw new IllegalArgumentException("Uploaded file must contain data");
         }
 
-        String targetTable = sqlTableName(properties.getTargetTable());
-        String configuredPrimaryKey = requirePrimaryKey();
-        String primaryKeyColumn = sqlColumnName(configuredPrimaryKey);
+        LOGGER.info("Starting data injector upload for file: {}", file.getOriginalFilename());
+        long started = System.nanoTime();
 
-        LOGGER.info("Starting data injector upload for file: {} (target table: {}, primary key: {})",
-            file.getOriginalFilename(), targetTable, primaryKeyColumn);
+        LoadKey loadKey = deltaLoadKey(file, "excel|" + describeProfiles());
+        Optional<DataInjectorResponse> unchangedFile = findUnchangedFile(loadKey, force, file);
+        if (unchangedFile.isPresent()) {
+            return unchangedFile.get();
+        }
 
         try (InputStream inputStream = file.getInputStream(); Workbook workbook = WorkbookFactory.create(inputStream)) {
-            Sheet sheet = workbook.getNumberOfSheets() > 0 ? workbook.getSheetAt(0) : null;
-            if (sheet == null) {
+            if (workbook.getNumberOfSheets() == 0) {
                 throw new IllegalArgumentException("Uploaded Excel file does not contain any sheets");
             }
 
-            HeaderDescriptor headerDescriptor = headerMappingResolver.resolve(sheet.getRow(0));
-            if (!headerDescriptor.hasColumn(configuredPrimaryKey)) {
-                throw new IllegalArgumentException(
-                    "Header must include a column mapped to primary key: " + configuredPrimaryKey);
-            }
-
-            DataInjectorResponse response = new DataInjectorResponse();
-            response.setIgnoredColumns(new ArrayList<>(headerDescriptor.ignoredHeaders()));
-
-            int totalRows = 0;
-            int inserted = 0;
-            int updated = 0;
-            int skipped = 0;
-
-            for (int rowIndex = 1; rowIndex <= sheet.getLastRowNum(); rowIndex++) {
-                Row row = sheet.getRow(rowIndex);
-                if (row == null) {
-                    continue;
-                }
-
-                RowPayload payload = readRowPayload(row, headerDescriptor.mappedColumns());
-                if (!payload.hasValues()) {
+            List<String> ignoredSheets = new ArrayList<>();
+            List<CompletableFuture<SheetOutcome>> loads = new ArrayList<>();
+            for (int sheetIndex = 0; sheetIndex < workbook.getNumberOfSheets(); sheetIndex++) {
+                Sheet sheet = workbook.getSheetAt(sheetIndex);
+                Optional<InjectionProfile> profile = properties.findProfileForSheet(sheet.getSheetName(), sheetIndex);
+                if (profile.isEmpty()) {
+                    LOGGER.info("Ignoring sheet '{}' with no matching ingestion profile", sheet.getSheetName());
+                    ignoredSheets.add(sheet.getSheetName());
                     continue;
                 }
-
-                totalRows++;
-
-                if (isMissingPrimaryKey(payload.primaryKeyValue())) {
-                    LOGGER.trace("Row {} missing primary key; marking as skipped", rowIndex + 1);
-                    skipped++;
-                    continue;
-                }
-
-                if (payload.columnValues().isEmpty()) {
-                    LOGGER.trace("Row {} contains no mappable columns; marking as skipped", rowIndex + 1);
-                    skipped++;
-                    continue;
-                }
-
-                if (!existsByPrimaryKey(targetTable, primaryKeyColumn, payload.primaryKeyValue())) {
-                    insertRow(targetTable, payload);
-                    inserted++;
-                } else {
-                    boolean updatedRow = updateRow(targetTable, primaryKeyColumn, payload);
-                    if (updatedRow) {
-                        updated++;
-                    } else {
-                        skipped++;
-                    }
-                }
+                loads.add(loadSheet(sheet, profile.get()));
             }
 
-            response.setTotalRows(totalRows);
-            response.setInserted(inserted);
-            response.setUpdated(updated);
-            response.setSkipped(skipped);
-
-            LOGGER.info("Data injector upload complete. Total: {}, Inserted: {}, Updated: {}, Skipped: {}",
-                totalRows, inserted, updated, skipped);
+            if (loads.isEmpty()) {
+                throw new IllegalArgumentException("No sheet in the uploaded workbook matches a configured ingestion profile");
+            }
 
+            List<SheetOutcome> outcomes = loads.stream().map(CompletableFuture::join).toList();
+            recordMetrics("excel", outcomes, started);
+            DataInjectorResponse response = buildResponse(outcomes, ignoredSheets);
+            recordCompletedLoad(loadKey, file, outcomes, response, user);
             return response;
         } catch (IOException ex) {
             throw new IllegalStateException("Unable to read uploaded Excel file", ex);
@@ -140,127 +133,275 @@ public class DefaultDataInjectorService implements DataInjectorService {
         }
     }
 
-    private boolean existsByPrimaryKey(String tableName, String primaryKeyColumn, Object primaryKeyValue) {
-        String sql = "SELECT COUNT(1) FROM " + tableName + " WHERE " + primaryKeyColumn + " = ?";
-        Object value = convertValueForSql(primaryKeyValue);
-        Integer count = jdbcTemplate.queryForObject(sql, Integer.class, value);
-        return count != null && count > 0;
-    }
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public DataInjectorResponse uploadDelimited(MultipartFile file, String delimiter, String profileName,
+                                                boolean force, RequestUser user) {
+        if (file == null || file.isEmpty()) {
+            throw new IllegalArgumentException("Uploaded file must contain data");
+        }
 
-    private void insertRow(String tableName, RowPayload payload) {
-        Map<String, Object> values = payload.columnValues();
-        List<String> columns = new ArrayList<>();
-        List<Object> parameters = new ArrayList<>();
+        char resolvedDelimiter = resolveDelimiter(delimiter, file.getOriginalFilename());
+        InjectionProfile profile = properties.findProfile(profileName)
+            .orElseThrow(() -> new IllegalArgumentException("Unknown ingestion profile: " + profileName));
 
-        for (Map.Entry<String, Object> entry : values.entrySet()) {
-            String columnName = sqlColumnName(entry.getKey());
-            columns.add(columnName);
-            parameters.add(convertValueForSql(entry.getValue()));
-        }
+        LOGGER.info("Starting delimited data injector upload for file: {} (profile: {})",
+            file.getOriginalFilename(), profile.getName());
+        long started = System.nanoTime();
 
-        if (columns.isEmpty()) {
-            LOGGER.trace("Row for primary key {} has no columns to insert; skipping", payload.primaryKeyValue());
-            return;
+        LoadKey loadKey = deltaLoadKey(file, "delimited|" + resolvedDelimiter + "|" + profile.describe());
+        Optional<DataInjectorResponse> unchangedFile = findUnchangedFile(loadKey, force, file);
+        if (unchangedFile.isPresent()) {
+            return unchangedFile.get();
         }
 
-        String placeholders = String.join(", ", columns.stream().map(column -> "?").toList());
-        String joinedColumns = String.join(", ", columns);
-        String sql = "INSERT INTO " + tableName + " (" + joinedColumns + ") VALUES (" + placeholders + ")";
-        jdbcTemplate.update(sql, parameters.toArray());
+        List<SheetOutcome> outcomes = List.of(loadDelimited(file, resolvedDelimiter, profile));
+        recordMetrics("delimited", outcomes, started);
+        DataInjectorResponse response = buildResponse(outcomes, List.of());
+        recordCompletedLoad(loadKey, file, outcomes, response, user);
+        return response;
     }
 
-    private boolean updateRow(String tableName, String primaryKeyColumn, RowPayload payload) {
-        Map<String, Object> values = payload.columnValues();
-        Object primaryKeyValue = findValue(values, primaryKeyColumn);
-        if (primaryKeyValue == null) {
-            primaryKeyValue = payload.primaryKeyValue();
-        }
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public Optional<String> findErrorReport(String reportId) {
+        return errorReports.renderCsv(reportId);
+    }
 
-        List<String> assignments = new ArrayList<>();
-        List<Object> parameters = new ArrayList<>();
+    private LoadKey deltaLoadKey(MultipartFile file, String scopeDescription) {
+        if (!properties.isDeltaMode()) {
+            return null;
+        }
+        return new LoadKey(loadRegistry.checksum(file), loadRegistry.scope(scopeDescription));
+    }
 
-        for (Map.Entry<String, Object> entry : values.entrySet()) {
-            if (matches(entry.getKey(), primaryKeyColumn)) {
-                continue;
-            }
-            String columnName = sqlColumnName(entry.getKey());
-            assignments.add(columnName + " = ?");
-            parameters.add(convertValueForSql(entry.getValue()));
+    private Optional<DataInjectorResponse> findUnchangedFile(LoadKey loadKey, boolean force, MultipartFile file) {
+        if (loadKey == null || force) {
+            return Optional.empty();
         }
+        return loadRegistry.findCompletedLoad(loadKey.checksum(), loadKey.scope()).map(totalRows -> {
+            LOGGER.info("Skipping data injector upload for file: {}; an identical file was already loaded",
+                file.getOriginalFilename());
+            DataInjectorResponse response = new DataInjectorResponse();
+            response.setUnchangedFile(true);
+            response.setTotalRows(totalRows);
+            response.setUnchanged(totalRows);
+            return response;
+        });
+    }
 
-        if (assignments.isEmpty()) {
-            LOGGER.trace("No columns to update for primary key {}; skipping update", payload.primaryKeyValue());
-            return false;
+    private void recordCompletedLoad(LoadKey loadKey, MultipartFile file, List<SheetOutcome> outcomes,
+                                     DataInjectorResponse response, RequestUser user) {
+        if (loadKey == null || response.getFailed() > 0
+            || outcomes.stream().anyMatch(outcome -> outcome.failure() != null)) {
+            return;
         }
+        loadRegistry.recordCompletedLoad(loadKey.checksum(), loadKey.scope(), file.getOriginalFilename(),
+            response.getTotalRows(), user.userId());
+    }
 
-        parameters.add(convertValueForSql(primaryKeyValue));
+    private void recordMetrics(String source, List<SheetOutcome> outcomes, long started) {
+        int roundTrips = 0;
+        for (SheetOutcome outcome : outcomes) {
+            metrics.recordInjectorSheet(outcome.result());
+            roundTrips += outcome.result().getRoundTrips();
+        }
+        metrics.recordInjectorUpload(source, roundTrips, Duration.ofNanos(System.nanoTime() - started));
+    }
 
-        String setClause = String.join(", ", assignments);
-        String sql = "UPDATE " + tableName + " SET " + setClause + " WHERE " + primaryKeyColumn + " = ?";
-        int affected = jdbcTemplate.update(sql, parameters.toArray());
-        return affected > 0;
+    private String describeProfiles() {
+        StringBuilder description = new StringBuilder(properties.defaultProfile().describe());
+        for (InjectionProfile profile : properties.namedProfiles()) {
+            description.append('\n').append(profile.describe());
+        }
+        return description.toString();
     }
 
-    private RowPayload readRowPayload(Row row, Map<Integer, ColumnBinding> headers) {
-        Map<String, Object> values = new LinkedHashMap<>();
-        Object primaryKeyValue = null;
-        boolean hasValues = false;
-
-        for (Map.Entry<Integer, ColumnBinding> entry : headers.entrySet()) {
-            int columnIndex = entry.getKey();
-            ColumnBinding binding = entry.getValue();
-            Cell cell = row.getCell(columnIndex, Row.MissingCellPolicy.RETURN_BLANK_AS_NULL);
-            Object value = cell != null ? readCellValue(cell) : null;
-            if (value == null) {
-                continue;
+    // A POI workbook is not thread-safe (sheets share the strings and styles tables), so every sheet is read into
+    // mapped rows on the calling thread and only the writes run on the injector executor, overlapping the next read.
+    private CompletableFuture<SheetOutcome> loadSheet(Sheet sheet, InjectionProfile profile) {
+        DataInjectorSheetResult result = newResult(sheet.getSheetName(), profile);
+        long started = System.nanoTime();
+        try {
+            String targetTable = sqlTableName(profile);
+            String primaryKey = requirePrimaryKey(profile);
+            result.setTargetTable(targetTable);
+
+            HeaderDescriptor headerDescriptor = headerMappingResolver.resolve(sheet.getRow(0), profile);
+            IngestPlan plan = IngestPlan.compile(targetTable, primaryKey, headerDescriptor);
+            List<SourceRow> rows = new ArrayList<>();
+            for (int rowIndex = 1; rowIndex <= sheet.getLastRowNum(); rowIndex++) {
+                Row row = sheet.getRow(rowIndex);
+                if (row == null) {
+                    continue;
+                }
+                rows.add(new SourceRow(plan.readRow(columnIndex -> readCell(row, columnIndex)), rowIndex + 1));
             }
+            return executor.submit(() -> writeSheet(result, plan, headerDescriptor, rows, started));
+        } catch (RuntimeException ex) {
+            return CompletableFuture.completedFuture(failedSheet(result, ex, new ArrayList<>(), started));
+        }
+    }
 
-            Object resolvedValue = applyExtractor(binding, value);
-            if (resolvedValue == null) {
-                continue;
-            }
+    private SheetOutcome writeSheet(DataInjectorSheetResult result, IngestPlan plan,
+                                    HeaderDescriptor headerDescriptor, List<SourceRow> rows, long started) {
+        List<RowFailure> rowFailures = new ArrayList<>();
+        try {
+            runLoad(() -> {
+                SheetLoad load = new SheetLoad(plan, newWriter(plan));
+                for (SourceRow row : rows) {
+                    load.accept(row.row(), row.rowNumber());
+                }
+                load.complete(result, headerDescriptor, rowFailures);
+            });
+            result.setElapsedMillis(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started));
+            return new SheetOutcome(result, null, rowFailures);
+        } catch (RuntimeException ex) {
+            return failedSheet(result, ex, rowFailures, started);
+        }
+    }
 
-            if (resolvedValue instanceof String stringValue && stringValue.isBlank()) {
-                continue;
-            }
+    private SheetOutcome failedSheet(DataInjectorSheetResult result, RuntimeException failure,
+                                     List<RowFailure> rowFailures, long started) {
+        LOGGER.warn("Data injector load of sheet '{}' failed: {}", result.getSheetName(), failure.getMessage());
+        result.setError(failure.getMessage());
+        result.setElapsedMillis(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started));
+        return new SheetOutcome(result, failure, rowFailures);
+    }
 
-            String target = binding.targetColumn();
-            if (target == null) {
-                continue;
-            }
+    private SheetOutcome loadDelimited(MultipartFile file, char delimiter, InjectionProfile profile) {
+        DataInjectorSheetResult result = newResult(file.getOriginalFilename(), profile);
+        List<RowFailure> rowFailures = new ArrayList<>();
+        long started = System.nanoTime();
+        try {
+            String targetTable = sqlTableName(profile);
+            String primaryKey = requirePrimaryKey(profile);
+            result.setTargetTable(targetTable);
+
+            runLoad(() -> {
+                try (DelimitedRowReader reader = new DelimitedRowReader(
+                    new InputStreamReader(file.getInputStream(), StandardCharsets.UTF_8), delimiter)) {
+                    if (!reader.next()) {
+                        throw new IllegalArgumentException("Uploaded file does not contain a header row");
+                    }
 
-            hasValues = true;
-            values.put(target, resolvedValue);
+                    HeaderDescriptor headerDescriptor = headerMappingResolver.resolve(reader.values(), profile);
+                    IngestPlan plan = IngestPlan.compile(targetTable, primaryKey, headerDescriptor);
+                    SheetLoad load = new SheetLoad(plan, newWriter(plan));
 
-            if (matches(target, properties.getPrimaryKey())) {
-                primaryKeyValue = resolvedValue;
-            }
+                    while (reader.next()) {
+                        load.accept(plan.readRow(reader::value), reader.recordNumber());
+                    }
+                    load.complete(result, headerDescriptor, rowFailures);
+                } catch (IOException ex) {
+                    throw new IllegalStateException("Unable to read uploaded delimited file", ex);
+                }
+            });
+            return new SheetOutcome(result, null, rowFailures);
+        } catch (RuntimeException ex) {
+            LOGGER.trace("Delimited data injector upload failed", ex);
+            result.setError(ex.getMessage());
+            return new SheetOutcome(result, ex, rowFailures);
+        } finally {
+            result.setElapsedMillis(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started));
+        }
+    }
+
+    private void runLoad(Runnable load) {
+        if (properties.getCommitMode() == CommitMode.CHUNK) {
+            load.run();
+        } else {
+            transactionTemplate.executeWithoutResult(status -> load.run());
         }
+    }
 
-        return new RowPayload(primaryKeyValue, values, hasValues);
+    private BatchedRowWriter newWriter(IngestPlan plan) {
+        RowFingerprintStore fingerprintStore = properties.isDeltaMode()
+            ? new RowFingerprintStore(jdbcTemplate, plan.tableName())
+            : null;
+        TransactionTemplate chunkTransaction = properties.getCommitMode() == CommitMode.CHUNK
+            ? transactionTemplate
+            : null;
+        return new BatchedRowWriter(jdbcTemplate, plan, properties.getBatchSize(), fingerprintStore, chunkTransaction,
+            metrics::recordInjectorBatch);
     }
 
-    private Object applyExtractor(ColumnBinding binding, Object value) {
-        if (value == null) {
-            return null;
+    private DataInjectorSheetResult newResult(String sheetName, InjectionProfile profile) {
+        DataInjectorSheetResult result = new DataInjectorSheetResult();
+        result.setSheetName(sheetName);
+        result.setProfile(profile.getName());
+        return result;
+    }
+
+    private DataInjectorResponse buildResponse(List<SheetOutcome> outcomes, List<String> ignoredSheets) {
+        boolean allFailed = outcomes.stream().allMatch(outcome -> outcome.failure() != null);
+        if (allFailed) {
+            throw outcomes.get(0).failure();
         }
 
-        if (!(value instanceof String stringValue)) {
-            return value;
+        DataInjectorResponse response = new DataInjectorResponse();
+        Set<String> ignoredColumns = new LinkedHashSet<>();
+        List<DataInjectorSheetResult> sheets = new ArrayList<>();
+        int totalRows = 0;
+        int inserted = 0;
+        int updated = 0;
+        int unchanged = 0;
+        int skipped = 0;
+        int failed = 0;
+        List<ReportLine> reportLines = new ArrayList<>();
+
+        for (SheetOutcome outcome : outcomes) {
+            DataInjectorSheetResult sheet = outcome.result();
+            sheets.add(sheet);
+            ignoredColumns.addAll(sheet.getIgnoredColumns());
+            totalRows += sheet.getTotalRows();
+            inserted += sheet.getInserted();
+            updated += sheet.getUpdated();
+            unchanged += sheet.getUnchanged();
+            skipped += sheet.getSkipped();
+            failed += sheet.getFailed();
+            for (RowFailure rowFailure : outcome.rowFailures()) {
+                reportLines.add(new ReportLine(sheet.getSheetName(), rowFailure));
+            }
         }
 
-        if (binding.extractorPattern() == null) {
-            return stringValue.trim();
+        response.setSheets(sheets);
+        response.setIgnoredSheets(ignoredSheets);
+        response.setIgnoredColumns(new ArrayList<>(ignoredColumns));
+        response.setTotalRows(totalRows);
+        response.setInserted(inserted);
+        response.setUpdated(updated);
+        response.setUnchanged(unchanged);
+        response.setSkipped(skipped);
+        response.setFailed(failed);
+        if (!reportLines.isEmpty()) {
+            response.setErrorReportId(errorReports.store(reportLines));
         }
 
-        var matcher = binding.extractorPattern().matcher(stringValue);
-        if (matcher.find()) {
-            String extracted = matcher.groupCount() >= 1 ? matcher.group(1) : matcher.group();
-            return extracted != null ? extracted.trim() : null;
+        LOGGER.info("Data injector upload complete. Sheets: {}, Total: {}, Inserted: {}, Updated: {}, "
+                + "Unchanged: {}, Skipped: {}, Failed: {}",
+            sheets.size(), totalRows, inserted, updated, unchanged, skipped, failed);
+
+        return response;
+    }
+
+    private char resolveDelimiter(String delimiter, String filename) {
+        if (delimiter == null || delimiter.isEmpty()) {
+            String lowerName = filename != null ? filename.toLowerCase(Locale.ROOT) : "";
+            return lowerName.endsWith(".tsv") || lowerName.endsWith(".tab") ? '\t' : ',';
+        }
+        if ("tab".equalsIgnoreCase(delimiter) || "\\t".equals(delimiter)) {
+            return '\t';
         }
+        if (delimiter.length() != 1 || delimiter.charAt(0) == '"') {
+            throw new IllegalArgumentException("Unsupported delimiter: " + delimiter);
+        }
+        return delimiter.charAt(0);
+    }
 
-        LOGGER.warn("Extractor pattern for column '{}' did not match value '{}'", binding.targetColumn(), stringValue);
-        return stringValue.trim();
+    private Object readCell(Row row, int columnIndex) {
+        Cell cell = row.getCell(columnIndex, Row.MissingCellPolicy.RETURN_BLANK_AS_NULL);
+        return cell != null ? readCellValue(cell) : null;
     }
 
     private Object readCellValue(Cell cell) {
@@ -306,44 +447,7 @@ public class DefaultDataInjectorService implements DataInjectorService {
         };
     }
 
-    private Object convertValueForSql(Object value) {
-        if (value instanceof LocalDateTime localDateTime) {
-            return Timestamp.valueOf(localDateTime);
-        }
-        if (value instanceof LocalDate localDate) {
-            return Date.valueOf(localDate);
-        }
-        if (value instanceof LocalTime localTime) {
-            return Time.valueOf(localTime);
-        }
-        if (value instanceof Double doubleValue) {
-            return BigDecimal.valueOf(doubleValue);
-        }
-        if (value instanceof Float floatValue) {
-            return BigDecimal.valueOf(floatValue.doubleValue());
-        }
-        if (value instanceof String stringValue) {
-            return stringValue.trim();
-        }
-        return value;
-    }
-
-    private Object findValue(Map<String, Object> values, String columnName) {
-        return values.entrySet().stream()
-            .filter(entry -> matches(entry.getKey(), columnName))
-            .map(Map.Entry::getValue)
-            .findFirst()
-            .orElse(null);
-    }
-
-    private boolean matches(String left, String right) {
-        if (left == null || right == null) {
-            return false;
-        }
-        return normalize(left).equals(normalize(right));
-    }
-
-    private boolean isMissingPrimaryKey(Object primaryKeyValue) {
+    private static boolean isMissingPrimaryKey(Object primaryKeyValue) {
         if (primaryKeyValue == null) {
             return true;
         }
@@ -353,54 +457,81 @@ public class DefaultDataInjectorService implements DataInjectorService {
         return false;
     }
 
-    private String normalize(String value) {
-        return value.replaceAll("[^A-Za-z0-9]", "").toLowerCase(Locale.ROOT);
-    }
-
-    private String sqlTableName(String tableName) {
+    private String sqlTableName(InjectionProfile profile) {
+        String tableName = profile.getTargetTable();
         if (tableName == null || tableName.isBlank()) {
-            throw new IllegalStateException("excel.target-table must be configured");
+            throw new IllegalStateException(propertyPath(profile, "target-table") + " must be configured");
         }
         if (!tableName.matches("[A-Za-z0-9_.]+")) {
-            throw new IllegalArgumentException("Invalid table name configured for excel.target-table: " + tableName);
+            throw new IllegalArgumentException(
+                "Invalid table name configured for " + propertyPath(profile, "target-table") + ": " + tableName);
         }
         return tableName;
     }
 
-    private String requirePrimaryKey() {
-        String primaryKey = properties.getPrimaryKey();
+    private String requirePrimaryKey(InjectionProfile profile) {
+        String primaryKey = profile.getPrimaryKey();
         if (primaryKey == null || primaryKey.isBlank()) {
-            throw new IllegalStateException("excel.primary-key must be configured");
+            throw new IllegalStateException(propertyPath(profile, "primary-key") + " must be configured");
         }
         return primaryKey;
     }
 
-    private String sqlColumnName(String columnName) {
-        if (columnName == null || columnName.isBlank()) {
-            throw new IllegalArgumentException("Column name cannot be blank");
-        }
-        if (!columnName.matches("[A-Za-z0-9_]+")) {
-            throw new IllegalArgumentException("Invalid column name: " + columnName);
-        }
-        return columnName;
+    private String propertyPath(InjectionProfile profile, String property) {
+        return profile == properties ? "excel." + property : "excel.profiles." + profile.getName() + "." + property;
     }
 
-    private record RowPayload(Object primaryKeyValue, Map<String, Object> columnValues, boolean hasValues) {
+    private static final class SheetLoad {
 
-        private RowPayload {
-            columnValues = columnValues != null ? new LinkedHashMap<>(columnValues) : new LinkedHashMap<>();
-        }
+        private final IngestPlan plan;
+        private final BatchedRowWriter writer;
+        private int totalRows;
+        private int missingPrimaryKeys;
 
-        public Object primaryKeyValue() {
-            return primaryKeyValue;
+        private SheetLoad(IngestPlan plan, BatchedRowWriter writer) {
+            this.plan = plan;
+            this.writer = writer;
         }
 
-        public Map<String, Object> columnValues() {
-            return columnValues;
+        private void accept(IngestRow row, long rowNumber) {
+            if (!row.hasValues()) {
+                return;
+            }
+
+            totalRows++;
+
+            if (isMissingPrimaryKey(plan.primaryKeyValue(row))) {
+                LOGGER.trace("Row {} missing primary key; marking as skipped", rowNumber);
+                missingPrimaryKeys++;
+                return;
+            }
+
+            writer.add(row, rowNumber);
         }
 
-        public boolean hasValues() {
-            return hasValues;
+        private void complete(DataInjectorSheetResult result, HeaderDescriptor headerDescriptor,
+                              List<RowFailure> rowFailures) {
+            writer.flush();
+            rowFailures.addAll(writer.getFailures());
+            result.setFailed(writer.getFailed());
+            result.setIgnoredColumns(new ArrayList<>(headerDescriptor.ignoredHeaders()));
+            result.setTotalRows(totalRows);
+            result.setInserted(writer.getInserted());
+            result.setUpdated(writer.getUpdated());
+            result.setUnchanged(writer.getUnchanged());
+            result.setSkipped(missingPrimaryKeys + writer.getSkipped());
+            result.setBatches(writer.getBatches());
+            result.setRoundTrips(writer.getRoundTrips());
         }
     }
+
+    private record SourceRow(IngestRow row, long rowNumber) {
+    }
+
+    private record SheetOutcome(DataInjectorSheetResult result, RuntimeException failure,
+                                List<RowFailure> rowFailures) {
+    }
+
+    private record LoadKey(String checksum, String scope) {
+    }
 }
@@ -0,0 +1,298 @@
+package com.docflow.service;
+
+import com.docflow.context.RequestUser;
+import com.docflow.domain.DocumentStatus;
+import com.docflow.domain.repository.DocumentRepository;
+import com.docflow.service.event.DocumentChangeEvent;
+import com.docflow.service.search.DocumentSearchFilter;
+import com.docflow.service.search.ReviewSearchFilters;
+import com.docflow.service.search.SearchFilterPlan;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Pushes document change events to connected review screens so they refresh only when something they show changed.
+// Events are matched after commit on a small pool (virtual threads when spring.threads.virtual.enabled): subscribers
+// with identical criteria share one membership query. Each subscriber has at most one send task in flight and a
+// bounded backlog behind it; a stream whose backlog overflows, or whose work the full pool queue rejects, is closed
+// and the client reconnects. On platform threads a send blocked on a stalled connection still holds a pool thread
+// until the connection times out, so as many stalled clients as threads delay everyone else.
+@Service
+public class DefaultDocumentChangeStreamService implements DocumentChangeStreamService, DisposableBean {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(DefaultDocumentChangeStreamService.class);
+    private static final String EVENT_NAME = "document-change";
+
+    private final DocumentRepository documentRepository;
+    private final ConfigService configService;
+    private final AsyncTaskExecutor executor;
+    private final ThreadPoolTaskScheduler heartbeatScheduler;
+    private final Duration timeout;
+    private final int maxSubscribers;
+    private final int backlog;
+    private final Set<Subscription> subscriptions = ConcurrentHashMap.newKeySet();
+    private final Counter sent;
+    private final Counter dropped;
+
+    public DefaultDocumentChangeStreamService(DocumentRepository documentRepository,
+                                              ConfigService configService,
+                                              MeterRegistry meterRegistry,
+                                              @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads,
+                                              @Value("${docflow.events.stream.threads:4}") int threads,
+                                              @Value("${docflow.events.stream.queue-capacity:2000}") int queueCapacity,
+                                              @Value("${docflow.events.stream.backlog:50}") int backlog,
+                                              @Value("${docflow.events.stream.timeout:30m}") Duration timeout,
+                                              @Value("${docflow.events.stream.heartbeat:25s}") Duration heartbeat,
+                                              @Value("${docflow.events.stream.max-subscribers:1000}") int maxSubscribers) {
+        this.documentRepository = documentRepository;
+        this.configService = configService;
+        this.timeout = timeout;
+        this.maxSubscribers = maxSubscribers;
+        this.backlog = Math.max(1, backlog);
+        this.executor = createExecutor(virtualThreads, Math.max(1, threads), queueCapacity);
+        this.heartbeatScheduler = new ThreadPoolTaskScheduler();
+        this.heartbeatScheduler.setThreadNamePrefix("document-events-heartbeat-");
+        this.heartbeatScheduler.initialize();
+        // Comments keep idle connections open through proxies and surface closed ones between events.
+        this.heartbeatScheduler.scheduleAtFixedRate(this::heartbeat, heartbeat);
+        meterRegistry.gauge("docflow.events.stream.subscribers", subscriptions, Set::size);
+        this.sent = meterRegistry.counter("docflow.events.stream.sent");
+        this.dropped = meterRegistry.counter("docflow.events.stream.dropped");
+    }
+
+    @Override
+    public SseEmitter subscribe(String documentNumber,
+                                DocumentStatus status,
+                                Map<String, Object> dynamicFilters,
+                                RequestUser user) {
+        if (subscriptions.size() >= maxSubscribers) {
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Too many open change streams");
+        }
+        SearchFilterPlan plan = configService.getReviewFilterPlan();
+        String sanitizedNumber = ReviewSearchFilters.sanitize(documentNumber);
+        Criteria criteria = new Criteria(sanitizedNumber, status, Set.copyOf(plan.bind(dynamicFilters)));
+
+        SseEmitter emitter = new SseEmitter(timeout.toMillis());
+        Subscription subscription = new Subscription(user.userId(), criteria, emitter);
+        emitter.onCompletion(() -> subscriptions.remove(subscription));
+        emitter.onTimeout(() -> subscriptions.remove(subscription));
+        emitter.onError(error -> subscriptions.remove(subscription));
+        subscriptions.add(subscription);
+        return emitter;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onDocumentChange(DocumentChangeEvent event) {
+        if (subscriptions.isEmpty()) {
+            return;
+        }
+        try {
+            executor.execute(() -> dispatch(event));
+        } catch (TaskRejectedException ex) {
+            // The event cannot be delivered; closed streams reconnect and reload instead of silently missing it.
+            subscriptions.stream()
+                .filter(subscription -> event.affects(subscription.criteria().status()))
+                .forEach(subscription -> drop(subscription, ex));
+        }
+    }
+
+    private void dispatch(DocumentChangeEvent event) {
+        Map<Criteria, Boolean> matches = new HashMap<>();
+        for (Subscription subscription : subscriptions) {
+            Criteria criteria = subscription.criteria();
+            if (!event.affects(criteria.status())) {
+                continue;
+            }
+            if (matches.computeIfAbsent(criteria, ignored -> matches(criteria, event))) {
+                enqueue(subscription, new Outgoing(SseEmitter.event().name(EVENT_NAME).data(event), false));
+            }
+        }
+    }
+
+    // Status is already settled by affects(): a document leaving the subscriber's status must still be announced.
+    // A metadata update can likewise move a document out of the metadata filters, so only the number is checked.
+    private boolean matches(Criteria criteria, DocumentChangeEvent event) {
+        List<DocumentSearchFilter> filters = event.type() == DocumentChangeEvent.Type.METADATA_UPDATED
+            ? List.of()
+            : List.copyOf(criteria.filters());
+        if (criteria.documentNumber() == null && filters.isEmpty()) {
+            return true;
+        }
+        try {
+            return !documentRepository.findMatchingIds(
+                List.of(event.documentId()), criteria.documentNumber(), null, filters).isEmpty();
+        } catch (RuntimeException ex) {
+            LOGGER.warn("Unable to match document {} against change stream criteria; delivering anyway",
+                event.documentId(), ex);
+            return true;
+        }
+    }
+
+    private void enqueue(Subscription subscription, Outgoing outgoing) {
+        if (subscription.pending().incrementAndGet() > backlog) {
+            drop(subscription, new IllegalStateException("More than " + backlog + " undelivered events"));
+            return;
+        }
+        subscription.backlog().add(outgoing);
+        if (subscription.draining().compareAndSet(false, true)) {
+            try {
+                executor.execute(() -> drain(subscription));
+            } catch (TaskRejectedException ex) {
+                drop(subscription, ex);
+            }
+        }
+    }
+
+    // Sends the backlog in order; re-checks after releasing the flag so an event enqueued or a drop made meanwhile is
+    // not stranded.
+    private void drain(Subscription subscription) {
+        do {
+            Outgoing outgoing;
+            while (subscriptions.contains(subscription) && (outgoing = subscription.backlog().poll()) != null) {
+                subscription.pending().decrementAndGet();
+                try {
+                    subscription.emitter().send(outgoing.event());
+                    if (!outgoing.heartbeat()) {
+                        sent.increment();
+                    }
+                } catch (IOException | IllegalStateException ex) {
+                    drop(subscription, ex);
+                }
+            }
+            if (!subscriptions.contains(subscription)) {
+                close(subscription);
+                return;
+            }
+            subscription.draining().set(false);
+        } while ((!subscription.backlog().isEmpty() || !subscriptions.contains(subscription))
+            && subscription.draining().compareAndSet(false, true));
+    }
+
+    // Subscribers with sends outstanding are skipped: their connection is not idle.
+    private void heartbeat() {
+        for (Subscription subscription : subscriptions) {
+            if (subscription.pending().get() == 0) {
+                enqueue(subscription, new Outgoing(SseEmitter.event().comment("heartbeat"), true));
+            }
+        }
+    }
+
+    // The emitter is closed by whoever holds the draining flag, so dropping a stream never waits behind a send that is
+    // blocked on its connection.
+    private void drop(Subscription subscription, Exception cause) {
+        if (subscriptions.remove(subscription)) {
+            dropped.increment();
+            LOGGER.debug("Closing change stream for {}: {}", subscription.userId(), cause.getMessage());
+            if (subscription.draining().compareAndSet(false, true)) {
+                close(subscription);
+            }
+        }
+    }
+
+    private static void close(Subscription subscription) {
+        try {
+            subscription.emitter().complete();
+        } catch (IllegalStateException ex) {
+            // Already completed by the container after a timeout or a failed write.
+        }
+    }
+
+    @Override
+    public void destroy() throws Exception {
+        subscriptions.forEach(subscription -> subscription.emitter().complete());
+        subscriptions.clear();
+        heartbeatScheduler.shutdown();
+        if (executor instanceof DisposableBean disposable) {
+            disposable.destroy();
+        } else if (executor instanceof AutoCloseable closeable) {
+            closeable.close();
+        }
+    }
+
+    private static AsyncTaskExecutor createExecutor(boolean virtualThreads, int threads, int queueCapacity) {
+        if (virtualThreads) {
+            SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("document-events-");
+            executor.setVirtualThreads(true);
+            return executor;
+        }
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("document-events-");
+        executor.initialize();
+        return executor;
+    }
+
+    private record Criteria(String documentNumber, DocumentStatus status, Set<DocumentSearchFilter> filters) {
+    }
+
+    private record Outgoing(SseEmitter.SseEventBuilder event, boolean heartbeat) {
+    }
+
+    // Identity equality: two reviewers with the same criteria are still separate subscriptions.
+    private static final class Subscription {
+
+        private final String userId;
+        private final Criteria criteria;
+        private final SseEmitter emitter;
+        private final Queue<Outgoing> backlog = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger pending = new AtomicInteger();
+        private final AtomicBoolean draining = new AtomicBoolean();
+
+        private Subscription(String userId, Criteria criteria, SseEmitter emitter) {
+            this.userId = userId;
+            this.criteria = criteria;
+            this.emitter = emitter;
+        }
+
+        String userId() {
+            return userId;
+        }
+
+        Criteria criteria() {
+            return criteria;
+        }
+
+        SseEmitter emitter() {
+            return emitter;
+        }
+
+        Queue<Outgoing> backlog() {
+            return backlog;
+        }
+
+        AtomicInteger pending() {
+            return pending;
+        }
+
+        AtomicBoolean draining() {
+            return draining;
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.docflow.service;
+
+import com.docflow.domain.DocumentParent;
+import com.docflow.domain.DocumentStatus;
+import com.docflow.domain.repository.DocumentRepository;
+import com.docflow.service.export.DocumentExportFormat;
+import com.docflow.service.export.DocumentExportWriter;
+import com.docflow.service.search.DocumentSearchFilter;
+import com.docflow.service.search.ReviewSearchFilters;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.OutputStream;
+import java.util.List;
+import java.util.Map;
+
+// Streams every document matching a review search. Rows come from a forward-only cursor in chunks of the fetch
+// size; each chunk's metadata is read with one query and the persistence context is cleared after writing it.
+@Service
+@Transactional(readOnly = true)
+public class DefaultDocumentExportService implements DocumentExportService {
+
+    private final DocumentRepository documentRepository;
+    private final MetadataService metadataService;
+    private final ConfigService configService;
+    private final ObjectMapper objectMapper;
+    private final int fetchSize;
+
+    public DefaultDocumentExportService(DocumentRepository documentRepository,
+                                        MetadataService metadataService,
+                                        ConfigService configService,
+                                        ObjectMapper objectMapper,
+                                        @Value("${docflow.export.fetch-size:500}") int fetchSize) {
+        this.documentRepository = documentRepository;
+        this.metadataService = metadataService;
+        this.configService = configService;
+        this.objectMapper = objectMapper;
+        // Chunk ids are used in a metadata IN-list, which Oracle caps at 1000 entries.
+        this.fetchSize = Math.max(1, Math.min(fetchSize, 1000));
+    }
+
+    @Override
+    public void exportDocuments(String documentNumber,
+                                DocumentStatus status,
+                                String metadataKey,
+                                String metadataValue,
+                                Map<String, Object> dynamicFilters,
+                                Sort sort,
+                                DocumentExportFormat format,
+                                boolean includeMetadata,
+                                OutputStream outputStream) {
+        List<DocumentSearchFilter> filters = ReviewSearchFilters.build(
+            configService.getReviewFilterPlan(), dynamicFilters, metadataKey, metadataValue);
+        DocumentExportWriter writer = new DocumentExportWriter(format, includeMetadata, objectMapper, outputStream);
+        writer.writeHeader();
+
+        documentRepository.scrollDocuments(ReviewSearchFilters.sanitize(documentNumber), status, filters, sort, fetchSize, chunk -> {
+            Map<Long, Map<String, Object>> metadata = includeMetadata
+                ? metadataService.getMetadata(chunk.stream().map(DocumentParent::getId).toList())
+                : Map.of();
+            for (DocumentParent document : chunk) {
+                writer.writeDocument(document, metadata.get(document.getId()));
+            }
+            writer.flush();
+        });
+        writer.flush();
+    }
+}
@@ -0,0 +1,127 @@
+package com.docflow.service;
+
+import com.docflow.api.dto.DocumentFacetsResponse;
+import com.docflow.api.dto.FilterSource;
+import com.docflow.domain.DocumentStatus;
+import com.docflow.domain.repository.DocumentRepository;
+import com.docflow.service.search.DocumentSearchFilter;
+import com.docflow.service.search.ReviewSearchFilters;
+import com.docflow.service.search.SearchFilterPlan;
+import com.docflow.service.search.SearchFilterPlan.CompiledFilter;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+// Status and option counts for the review screen. Each facet ignores its own filter, so the counts show what
+// selecting another value would return; results are cached briefly because the screen refetches on every search.
+@Service
+@Transactional(readOnly = true)
+public class DefaultDocumentFacetService implements DocumentFacetService {
+
+    private final DocumentRepository documentRepository;
+    private final ConfigService configService;
+    private final Cache<FacetQuery, DocumentFacetsResponse> cache;
+
+    public DefaultDocumentFacetService(DocumentRepository documentRepository,
+                                       ConfigService configService,
+                                       MeterRegistry meterRegistry,
+                                       @Value("${docflow.search.facets.cache-ttl:30s}") Duration cacheTtl,
+                                       @Value("${docflow.search.facets.cache-size:1000}") long cacheSize) {
+        this.documentRepository = documentRepository;
+        this.configService = configService;
+        this.cache = Caffeine.newBuilder()
+            .expireAfterWrite(cacheTtl)
+            .maximumSize(cacheSize)
+            .recordStats()
+            .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "documentFacets");
+    }
+
+    @Override
+    public DocumentFacetsResponse getFacets(String documentNumber,
+                                            DocumentStatus status,
+                                            Map<String, Object> dynamicFilters) {
+        SearchFilterPlan plan = configService.getReviewFilterPlan();
+        String sanitizedNumber = ReviewSearchFilters.sanitize(documentNumber);
+        List<DocumentSearchFilter> filters = plan.bind(dynamicFilters);
+        FacetQuery query = new FacetQuery(plan, sanitizedNumber, status, describe(filters));
+        return cache.get(query, ignored -> computeFacets(plan, sanitizedNumber, status, filters));
+    }
+
+    private DocumentFacetsResponse computeFacets(SearchFilterPlan plan,
+                                                 String documentNumber,
+                                                 DocumentStatus status,
+                                                 List<DocumentSearchFilter> filters) {
+        Map<DocumentStatus, Long> byStatus = documentRepository.countByStatus(documentNumber, filters);
+        Map<String, Long> statusCounts = new LinkedHashMap<>();
+        for (DocumentStatus candidate : DocumentStatus.values()) {
+            statusCounts.put(candidate.name(), byStatus.getOrDefault(candidate, 0L));
+        }
+
+        // Keys without an active filter share one query; a filtered key needs its own filter left out.
+        Map<String, List<String>> unfiltered = new LinkedHashMap<>();
+        Map<String, Map<String, Long>> counts = new LinkedHashMap<>();
+        for (CompiledFilter facet : optionFacets(plan)) {
+            List<DocumentSearchFilter> others = withoutKey(filters, facet.attributeName());
+            if (others.size() == filters.size()) {
+                unfiltered.put(facet.attributeName(), facet.options());
+            } else {
+                counts.putAll(documentRepository.countMetadataOptions(
+                    Map.of(facet.attributeName(), facet.options()), documentNumber, status, others));
+            }
+        }
+        counts.putAll(documentRepository.countMetadataOptions(unfiltered, documentNumber, status, filters));
+
+        Map<String, Map<String, Long>> optionCounts = new LinkedHashMap<>();
+        for (CompiledFilter facet : optionFacets(plan)) {
+            Map<String, Long> facetCounts = counts.get(facet.attributeName());
+            if (facetCounts != null) {
+                optionCounts.put(facet.key(), Collections.unmodifiableMap(facetCounts));
+            }
+        }
+
+        DocumentFacetsResponse response = new DocumentFacetsResponse();
+        response.setStatusCounts(Collections.unmodifiableMap(statusCounts));
+        response.setOptionCounts(Collections.unmodifiableMap(optionCounts));
+        return response;
+    }
+
+    private List<CompiledFilter> optionFacets(SearchFilterPlan plan) {
+        return plan.filters().stream()
+            .filter(filter -> filter.source() == FilterSource.META_DATA && filter.hasOptions())
+            .toList();
+    }
+
+    private List<DocumentSearchFilter> withoutKey(List<DocumentSearchFilter> filters, String metadataKey) {
+        List<DocumentSearchFilter> remaining = new ArrayList<>(filters.size());
+        for (DocumentSearchFilter filter : filters) {
+            if (filter.getSource() != FilterSource.META_DATA || !filter.getKey().equals(metadataKey)) {
+                remaining.add(filter);
+            }
+        }
+        return remaining;
+    }
+
+    // Bound filters rather than the submitted map, so unknown keys and blank values do not fragment the cache.
+    private List<String> describe(List<DocumentSearchFilter> filters) {
+        return filters.stream()
+            .map(filter -> filter.getSource() + ":" + filter.getKey() + ":" + filter.getOperation() + ":" + filter.getRawValue())
+            .sorted()
+            .toList();
+    }
+
+    // The plan is part of the key so a review filter config change never serves counts for the old options.
+    private record FacetQuery(SearchFilterPlan plan, String documentNumber, DocumentStatus status, List<String> filters) {
+    }
+}
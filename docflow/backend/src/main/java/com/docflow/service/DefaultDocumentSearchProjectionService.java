@@ -0,0 +1,139 @@
+package com.docflow.service;
+
+import com.docflow.api.dto.FilterDefinition;
+import com.docflow.api.dto.FilterSource;
+import com.docflow.api.dto.SearchProjectionRebuildResponse;
+import com.docflow.context.RequestUser;
+import com.docflow.domain.AppConfig;
+import com.docflow.domain.DocumentParent;
+import com.docflow.domain.repository.AppConfigRepository;
+import com.docflow.domain.repository.DocumentSearchProjectionRepository;
+import com.docflow.service.config.AppConfigCache;
+import com.docflow.service.search.DocumentSearchFilter;
+import com.docflow.service.search.SearchProjectionLayout;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+// Keeps document_search_projection in step with document writes, synchronously in the writing transaction. The
+// slot layout lives in app_config and only changes on rebuild; until a key has a slot its filters are answered
+// from document_metadata.
+@Service
+@Transactional
+public class DefaultDocumentSearchProjectionService implements DocumentSearchProjectionService {
+
+    public static final String LAYOUT_CONFIG_KEY = "SEARCH_PROJECTION_LAYOUT";
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(DefaultDocumentSearchProjectionService.class);
+    private static final String LAYOUT_VIEW = "layout";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final DocumentSearchProjectionRepository projectionRepository;
+    private final AppConfigRepository appConfigRepository;
+    private final AppConfigCache configCache;
+    private final ConfigService configService;
+    private final ObjectMapper objectMapper;
+    private final boolean enabled;
+
+    public DefaultDocumentSearchProjectionService(DocumentSearchProjectionRepository projectionRepository,
+                                                  AppConfigRepository appConfigRepository,
+                                                  AppConfigCache configCache,
+                                                  ConfigService configService,
+                                                  ObjectMapper objectMapper,
+                                                  @Value("${docflow.search.projection.enabled:true}") boolean enabled) {
+        this.projectionRepository = projectionRepository;
+        this.appConfigRepository = appConfigRepository;
+        this.configCache = configCache;
+        this.configService = configService;
+        this.objectMapper = objectMapper;
+        this.enabled = enabled;
+    }
+
+    @Override
+    public void refresh(DocumentParent document) {
+        if (!enabled || document.getId() == null) {
+            return;
+        }
+        entityManager.flush();
+        projectionRepository.refresh(layout(), document.getId());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<SearchProjectionLayout> layoutFor(List<DocumentSearchFilter> filters, Sort sort) {
+        if (!enabled) {
+            return Optional.empty();
+        }
+        SearchProjectionLayout layout = layout();
+        return layout.covers(filters, sort) ? Optional.of(layout) : Optional.empty();
+    }
+
+    @Override
+    public SearchProjectionRebuildResponse rebuild(RequestUser user) {
+        List<String> metadataKeys = new ArrayList<>();
+        for (FilterDefinition definition : configService.getReviewFilterDefinitions()) {
+            if (definition.getSource() == FilterSource.META_DATA && definition.getKey() != null
+                && !definition.getKey().isBlank()) {
+                metadataKeys.add(definition.getKey().trim());
+            }
+        }
+        SearchProjectionLayout layout = layout().reassign(metadataKeys);
+        saveLayout(layout, user);
+
+        entityManager.flush();
+        int documents = projectionRepository.rebuild(layout);
+        LOGGER.info("Rebuilt search projection for {} documents with slots {}", documents, layout.slotKeys());
+
+        SearchProjectionRebuildResponse response = new SearchProjectionRebuildResponse();
+        response.setSlotKeys(layout.slotKeys());
+        response.setDocuments(documents);
+        return response;
+    }
+
+    private SearchProjectionLayout layout() {
+        return configCache.parsed(LAYOUT_CONFIG_KEY, LAYOUT_VIEW, this::parseLayout);
+    }
+
+    private void saveLayout(SearchProjectionLayout layout, RequestUser user) {
+        AppConfig config = appConfigRepository.findByConfigKey(LAYOUT_CONFIG_KEY)
+                .orElseGet(AppConfig::new);
+        config.setConfigKey(LAYOUT_CONFIG_KEY);
+        try {
+            config.setConfigValue(objectMapper.writeValueAsString(layout.slotKeys()));
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Unable to serialize search projection layout", ex);
+        }
+        config.setUpdatedBy(user.userId());
+        config.setUpdatedAt(OffsetDateTime.now());
+        appConfigRepository.save(config);
+        configCache.evict(LAYOUT_CONFIG_KEY);
+    }
+
+    private SearchProjectionLayout parseLayout(String rawLayout) {
+        if (rawLayout == null || rawLayout.isBlank()) {
+            return SearchProjectionLayout.empty();
+        }
+        try {
+            return SearchProjectionLayout.of(objectMapper.readValue(rawLayout, new TypeReference<List<String>>() {
+            }));
+        } catch (JsonProcessingException ex) {
+            LOGGER.warn("Ignoring unreadable search projection layout; searches use document_metadata until rebuilt");
+            return SearchProjectionLayout.empty();
+        }
+    }
+}
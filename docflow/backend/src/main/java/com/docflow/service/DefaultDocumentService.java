@@ -3,14 +3,19 @@ package com.docflow.service;
 import com.docflow.api.dto.DocumentResponse;
 import com.docflow.api.dto.DocumentSummary;
 import com.docflow.api.dto.DocumentUploadMetadata;
-import com.docflow.api.dto.FilterDefinition;
 import com.docflow.context.RequestUser;
 import com.docflow.domain.AuditLog;
 import com.docflow.domain.DocumentParent;
 import com.docflow.domain.DocumentStatus;
 import com.docflow.domain.repository.DocumentRepository;
+import com.docflow.service.event.DocumentChangeEvent;
+import com.docflow.service.metrics.DocflowMetrics;
 import com.docflow.service.search.DocumentSearchFilter;
+import com.docflow.service.search.ReviewSearchFilters;
+import com.docflow.service.search.SearchProjectionLayout;
+import com.docflow.service.search.SearchResultCache;
 import com.docflow.storage.StorageAdapter;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -28,7 +33,6 @@ import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.ArrayList;
 
 @Service
 @Transactional
@@ -40,19 +44,31 @@ public class DefaultDocumentService implements DocumentService {
     private final AuditService auditService;
     private final RuleService ruleService;
     private final ConfigService configService;
+    private final DocumentSearchProjectionService searchProjectionService;
+    private final SearchResultCache searchResultCache;
+    private final ApplicationEventPublisher eventPublisher;
+    private final DocflowMetrics metrics;
 
     public DefaultDocumentService(DocumentRepository documentRepository,
                                   StorageAdapter storageAdapter,
                                   MetadataService metadataService,
                                   AuditService auditService,
                                   RuleService ruleService,
-                                  ConfigService configService) {
+                                  ConfigService configService,
+                                  DocumentSearchProjectionService searchProjectionService,
+                                  SearchResultCache searchResultCache,
+                                  ApplicationEventPublisher eventPublisher,
+                                  DocflowMetrics metrics) {
         this.documentRepository = documentRepository;
         this.storageAdapter = storageAdapter;
         this.metadataService = metadataService;
         this.auditService = auditService;
         this.ruleService = ruleService;
         this.configService = configService;
+        this.searchProjectionService = searchProjectionService;
+        this.searchResultCache = searchResultCache;
+        this.eventPublisher = eventPublisher;
+        this.metrics = metrics;
     }
 
     @Override
@@ -72,6 +88,7 @@ public class DefaultDocumentService implements DocumentService {
 
         Map<String, Object> storedMetadata = metadataService.persistMetadata(numberedDocument, metadata.getMetadata(), user);
         storeFileIfPresent(numberedDocument, file);
+        publishChange(numberedDocument, DocumentChangeEvent.Type.CREATED, null, user, now);
 
         return mapToResponse(numberedDocument, storedMetadata);
     }
@@ -102,15 +119,24 @@ public class DefaultDocumentService implements DocumentService {
         Map<String, Object> dynamicFilters,
         Pageable pageable
     ) {
-        List<DocumentSearchFilter> filters = buildSearchFilters(dynamicFilters, metadataKey, metadataValue);
-        Page<DocumentParent> documents = documentRepository.searchDocuments(
-            sanitize(documentNumber),
-            status,
-            filters,
-            pageable
-        );
+        List<DocumentSearchFilter> filters = ReviewSearchFilters.build(
+            configService.getReviewFilterPlan(), dynamicFilters, metadataKey, metadataValue);
+        String sanitizedNumber = ReviewSearchFilters.sanitize(documentNumber);
+        SearchResultCache.Key cacheKey = SearchResultCache.key(sanitizedNumber, status, filters, pageable);
+        Optional<Page<DocumentSummary>> cached = searchResultCache.lookup(cacheKey);
+        if (cached.isPresent()) {
+            return cached.get();
+        }
 
-        return documents.map(this::mapToSummary);
+        long generation = searchResultCache.generation(cacheKey);
+        Optional<SearchProjectionLayout> projection = searchProjectionService.layoutFor(filters, pageable.getSort());
+        Page<DocumentParent> documents = projection.isPresent()
+            ? documentRepository.searchProjection(projection.get(), sanitizedNumber, status, filters, pageable)
+            : documentRepository.searchDocuments(sanitizedNumber, status, filters, pageable);
+
+        Page<DocumentSummary> summaries = documents.map(this::mapToSummary);
+        searchResultCache.store(cacheKey, generation, summaries);
+        return summaries;
     }
 
     @Override
@@ -120,6 +146,7 @@ public class DefaultDocumentService implements DocumentService {
 
     @Override
     public DocumentResponse updateStatus(Long id, DocumentStatus status, RequestUser user, String action, String comment) {
+        long started = System.nanoTime();
         DocumentParent document = requireDocument(id);
         DocumentStatus previousStatus = document.getStatus();
         if (Objects.equals(previousStatus, status)) {
@@ -132,8 +159,11 @@ public class DefaultDocumentService implements DocumentService {
         document.setUpdatedBy(user.userId());
         document.setUpdatedAt(now);
         documentRepository.save(document);
+        searchProjectionService.refresh(document);
 
         auditService.logStatusChange(document, previousStatus, status, action, comment, user, now);
+        publishChange(document, DocumentChangeEvent.Type.STATUS_CHANGED, previousStatus, user, now);
+        metrics.recordWorkflowAction(action, previousStatus, status, System.nanoTime() - started);
 
         Map<String, Object> metadata = metadataService.getMetadata(document);
         return mapToResponse(document, metadata);
@@ -148,9 +178,25 @@ public class DefaultDocumentService implements DocumentService {
         documentRepository.save(document);
 
         Map<String, Object> metadata = metadataService.persistMetadata(document, requestedMetadata, user);
+        publishChange(document, DocumentChangeEvent.Type.METADATA_UPDATED, document.getStatus(), user, now);
         return mapToResponse(document, metadata);
     }
 
+    @Override
+    public DocumentResponse patchMetadata(Long id, Map<String, Object> patch, RequestUser user) {
+        DocumentParent document = requireDocument(id);
+        MetadataService.PatchResult result = metadataService.patchMetadata(document, patch, user);
+        if (result.changed()) {
+            OffsetDateTime now = OffsetDateTime.now();
+            document.setUpdatedBy(user.userId());
+            document.setUpdatedAt(now);
+            documentRepository.save(document);
+            searchProjectionService.refresh(document);
+            publishChange(document, DocumentChangeEvent.Type.METADATA_UPDATED, document.getStatus(), user, now);
+        }
+        return mapToResponse(document, result.metadata());
+    }
+
     @Override
     @Transactional(readOnly = true)
     public List<AuditLog> getAuditTrail(Long id) {
@@ -219,14 +265,6 @@ public class DefaultDocumentService implements DocumentService {
                 .orElseThrow(() -> new NoSuchElementException("Document not found"));
     }
 
-    private String sanitize(String value) {
-        if (value == null) {
-            return null;
-        }
-        String trimmed = value.trim();
-        return trimmed.isEmpty() ? null : trimmed;
-    }
-
     private void storeFileIfPresent(DocumentParent document, MultipartFile file) {
         if (file == null || file.isEmpty()) {
             return;
@@ -263,35 +301,14 @@ public class DefaultDocumentService implements DocumentService {
         return response;
     }
 
-    private List<DocumentSearchFilter> buildSearchFilters(Map<String, Object> dynamicFilters,
-                                                          String metadataKey,
-                                                          String metadataValue) {
-        Map<String, Object> submittedFilters = dynamicFilters != null ? dynamicFilters : Map.of();
-        List<FilterDefinition> definitions = configService.getReviewFilterDefinitions();
-        Map<String, Object> normalizedFilters = new LinkedHashMap<>(submittedFilters);
-
-        List<DocumentSearchFilter> filters = new ArrayList<>();
-        for (FilterDefinition definition : definitions) {
-            Object candidate = normalizedFilters.get(definition.getKey());
-            DocumentSearchFilter filter = DocumentSearchFilter.fromDefinition(definition, candidate);
-            if (filter != null) {
-                filters.add(filter);
-            }
-        }
-
-        String sanitizedMetadataKey = sanitize(metadataKey);
-        String sanitizedMetadataValue = sanitize(metadataValue);
-        if (sanitizedMetadataKey != null && sanitizedMetadataValue != null) {
-            DocumentSearchFilter placeholder = DocumentSearchFilter.metadataPlaceholder(
-                sanitizedMetadataKey,
-                sanitizedMetadataValue
-            );
-            if (placeholder != null) {
-                filters.add(placeholder);
-            }
-        }
-
-        return filters;
+    // Listeners such as the search result cache act after commit.
+    private void publishChange(DocumentParent document,
+                               DocumentChangeEvent.Type type,
+                               DocumentStatus previousStatus,
+                               RequestUser user,
+                               OffsetDateTime now) {
+        eventPublisher.publishEvent(new DocumentChangeEvent(
+            document.getId(), type, previousStatus, document.getStatus(), user.userId(), now));
     }
 
     private DocumentSummary mapToSummary(DocumentParent document) {
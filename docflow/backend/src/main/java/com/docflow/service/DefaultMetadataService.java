@@ -4,11 +4,14 @@ import com.docflow.context.RequestUser;
 import com.docflow.domain.DocumentMetadata;
 import com.docflow.domain.DocumentParent;
 import com.docflow.domain.repository.DocumentMetadataRepository;
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.docflow.service.metadata.MetadataValueCodec;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.sql.Timestamp;
 import java.time.OffsetDateTime;
 import java.util.*;
 import java.util.stream.Collectors;
@@ -17,62 +20,155 @@ import java.util.stream.Collectors;
 @Transactional
 public class DefaultMetadataService implements MetadataService {
 
+    private static final String SELECT_SQL =
+            "SELECT id, field_key, field_value FROM document_metadata WHERE document_id = ? ORDER BY id";
+    private static final String INSERT_SQL = "INSERT INTO document_metadata "
+            + "(id, document_id, field_key, field_value, created_by, created_at) "
+            + "VALUES (document_metadata_seq.NEXTVAL, ?, ?, ?, ?, ?)";
+    private static final String UPDATE_SQL =
+            "UPDATE document_metadata SET field_value = ?, created_by = ?, created_at = ? WHERE id = ?";
+    private static final String DELETE_SQL = "DELETE FROM document_metadata WHERE id = ?";
+    private static final String MERGE_SQL = """
+            MERGE INTO document_metadata m
+            USING (SELECT CAST(? AS NUMBER(19)) AS document_id, CAST(? AS VARCHAR2(150)) AS field_key FROM dual) s
+            ON (m.document_id = s.document_id AND m.field_key = s.field_key)
+            WHEN MATCHED THEN UPDATE SET m.field_value = ?, m.created_by = ?, m.created_at = ?
+            WHEN NOT MATCHED THEN INSERT (id, document_id, field_key, field_value, created_by, created_at)
+                VALUES (document_metadata_seq.NEXTVAL, s.document_id, s.field_key, ?, ?, ?)
+            """;
+    private static final String DELETE_KEY_SQL = "DELETE FROM document_metadata WHERE document_id = ? AND field_key = ?";
+    private static final int MAX_IN_LIST_SIZE = 1000;
+
     private final DocumentMetadataRepository metadataRepository;
     private final AuditService auditService;
-    private final ObjectMapper objectMapper;
+    private final MetadataValueCodec valueCodec;
+    private final DocumentSearchProjectionService searchProjectionService;
+    private final JdbcTemplate jdbcTemplate;
+
+    @PersistenceContext
+    private EntityManager entityManager;
 
     public DefaultMetadataService(DocumentMetadataRepository metadataRepository,
                                   AuditService auditService,
-                                  ObjectMapper objectMapper) {
+                                  MetadataValueCodec valueCodec,
+                                  DocumentSearchProjectionService searchProjectionService,
+                                  JdbcTemplate jdbcTemplate) {
         this.metadataRepository = metadataRepository;
         this.auditService = auditService;
-        this.objectMapper = objectMapper;
+        this.valueCodec = valueCodec;
+        this.searchProjectionService = searchProjectionService;
+        this.jdbcTemplate = jdbcTemplate;
     }
 
+    // Diffs the request against one read of the stored rows and applies the result with at most one batch each for
+    // inserts, updates and deletes plus one audit batch, whatever the number of fields. The rows are written with
+    // JDBC, so pending entity changes are flushed first and the stored rows are not loaded as entities.
     @Override
     public Map<String, Object> persistMetadata(DocumentParent document, Map<String, Object> requestedMetadata, RequestUser user) {
-        List<DocumentMetadata> existing = metadataRepository.findByDocument(document);
-        Map<String, DocumentMetadata> byKey = existing.stream()
-                .collect(Collectors.toMap(DocumentMetadata::getFieldKey, entry -> entry, (left, right) -> left));
+        entityManager.flush();
+        Map<String, StoredValue> stored = new LinkedHashMap<>();
+        jdbcTemplate.query(SELECT_SQL, rs -> {
+            stored.putIfAbsent(rs.getString("field_key"),
+                    new StoredValue(rs.getLong("id"), rs.getString("field_value")));
+        }, document.getId());
 
         Map<String, Object> safeMetadata = requestedMetadata != null ? requestedMetadata : Collections.emptyMap();
         OffsetDateTime now = OffsetDateTime.now();
-        Set<String> processed = new HashSet<>();
+        Timestamp createdAt = Timestamp.from(now.toInstant());
+        List<Object[]> inserts = new ArrayList<>();
+        List<Object[]> updates = new ArrayList<>();
+        List<Object[]> deletes = new ArrayList<>();
+        List<AuditService.FieldChange> changes = new ArrayList<>();
+        Map<String, Object> result = new LinkedHashMap<>();
 
         for (Map.Entry<String, Object> entry : safeMetadata.entrySet()) {
             String key = entry.getKey();
             Object newValue = entry.getValue();
-            String serializedValue = serializeValue(newValue);
-            DocumentMetadata current = byKey.get(key);
+            String serializedValue = valueCodec.encode(newValue);
+            StoredValue current = stored.remove(key);
             if (current == null) {
-                DocumentMetadata created = new DocumentMetadata();
-                created.setDocument(document);
-                created.setFieldKey(key);
-                created.setFieldValue(serializedValue);
-                created.setCreatedBy(user.userId());
-                created.setCreatedAt(now);
-                metadataRepository.save(created);
-                auditService.logFieldUpdate(document, key, null, newValue, "ADDED", user, now);
-            } else if (!Objects.equals(current.getFieldValue(), serializedValue)) {
-                Object oldValue = deserializeValue(current.getFieldValue());
-                current.setFieldValue(serializedValue);
-                current.setCreatedBy(user.userId());
-                current.setCreatedAt(now);
-                metadataRepository.save(current);
-                auditService.logFieldUpdate(document, key, oldValue, newValue, "UPDATED", user, now);
+                inserts.add(new Object[] {document.getId(), key, serializedValue, user.userId(), createdAt});
+                changes.add(new AuditService.FieldChange(key, null, newValue, "ADDED"));
+            } else if (!Objects.equals(current.value(), serializedValue)) {
+                updates.add(new Object[] {serializedValue, user.userId(), createdAt, current.id()});
+                changes.add(new AuditService.FieldChange(key, valueCodec.decode(current.value()), newValue, "UPDATED"));
             }
-            processed.add(key);
+            result.put(key, valueCodec.decode(serializedValue));
+        }
+
+        for (Map.Entry<String, StoredValue> removed : stored.entrySet()) {
+            deletes.add(new Object[] {removed.getValue().id()});
+            changes.add(new AuditService.FieldChange(removed.getKey(), valueCodec.decode(removed.getValue().value()),
+                    null, "REMOVED"));
+        }
+
+        if (!inserts.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_SQL, inserts);
+        }
+        if (!updates.isEmpty()) {
+            jdbcTemplate.batchUpdate(UPDATE_SQL, updates);
+        }
+        if (!deletes.isEmpty()) {
+            jdbcTemplate.batchUpdate(DELETE_SQL, deletes);
+        }
+        auditService.logFieldUpdates(document, changes, user, now);
+
+        searchProjectionService.refresh(document);
+        return result;
+    }
+
+    // Merge patch at the level of metadata keys: a value replaces the stored one whole, nested objects are not
+    // merged. Only the patched keys are read, for the audit trail, and written with one upsert batch on
+    // (document_id, field_key) and one delete batch. Unchanged values are neither written nor audited. A concurrent
+    // patch adding the same key makes the upsert fail with a DuplicateKeyException, answered with 409.
+    @Override
+    public PatchResult patchMetadata(DocumentParent document, Map<String, Object> patch, RequestUser user) {
+        Map<String, Object> result = new LinkedHashMap<>();
+        if (patch == null || patch.isEmpty()) {
+            return new PatchResult(result, false);
         }
+        entityManager.flush();
+        Map<String, String> stored = findStoredValues(document.getId(), new ArrayList<>(patch.keySet()));
 
-        for (DocumentMetadata metadata : existing) {
-            if (!processed.contains(metadata.getFieldKey())) {
-                metadataRepository.delete(metadata);
-                Object oldValue = deserializeValue(metadata.getFieldValue());
-                auditService.logFieldUpdate(document, metadata.getFieldKey(), oldValue, null, "REMOVED", user, now);
+        OffsetDateTime now = OffsetDateTime.now();
+        Timestamp createdAt = Timestamp.from(now.toInstant());
+        List<Object[]> upserts = new ArrayList<>();
+        List<Object[]> deletes = new ArrayList<>();
+        List<AuditService.FieldChange> changes = new ArrayList<>();
+
+        for (Map.Entry<String, Object> entry : patch.entrySet()) {
+            String key = entry.getKey();
+            Object newValue = entry.getValue();
+            boolean exists = stored.containsKey(key);
+            String currentValue = stored.get(key);
+            if (newValue == null) {
+                if (exists) {
+                    deletes.add(new Object[] {document.getId(), key});
+                    changes.add(new AuditService.FieldChange(key, valueCodec.decode(currentValue), null, "REMOVED"));
+                }
+                result.put(key, null);
+                continue;
             }
+            String serializedValue = valueCodec.encode(newValue);
+            if (!exists || !Objects.equals(currentValue, serializedValue)) {
+                upserts.add(new Object[] {document.getId(), key,
+                        serializedValue, user.userId(), createdAt,
+                        serializedValue, user.userId(), createdAt});
+                changes.add(exists
+                        ? new AuditService.FieldChange(key, valueCodec.decode(currentValue), newValue, "UPDATED")
+                        : new AuditService.FieldChange(key, null, newValue, "ADDED"));
+            }
+            result.put(key, valueCodec.decode(serializedValue));
         }
 
-        return getMetadata(document);
+        if (!upserts.isEmpty()) {
+            jdbcTemplate.batchUpdate(MERGE_SQL, upserts);
+        }
+        if (!deletes.isEmpty()) {
+            jdbcTemplate.batchUpdate(DELETE_KEY_SQL, deletes);
+        }
+        auditService.logFieldUpdates(document, changes, user, now);
+        return new PatchResult(result, !changes.isEmpty());
     }
 
     @Override
@@ -80,30 +176,43 @@ public class DefaultMetadataService implements MetadataService {
     public Map<String, Object> getMetadata(DocumentParent document) {
         return metadataRepository.findByDocument(document).stream()
                 .collect(Collectors.toMap(DocumentMetadata::getFieldKey,
-                        entry -> deserializeValue(entry.getFieldValue()),
+                        entry -> valueCodec.decode(entry.getFieldValue()),
                         (left, right) -> right,
                         LinkedHashMap::new));
     }
 
-    private String serializeValue(Object value) {
-        if (value == null) {
-            return null;
+    @Override
+    @Transactional(readOnly = true)
+    public Map<Long, Map<String, Object>> getMetadata(Collection<Long> documentIds) {
+        Map<Long, Map<String, Object>> metadata = new HashMap<>();
+        if (documentIds.isEmpty()) {
+            return metadata;
         }
-        try {
-            return objectMapper.writeValueAsString(value);
-        } catch (JsonProcessingException e) {
-            throw new IllegalArgumentException("Unable to serialize metadata value", e);
+        for (DocumentMetadataRepository.MetadataValue value : metadataRepository.findValuesByDocumentIds(documentIds)) {
+            metadata.computeIfAbsent(value.getDocumentId(), ignored -> new LinkedHashMap<>())
+                    .put(value.getFieldKey(), valueCodec.decode(value.getFieldValue()));
         }
+        return metadata;
     }
 
-    private Object deserializeValue(String value) {
-        if (value == null) {
-            return null;
-        }
-        try {
-            return objectMapper.readValue(value, Object.class);
-        } catch (JsonProcessingException e) {
-            return value;
+    private Map<String, String> findStoredValues(Long documentId, List<String> keys) {
+        Map<String, String> values = new HashMap<>();
+        for (int from = 0; from < keys.size(); from += MAX_IN_LIST_SIZE) {
+            List<String> chunk = keys.subList(from, Math.min(keys.size(), from + MAX_IN_LIST_SIZE));
+            Object[] parameters = new Object[chunk.size() + 1];
+            parameters[0] = documentId;
+            for (int index = 0; index < chunk.size(); index++) {
+                parameters[index + 1] = chunk.get(index);
+            }
+            String sql = "SELECT field_key, field_value FROM document_metadata WHERE document_id = ? AND field_key IN ("
+                    + String.join(", ", Collections.nCopies(chunk.size(), "?")) + ")";
+            jdbcTemplate.query(sql, rs -> {
+                values.put(rs.getString("field_key"), rs.getString("field_value"));
+            }, parameters);
         }
+        return values;
+    }
+
+    private record StoredValue(long id, String value) {
     }
 }
@@ -0,0 +1,13 @@
+package com.docflow.service;
+
+import com.docflow.context.RequestUser;
+import com.docflow.domain.DocumentStatus;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.Map;
+
+public interface DocumentChangeStreamService {
+
+    // Change events for documents a review search with these criteria would show, or has just stopped showing.
+    SseEmitter subscribe(String documentNumber, DocumentStatus status, Map<String, Object> dynamicFilters, RequestUser user);
+}
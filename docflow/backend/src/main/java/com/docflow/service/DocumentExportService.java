@@ -0,0 +1,26 @@
+package com.docflow.service;
+
+import com.docflow.domain.DocumentStatus;
+import com.docflow.service.export.DocumentExportFormat;
+import org.springframework.data.domain.Sort;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.OutputStream;
+import java.util.Map;
+
+@Transactional(readOnly = true)
+public interface DocumentExportService {
+
+    @Transactional(readOnly = true)
+    void exportDocuments(
+        String documentNumber,
+        DocumentStatus status,
+        String metadataKey,
+        String metadataValue,
+        Map<String, Object> dynamicFilters,
+        Sort sort,
+        DocumentExportFormat format,
+        boolean includeMetadata,
+        OutputStream outputStream
+    );
+}
@@ -0,0 +1,14 @@
+package com.docflow.service;
+
+import com.docflow.api.dto.DocumentFacetsResponse;
+import com.docflow.domain.DocumentStatus;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Map;
+
+@Transactional(readOnly = true)
+public interface DocumentFacetService {
+
+    @Transactional(readOnly = true)
+    DocumentFacetsResponse getFacets(String documentNumber, DocumentStatus status, Map<String, Object> dynamicFilters);
+}
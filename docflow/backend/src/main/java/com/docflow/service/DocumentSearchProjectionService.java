@@ -0,0 +1,25 @@
+package com.docflow.service;
+
+import com.docflow.api.dto.SearchProjectionRebuildResponse;
+import com.docflow.context.RequestUser;
+import com.docflow.domain.DocumentParent;
+import com.docflow.service.search.DocumentSearchFilter;
+import com.docflow.service.search.SearchProjectionLayout;
+import org.springframework.data.domain.Sort;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Optional;
+
+@Transactional
+public interface DocumentSearchProjectionService {
+
+    @Transactional
+    void refresh(DocumentParent document);
+
+    @Transactional(readOnly = true)
+    Optional<SearchProjectionLayout> layoutFor(List<DocumentSearchFilter> filters, Sort sort);
+
+    @Transactional
+    SearchProjectionRebuildResponse rebuild(RequestUser user);
+}
@@ -45,6 +45,10 @@ public interface DocumentService {
     @Transactional
     DocumentResponse updateMetadata(Long id, Map<String, Object> requestedMetadata, RequestUser user);
 
+    // The response carries only the patched metadata keys. A patch that changes nothing leaves the document untouched.
+    @Transactional
+    DocumentResponse patchMetadata(Long id, Map<String, Object> patch, RequestUser user);
+
     @Transactional(readOnly = true)
     List<AuditLog> getAuditTrail(Long id);
 
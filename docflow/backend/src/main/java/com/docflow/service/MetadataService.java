@@ -4,6 +4,7 @@ import com.docflow.context.RequestUser;
 import com.docflow.domain.DocumentParent;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.Map;
 
 @Transactional
@@ -12,6 +13,19 @@ public interface MetadataService {
     @Transactional
     Map<String, Object> persistMetadata(DocumentParent document, Map<String, Object> requestedMetadata, RequestUser user);
 
+    // JSON merge patch over the metadata keys: null removes a key, any other value replaces it. The result holds the
+    // patched keys only, removed ones mapped to null. On a change the caller refreshes the search projection once the
+    // document itself is updated.
+    @Transactional
+    PatchResult patchMetadata(DocumentParent document, Map<String, Object> patch, RequestUser user);
+
     @Transactional(readOnly = true)
     Map<String, Object> getMetadata(DocumentParent document);
+
+    // Metadata of several documents in one query; callers keep the ids within Oracle's IN-list limit.
+    @Transactional(readOnly = true)
+    Map<Long, Map<String, Object>> getMetadata(Collection<Long> documentIds);
+
+    record PatchResult(Map<String, Object> metadata, boolean changed) {
+    }
 }
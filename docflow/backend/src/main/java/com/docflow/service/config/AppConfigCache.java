@@ -0,0 +1,129 @@
+package com.docflow.service.config;
+
+import com.docflow.domain.repository.AppConfigRepository;
+import com.docflow.domain.repository.AppConfigRepository.ConfigVersion;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+
+// Holds app_config values and their parsed forms per node. Entries are versioned by updated_at; other nodes'
+// upserts are noticed by polling all versions at most once per refresh interval.
+@Component
+public class AppConfigCache {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(AppConfigCache.class);
+
+    private final AppConfigRepository appConfigRepository;
+    private final long refreshIntervalNanos;
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter invalidations;
+    private volatile long versionsCheckedAt;
+
+    public AppConfigCache(AppConfigRepository appConfigRepository,
+                          MeterRegistry meterRegistry,
+                          @Value("${docflow.config.cache.refresh-interval:5s}") Duration refreshInterval) {
+        this.appConfigRepository = appConfigRepository;
+        this.refreshIntervalNanos = refreshInterval.toNanos();
+        this.versionsCheckedAt = System.nanoTime();
+        this.hits = Counter.builder("docflow.config.cache.requests").tag("result", "hit").register(meterRegistry);
+        this.misses = Counter.builder("docflow.config.cache.requests").tag("result", "miss").register(meterRegistry);
+        this.invalidations = Counter.builder("docflow.config.cache.invalidations").register(meterRegistry);
+        Gauge.builder("docflow.config.cache.hit.ratio", this, AppConfigCache::hitRatio).register(meterRegistry);
+        Gauge.builder("docflow.config.cache.size", entries, Map::size).register(meterRegistry);
+    }
+
+    public Optional<String> value(String configKey) {
+        return Optional.ofNullable(entry(configKey).value());
+    }
+
+    // The parser result is shared between callers and must not be modified.
+    @SuppressWarnings("unchecked")
+    public <T> T parsed(String configKey, String view, Function<String, T> parser) {
+        Entry entry = entry(configKey);
+        return (T) entry.parsed().computeIfAbsent(view, ignored -> parser.apply(entry.value()));
+    }
+
+    // Evicts now and again after commit so a concurrent reader cannot re-cache the pre-commit value.
+    public void evict(String configKey) {
+        remove(configKey);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    remove(configKey);
+                }
+            });
+        }
+    }
+
+    private Entry entry(String configKey) {
+        refreshIfDue();
+        Entry cached = entries.get(configKey);
+        if (cached != null) {
+            hits.increment();
+            return cached;
+        }
+        misses.increment();
+        Entry loaded = appConfigRepository.findByConfigKey(configKey)
+            .map(config -> new Entry(config.getConfigValue(), config.getUpdatedAt(), true))
+            .orElseGet(() -> new Entry(null, null, false));
+        Entry existing = entries.putIfAbsent(configKey, loaded);
+        return existing != null ? existing : loaded;
+    }
+
+    private void refreshIfDue() {
+        long now = System.nanoTime();
+        if (entries.isEmpty() || now - versionsCheckedAt < refreshIntervalNanos) {
+            return;
+        }
+        versionsCheckedAt = now;
+
+        Map<String, OffsetDateTime> versions = new HashMap<>();
+        for (ConfigVersion version : appConfigRepository.findAllVersions()) {
+            versions.put(version.getConfigKey(), version.getUpdatedAt());
+        }
+        entries.forEach((configKey, entry) -> {
+            boolean stillPresent = versions.containsKey(configKey);
+            if (entry.present() != stillPresent || !Objects.equals(entry.updatedAt(), versions.get(configKey))) {
+                LOGGER.debug("Config '{}' changed on another node; evicting cached value", configKey);
+                remove(configKey);
+            }
+        });
+    }
+
+    private void remove(String configKey) {
+        if (entries.remove(configKey) != null) {
+            invalidations.increment();
+        }
+    }
+
+    private double hitRatio() {
+        double total = hits.count() + misses.count();
+        return total == 0 ? 0 : hits.count() / total;
+    }
+
+    private record Entry(String value, OffsetDateTime updatedAt, boolean present, ConcurrentMap<String, Object> parsed) {
+
+        private Entry(String value, OffsetDateTime updatedAt, boolean present) {
+            this(value, updatedAt, present, new ConcurrentHashMap<>());
+        }
+    }
+}
@@ -3,97 +3,111 @@ package com.docflow.service.config;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.stereotype.Component;
 
-import java.util.Collections;
+import java.util.ArrayList;
 import java.util.LinkedHashMap;
-import java.util.Locale;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.Set;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.stream.Collectors;
 
 @Component
 @ConfigurationProperties(prefix = "excel")
-public class DataInjectorProperties {
+public class DataInjectorProperties extends InjectionProfile {
 
-    private String targetTable;
-    private String primaryKey;
-    private Map<String, String> mappings = new LinkedHashMap<>();
-    private Map<String, String> extractors = new LinkedHashMap<>();
+    public static final String DEFAULT_PROFILE = "default";
 
-    private final Map<String, String> normalizedMappingKeys = new ConcurrentHashMap<>();
-    private final Map<String, String> normalizedExtractors = new ConcurrentHashMap<>();
+    private int batchSize = 500;
+    private int maxConcurrentSheets = 4;
+    private boolean deltaMode;
+    private CommitMode commitMode = CommitMode.SHEET;
+    private Map<String, InjectionProfile> profiles = new LinkedHashMap<>();
 
-    public String getTargetTable() {
-        return targetTable;
+    public int getBatchSize() {
+        return batchSize;
     }
 
-    public void setTargetTable(String targetTable) {
-        this.targetTable = targetTable;
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
     }
 
-    public String getPrimaryKey() {
-        return primaryKey;
+    public int getMaxConcurrentSheets() {
+        return maxConcurrentSheets;
     }
 
-    public void setPrimaryKey(String primaryKey) {
-        this.primaryKey = primaryKey;
+    public void setMaxConcurrentSheets(int maxConcurrentSheets) {
+        this.maxConcurrentSheets = maxConcurrentSheets;
     }
 
-    public Map<String, String> getMappings() {
-        return mappings;
+    public boolean isDeltaMode() {
+        return deltaMode;
     }
 
-    public void setMappings(Map<String, String> mappings) {
-        this.mappings = mappings != null ? new LinkedHashMap<>(mappings) : new LinkedHashMap<>();
-        normalizedMappingKeys.clear();
-        if (this.mappings != null) {
-            this.mappings.forEach((key, value) -> normalizedMappingKeys.put(normalize(key), value));
-        }
+    public void setDeltaMode(boolean deltaMode) {
+        this.deltaMode = deltaMode;
     }
 
-    public Map<String, String> getExtractors() {
-        return extractors;
+    public CommitMode getCommitMode() {
+        return commitMode;
     }
 
-    public void setExtractors(Map<String, String> extractors) {
-        this.extractors = extractors != null ? new LinkedHashMap<>(extractors) : new LinkedHashMap<>();
-        normalizedExtractors.clear();
-        if (this.extractors != null) {
-            this.extractors.forEach((key, value) -> normalizedExtractors.put(normalize(key), value));
-        }
+    public void setCommitMode(CommitMode commitMode) {
+        this.commitMode = commitMode != null ? commitMode : CommitMode.SHEET;
     }
 
-    public Optional<String> findMapping(String headerName) {
-        if (headerName == null) {
-            return Optional.empty();
-        }
-        String normalized = normalize(headerName);
-        if (normalizedMappingKeys.containsKey(normalized)) {
-            return Optional.ofNullable(normalizedMappingKeys.get(normalized));
-        }
-        return Optional.empty();
+    public Map<String, InjectionProfile> getProfiles() {
+        return profiles;
+    }
+
+    public void setProfiles(Map<String, InjectionProfile> profiles) {
+        this.profiles = profiles != null ? new LinkedHashMap<>(profiles) : new LinkedHashMap<>();
     }
 
-    public Optional<String> findExtractor(String column) {
-        if (column == null) {
-            return Optional.empty();
+    public List<InjectionProfile> namedProfiles() {
+        List<InjectionProfile> named = new ArrayList<>();
+        profiles.forEach((name, profile) -> {
+            if (profile != null) {
+                if (profile.getName() == null) {
+                    profile.setName(name);
+                }
+                named.add(profile);
+            }
+        });
+        return named;
+    }
+
+    public InjectionProfile defaultProfile() {
+        if (getName() == null) {
+            setName(DEFAULT_PROFILE);
         }
-        String normalized = normalize(column);
-        if (normalizedExtractors.containsKey(normalized)) {
-            return Optional.ofNullable(normalizedExtractors.get(normalized));
+        return this;
+    }
+
+    public Optional<InjectionProfile> findProfile(String name) {
+        if (name == null || name.isBlank() || DEFAULT_PROFILE.equalsIgnoreCase(name.trim())) {
+            return Optional.of(defaultProfile());
         }
-        return Optional.empty();
+        return namedProfiles().stream()
+                .filter(profile -> profile.getName().equalsIgnoreCase(name.trim()))
+                .findFirst();
     }
 
-    public Set<String> knownColumns() {
-        Map<String, String> safeMappings = mappings != null ? mappings : Collections.emptyMap();
-        return safeMappings.values().stream()
-                .filter(value -> value != null && !value.isBlank())
-                .collect(Collectors.toSet());
+    public Optional<InjectionProfile> findProfileForSheet(String sheetName, int sheetIndex) {
+        for (InjectionProfile profile : namedProfiles()) {
+            if (profile.matchesSheet(sheetName)) {
+                return Optional.of(profile);
+            }
+        }
+        InjectionProfile fallback = defaultProfile();
+        if (fallback.hasSheetSelector()) {
+            return fallback.matchesSheet(sheetName) ? Optional.of(fallback) : Optional.empty();
+        }
+        boolean configured = fallback.getTargetTable() != null && !fallback.getTargetTable().isBlank();
+        return configured && sheetIndex == 0 ? Optional.of(fallback) : Optional.empty();
     }
 
-    private String normalize(String value) {
-        return value == null ? "" : value.replaceAll("[^A-Za-z0-9]", "").toLowerCase(Locale.ROOT);
+    public enum CommitMode {
+        // One transaction per sheet; any failing row rolls the sheet back.
+        SHEET,
+        // One transaction per batch; failing batches are bisected and the bad rows reported.
+        CHUNK
     }
 }
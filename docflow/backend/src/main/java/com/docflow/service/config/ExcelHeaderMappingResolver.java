@@ -6,8 +6,10 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
@@ -27,25 +29,45 @@ public class ExcelHeaderMappingResolver {
     }
 
     public HeaderDescriptor resolve(Row headerRow) {
+        return resolve(headerRow, properties.defaultProfile());
+    }
+
+    public HeaderDescriptor resolve(Row headerRow, InjectionProfile profile) {
         if (headerRow == null) {
             throw new IllegalArgumentException("Uploaded Excel file does not contain a header row");
         }
 
-        Map<Integer, ColumnBinding> resolved = new LinkedHashMap<>();
-        Set<String> ignored = new LinkedHashSet<>();
-
+        List<String> headers = new ArrayList<>();
         short lastCellNum = headerRow.getLastCellNum();
         for (int columnIndex = 0; columnIndex < lastCellNum; columnIndex++) {
             Cell cell = headerRow.getCell(columnIndex);
-            String headerText = cell != null ? Objects.toString(readHeaderValue(cell), null) : null;
+            headers.add(cell != null ? Objects.toString(readHeaderValue(cell), null) : null);
+        }
+        return resolve(headers, profile);
+    }
+
+    public HeaderDescriptor resolve(List<String> headers) {
+        return resolve(headers, properties.defaultProfile());
+    }
+
+    public HeaderDescriptor resolve(List<String> headers, InjectionProfile profile) {
+        if (headers == null || headers.isEmpty()) {
+            throw new IllegalArgumentException("Uploaded file does not contain a header row");
+        }
+
+        Map<Integer, ColumnBinding> resolved = new LinkedHashMap<>();
+        Set<String> ignored = new LinkedHashSet<>();
+
+        for (int columnIndex = 0; columnIndex < headers.size(); columnIndex++) {
+            String headerText = headers.get(columnIndex);
             if (headerText == null || headerText.isBlank()) {
                 ignored.add("Column" + (columnIndex + 1));
                 continue;
             }
 
             String trimmedHeader = headerText.trim();
-            Optional<String> explicit = properties.findMapping(trimmedHeader);
-            String target = explicit.orElseGet(() -> resolveDirect(trimmedHeader).orElse(null));
+            Optional<String> explicit = profile.findMapping(trimmedHeader);
+            String target = explicit.orElseGet(() -> resolveDirect(trimmedHeader, profile).orElse(null));
 
             if (target == null) {
                 LOGGER.info("Ignoring unmapped header '{}'", trimmedHeader);
@@ -53,7 +75,7 @@ public class ExcelHeaderMappingResolver {
                 continue;
             }
 
-            Pattern extractor = properties.findExtractor(target)
+            Pattern extractor = profile.findExtractor(target)
                     .filter(regex -> !regex.isBlank())
                     .map(this::compilePattern)
                     .orElse(null);
@@ -64,10 +86,10 @@ public class ExcelHeaderMappingResolver {
         return new HeaderDescriptor(resolved, ignored);
     }
 
-    private Optional<String> resolveDirect(String header) {
-        Set<String> knownColumns = new LinkedHashSet<>(properties.knownColumns());
-        if (properties.getPrimaryKey() != null) {
-            knownColumns.add(properties.getPrimaryKey());
+    private Optional<String> resolveDirect(String header, InjectionProfile profile) {
+        Set<String> knownColumns = new LinkedHashSet<>(profile.knownColumns());
+        if (profile.getPrimaryKey() != null) {
+            knownColumns.add(profile.getPrimaryKey());
         }
         String normalizedHeader = normalize(header);
         return knownColumns.stream()
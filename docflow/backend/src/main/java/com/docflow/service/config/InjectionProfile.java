@@ -0,0 +1,159 @@
+package com.docflow.service.config;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+public class InjectionProfile {
+
+    private String name;
+    private String sheet;
+    private String sheetPattern;
+    private String targetTable;
+    private String primaryKey;
+    private Map<String, String> mappings = new LinkedHashMap<>();
+    private Map<String, String> extractors = new LinkedHashMap<>();
+
+    private final Map<String, String> normalizedMappingKeys = new ConcurrentHashMap<>();
+    private final Map<String, String> normalizedExtractors = new ConcurrentHashMap<>();
+    private volatile Pattern compiledSheetPattern;
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public String getSheet() {
+        return sheet;
+    }
+
+    public void setSheet(String sheet) {
+        this.sheet = sheet;
+    }
+
+    public String getSheetPattern() {
+        return sheetPattern;
+    }
+
+    public void setSheetPattern(String sheetPattern) {
+        this.sheetPattern = sheetPattern;
+        this.compiledSheetPattern = null;
+    }
+
+    public String getTargetTable() {
+        return targetTable;
+    }
+
+    public void setTargetTable(String targetTable) {
+        this.targetTable = targetTable;
+    }
+
+    public String getPrimaryKey() {
+        return primaryKey;
+    }
+
+    public void setPrimaryKey(String primaryKey) {
+        this.primaryKey = primaryKey;
+    }
+
+    public Map<String, String> getMappings() {
+        return mappings;
+    }
+
+    public void setMappings(Map<String, String> mappings) {
+        this.mappings = mappings != null ? new LinkedHashMap<>(mappings) : new LinkedHashMap<>();
+        normalizedMappingKeys.clear();
+        if (this.mappings != null) {
+            this.mappings.forEach((key, value) -> normalizedMappingKeys.put(normalize(key), value));
+        }
+    }
+
+    public Map<String, String> getExtractors() {
+        return extractors;
+    }
+
+    public void setExtractors(Map<String, String> extractors) {
+        this.extractors = extractors != null ? new LinkedHashMap<>(extractors) : new LinkedHashMap<>();
+        normalizedExtractors.clear();
+        if (this.extractors != null) {
+            this.extractors.forEach((key, value) -> normalizedExtractors.put(normalize(key), value));
+        }
+    }
+
+    public boolean hasSheetSelector() {
+        return (sheet != null && !sheet.isBlank()) || (sheetPattern != null && !sheetPattern.isBlank());
+    }
+
+    public boolean matchesSheet(String sheetName) {
+        if (sheetName == null) {
+            return false;
+        }
+        if (sheet != null && !sheet.isBlank() && sheet.trim().equalsIgnoreCase(sheetName.trim())) {
+            return true;
+        }
+        if (sheetPattern == null || sheetPattern.isBlank()) {
+            return false;
+        }
+        Pattern pattern = compiledSheetPattern;
+        if (pattern == null) {
+            pattern = Pattern.compile(sheetPattern, Pattern.CASE_INSENSITIVE);
+            compiledSheetPattern = pattern;
+        }
+        return pattern.matcher(sheetName).matches();
+    }
+
+    public Optional<String> findMapping(String headerName) {
+        if (headerName == null) {
+            return Optional.empty();
+        }
+        String normalized = normalize(headerName);
+        if (normalizedMappingKeys.containsKey(normalized)) {
+            return Optional.ofNullable(normalizedMappingKeys.get(normalized));
+        }
+        return Optional.empty();
+    }
+
+    public Optional<String> findExtractor(String column) {
+        if (column == null) {
+            return Optional.empty();
+        }
+        String normalized = normalize(column);
+        if (normalizedExtractors.containsKey(normalized)) {
+            return Optional.ofNullable(normalizedExtractors.get(normalized));
+        }
+        return Optional.empty();
+    }
+
+    public Set<String> knownColumns() {
+        Map<String, String> safeMappings = mappings != null ? mappings : Collections.emptyMap();
+        return safeMappings.values().stream()
+                .filter(value -> value != null && !value.isBlank())
+                .collect(Collectors.toSet());
+    }
+
+    // Stable description of everything that changes how a file is loaded under this profile.
+    public String describe() {
+        return String.join("|",
+            String.valueOf(name),
+            String.valueOf(sheet),
+            String.valueOf(sheetPattern),
+            String.valueOf(targetTable),
+            String.valueOf(primaryKey),
+            new TreeMap<>(mappings).toString(),
+            new TreeMap<>(extractors).toString());
+    }
+
+    private String normalize(String value) {
+        return value == null ? "" : value.replaceAll("[^A-Za-z0-9]", "").toLowerCase(Locale.ROOT);
+    }
+}
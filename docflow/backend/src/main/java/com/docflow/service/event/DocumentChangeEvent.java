@@ -0,0 +1,25 @@
+package com.docflow.service.event;
+
+import com.docflow.domain.DocumentStatus;
+
+import java.time.OffsetDateTime;
+
+// Published by DefaultDocumentService for every document write. previousStatus is null for creations and equals
+// newStatus when only metadata changed.
+public record DocumentChangeEvent(Long documentId,
+                                  Type type,
+                                  DocumentStatus previousStatus,
+                                  DocumentStatus newStatus,
+                                  String changedBy,
+                                  OffsetDateTime changedAt) {
+
+    public enum Type {
+        CREATED,
+        STATUS_CHANGED,
+        METADATA_UPDATED
+    }
+
+    public boolean affects(DocumentStatus status) {
+        return status == null || status == previousStatus || status == newStatus;
+    }
+}
@@ -0,0 +1,32 @@
+package com.docflow.service.export;
+
+import java.util.Locale;
+
+public enum DocumentExportFormat {
+
+    CSV("text/csv", "csv"),
+    NDJSON("application/x-ndjson", "ndjson");
+
+    private final String contentType;
+    private final String extension;
+
+    DocumentExportFormat(String contentType, String extension) {
+        this.contentType = contentType;
+        this.extension = extension;
+    }
+
+    public String contentType() {
+        return contentType;
+    }
+
+    public String extension() {
+        return extension;
+    }
+
+    public static DocumentExportFormat parse(String value) {
+        if (value == null || value.isBlank()) {
+            return CSV;
+        }
+        return valueOf(value.trim().toUpperCase(Locale.ROOT));
+    }
+}
@@ -0,0 +1,116 @@
+package com.docflow.service.export;
+
+import com.docflow.domain.DocumentParent;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.OffsetDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+// Renders exported documents one row at a time. Metadata keys differ per document, so CSV carries them as a single
+// JSON column instead of a header that would need every row up front.
+public class DocumentExportWriter {
+
+    private static final String CSV_HEADER = "id,documentNumber,title,status,createdBy,createdAt,updatedBy,updatedAt";
+
+    private final DocumentExportFormat format;
+    private final boolean includeMetadata;
+    private final ObjectMapper objectMapper;
+    private final Writer writer;
+
+    public DocumentExportWriter(DocumentExportFormat format,
+                                boolean includeMetadata,
+                                ObjectMapper objectMapper,
+                                OutputStream outputStream) {
+        this.format = format;
+        this.includeMetadata = includeMetadata;
+        this.objectMapper = objectMapper;
+        this.writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8), 64 * 1024);
+    }
+
+    // Flushed straight away so the client sees the response start before the query has produced a row.
+    public void writeHeader() {
+        if (format == DocumentExportFormat.CSV) {
+            write(includeMetadata ? CSV_HEADER + ",metadata\r\n" : CSV_HEADER + "\r\n");
+        }
+        flush();
+    }
+
+    public void writeDocument(DocumentParent document, Map<String, Object> metadata) {
+        if (format == DocumentExportFormat.CSV) {
+            StringBuilder line = new StringBuilder(256);
+            line.append(document.getId()).append(',')
+                .append(escape(document.getDocumentNumber())).append(',')
+                .append(escape(document.getTitle())).append(',')
+                .append(document.getStatus() != null ? document.getStatus().name() : "").append(',')
+                .append(escape(document.getCreatedBy())).append(',')
+                .append(timestamp(document.getCreatedAt())).append(',')
+                .append(escape(document.getUpdatedBy())).append(',')
+                .append(timestamp(document.getUpdatedAt()));
+            if (includeMetadata) {
+                line.append(',').append(escape(toJson(metadata != null ? metadata : Map.of())));
+            }
+            write(line.append("\r\n").toString());
+        } else {
+            Map<String, Object> row = new LinkedHashMap<>();
+            row.put("id", document.getId());
+            row.put("documentNumber", document.getDocumentNumber());
+            row.put("title", document.getTitle());
+            row.put("status", document.getStatus());
+            row.put("createdBy", document.getCreatedBy());
+            row.put("createdAt", timestamp(document.getCreatedAt()));
+            row.put("updatedBy", document.getUpdatedBy());
+            row.put("updatedAt", document.getUpdatedAt() != null ? timestamp(document.getUpdatedAt()) : null);
+            if (includeMetadata) {
+                row.put("metadata", metadata != null ? metadata : Map.of());
+            }
+            write(toJson(row) + "\n");
+        }
+    }
+
+    public void flush() {
+        try {
+            writer.flush();
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Export stream closed by client", ex);
+        }
+    }
+
+    private void write(String text) {
+        try {
+            writer.write(text);
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Export stream closed by client", ex);
+        }
+    }
+
+    private String toJson(Object value) {
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Unable to serialize exported document", ex);
+        }
+    }
+
+    private static String timestamp(OffsetDateTime value) {
+        return value != null ? value.toString() : "";
+    }
+
+    private static String escape(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+}
@@ -0,0 +1,287 @@
+package com.docflow.service.injector;
+
+import com.docflow.service.injector.IngestPlan.IngestRow;
+import com.docflow.service.injector.IngestPlan.StatementTemplate;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.IntConsumer;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+// Buffers rows of one target table and applies them with one key lookup and one JDBC batch per statement shape.
+// With a chunk transaction each flush commits on its own, and a failing chunk is bisected to isolate the bad rows.
+public class BatchedRowWriter {
+
+    private static final int MAX_IN_LIST_SIZE = 1000;
+    private static final int MAX_RECORDED_FAILURES = 10_000;
+    private static final Pattern QUALIFIED_COLUMN = Pattern.compile("\"[^\"]+\"\\.\"[^\"]+\"\\.\"([^\"]+)\"");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final IngestPlan plan;
+    private final int batchSize;
+    private final List<PendingRow> pending;
+    private final RowFingerprintStore fingerprintStore;
+    private final MessageDigest digest;
+    private final TransactionTemplate chunkTransaction;
+    private final IntConsumer batchListener;
+    private final List<RowFailure> failures = new ArrayList<>();
+
+    private int inserted;
+    private int updated;
+    private int unchanged;
+    private int skipped;
+    private int failed;
+    private int batches;
+    private int roundTrips;
+
+    public BatchedRowWriter(JdbcTemplate jdbcTemplate, IngestPlan plan, int batchSize) {
+        this(jdbcTemplate, plan, batchSize, null, null, null);
+    }
+
+    // With a fingerprint store, existing rows whose content hash is unchanged are not updated. The batch listener,
+    // if any, receives the row count of every flush.
+    public BatchedRowWriter(JdbcTemplate jdbcTemplate, IngestPlan plan, int batchSize,
+                            RowFingerprintStore fingerprintStore, TransactionTemplate chunkTransaction,
+                            IntConsumer batchListener) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.plan = plan;
+        this.batchSize = Math.max(1, batchSize);
+        this.pending = new ArrayList<>(this.batchSize);
+        this.fingerprintStore = fingerprintStore;
+        this.digest = fingerprintStore != null ? sha256() : null;
+        this.chunkTransaction = chunkTransaction;
+        this.batchListener = batchListener;
+    }
+
+    public void add(IngestRow row, long rowNumber) {
+        pending.add(new PendingRow(row, rowNumber));
+        if (pending.size() >= batchSize) {
+            flush();
+        }
+    }
+
+    public void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        List<PendingRow> rows = new ArrayList<>(pending);
+        pending.clear();
+        if (chunkTransaction == null) {
+            record(apply(rows));
+        } else {
+            applyIsolated(rows);
+        }
+        batches++;
+        if (batchListener != null) {
+            batchListener.accept(rows.size());
+        }
+    }
+
+    private void applyIsolated(List<PendingRow> rows) {
+        try {
+            record(chunkTransaction.execute(status -> apply(rows)));
+        } catch (DataAccessException ex) {
+            if (rows.size() == 1) {
+                recordFailure(rows.get(0), ex);
+                return;
+            }
+            int middle = rows.size() >>> 1;
+            applyIsolated(rows.subList(0, middle));
+            applyIsolated(rows.subList(middle, rows.size()));
+        }
+    }
+
+    private ChunkCounts apply(List<PendingRow> rows) {
+        ChunkCounts counts = new ChunkCounts();
+        Set<String> existingKeys = findExistingKeys(rows);
+        Map<String, String> storedFingerprints = findFingerprints(existingKeys);
+        Map<String, String> changedFingerprints = new LinkedHashMap<>();
+        Set<String> chunkKeys = new HashSet<>();
+        Set<String> insertedKeys = new HashSet<>();
+        Map<StatementTemplate, List<Object[]>> inserts = new LinkedHashMap<>();
+        Map<StatementTemplate, List<Object[]>> updates = new LinkedHashMap<>();
+
+        for (PendingRow pendingRow : rows) {
+            IngestRow row = pendingRow.row();
+            String key = keyOf(plan.primaryKeyValue(row));
+            // Batches run per template, not in source order. Before a key repeats, the batches built so far are
+            // executed, so its rows land in file order and the stored fingerprint matches the last of them.
+            if (!chunkKeys.add(key)) {
+                executeBatches(inserts, updates, counts);
+            }
+            String fingerprint = digest != null ? plan.fingerprint(row, digest) : null;
+            boolean exists = existingKeys.contains(key) || insertedKeys.contains(key);
+            String currentFingerprint = changedFingerprints.containsKey(key)
+                ? changedFingerprints.get(key)
+                : storedFingerprints.get(key);
+
+            if (fingerprint != null && exists && fingerprint.equals(currentFingerprint)) {
+                counts.unchanged++;
+                continue;
+            }
+            if (!exists) {
+                insertedKeys.add(key);
+                StatementTemplate insert = plan.insertTemplate(row);
+                inserts.computeIfAbsent(insert, template -> new ArrayList<>()).add(insert.bind(row));
+            } else {
+                StatementTemplate update = plan.updateTemplate(row);
+                if (update.isEmpty()) {
+                    counts.skipped++;
+                    continue;
+                }
+                updates.computeIfAbsent(update, template -> new ArrayList<>()).add(update.bind(row));
+            }
+            if (fingerprint != null) {
+                changedFingerprints.put(key, fingerprint);
+            }
+        }
+
+        executeBatches(inserts, updates, counts);
+        if (!changedFingerprints.isEmpty()) {
+            roundTrips++;
+            fingerprintStore.save(changedFingerprints);
+        }
+        return counts;
+    }
+
+    private void executeBatches(Map<StatementTemplate, List<Object[]>> inserts,
+                                Map<StatementTemplate, List<Object[]>> updates,
+                                ChunkCounts counts) {
+        inserts.forEach((template, parameters) -> {
+            roundTrips++;
+            jdbcTemplate.batchUpdate(template.sql(), parameters);
+            counts.inserted += parameters.size();
+        });
+        updates.forEach((template, parameters) -> {
+            roundTrips++;
+            int[] results = jdbcTemplate.batchUpdate(template.sql(), parameters);
+            for (int result : results) {
+                if (result > 0 || result == Statement.SUCCESS_NO_INFO) {
+                    counts.updated++;
+                } else {
+                    counts.skipped++;
+                }
+            }
+        });
+        inserts.clear();
+        updates.clear();
+    }
+
+    private void record(ChunkCounts counts) {
+        inserted += counts.inserted;
+        updated += counts.updated;
+        unchanged += counts.unchanged;
+        skipped += counts.skipped;
+    }
+
+    private void recordFailure(PendingRow row, DataAccessException ex) {
+        failed++;
+        if (failures.size() >= MAX_RECORDED_FAILURES) {
+            return;
+        }
+        String message = ex.getMostSpecificCause().getMessage();
+        String reason = message != null
+            ? message.lines().findFirst().orElse(message).trim()
+            : ex.getClass().getSimpleName();
+        Matcher column = QUALIFIED_COLUMN.matcher(reason);
+        failures.add(new RowFailure(row.rowNumber(), column.find() ? column.group(1) : null, reason));
+    }
+
+    public int getInserted() {
+        return inserted;
+    }
+
+    public int getUpdated() {
+        return updated;
+    }
+
+    public int getUnchanged() {
+        return unchanged;
+    }
+
+    public int getFailed() {
+        return failed;
+    }
+
+    public List<RowFailure> getFailures() {
+        return failures;
+    }
+
+    public int getSkipped() {
+        return skipped;
+    }
+
+    public int getBatches() {
+        return batches;
+    }
+
+    public int getRoundTrips() {
+        return roundTrips;
+    }
+
+    private Set<String> findExistingKeys(List<PendingRow> rows) {
+        Set<String> existing = new HashSet<>();
+        for (int start = 0; start < rows.size(); start += MAX_IN_LIST_SIZE) {
+            List<PendingRow> chunk = rows.subList(start, Math.min(rows.size(), start + MAX_IN_LIST_SIZE));
+            Object[] keys = new Object[chunk.size()];
+            for (int index = 0; index < keys.length; index++) {
+                keys[index] = plan.primaryKeyValue(chunk.get(index).row());
+            }
+            jdbcTemplate.query(plan.existingKeysSql(keys.length), resultSet -> {
+                existing.add(keyOf(resultSet.getObject(1)));
+            }, keys);
+            roundTrips++;
+        }
+        return existing;
+    }
+
+    private Map<String, String> findFingerprints(Set<String> keys) {
+        if (fingerprintStore == null || keys.isEmpty()) {
+            return Map.of();
+        }
+        List<String> orderedKeys = new ArrayList<>(keys);
+        Map<String, String> fingerprints = new HashMap<>();
+        for (int start = 0; start < orderedKeys.size(); start += MAX_IN_LIST_SIZE) {
+            fingerprints.putAll(fingerprintStore.find(
+                orderedKeys.subList(start, Math.min(orderedKeys.size(), start + MAX_IN_LIST_SIZE))));
+            roundTrips++;
+        }
+        return fingerprints;
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 is not available", ex);
+        }
+    }
+
+    static String keyOf(Object value) {
+        return value != null ? IngestPlan.canonicalValue(value) : null;
+    }
+
+    private record PendingRow(IngestRow row, long rowNumber) {
+    }
+
+    private static final class ChunkCounts {
+
+        private int inserted;
+        private int updated;
+        private int unchanged;
+        private int skipped;
+    }
+}
@@ -0,0 +1,57 @@
+package com.docflow.service.injector;
+
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+// Keeps the most recent row error reports in memory so the upload response can link to a CSV download.
+@Component
+public class DataInjectorErrorReportStore {
+
+    private static final int MAX_REPORTS = 50;
+
+    private final Map<String, List<ReportLine>> reports = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, List<ReportLine>> eldest) {
+            return size() > MAX_REPORTS;
+        }
+    };
+
+    public synchronized String store(List<ReportLine> lines) {
+        String reportId = UUID.randomUUID().toString();
+        reports.put(reportId, List.copyOf(lines));
+        return reportId;
+    }
+
+    public synchronized Optional<String> renderCsv(String reportId) {
+        List<ReportLine> lines = reports.get(reportId);
+        if (lines == null) {
+            return Optional.empty();
+        }
+        StringBuilder csv = new StringBuilder("sheet,row,column,reason\r\n");
+        for (ReportLine line : lines) {
+            csv.append(escape(line.sheetName())).append(',')
+                .append(line.failure().rowNumber()).append(',')
+                .append(escape(line.failure().column())).append(',')
+                .append(escape(line.failure().reason())).append("\r\n");
+        }
+        return Optional.of(csv.toString());
+    }
+
+    private static String escape(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+
+    public record ReportLine(String sheetName, RowFailure failure) {
+    }
+}
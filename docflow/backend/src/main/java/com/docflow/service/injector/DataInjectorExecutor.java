@@ -0,0 +1,56 @@
+package com.docflow.service.injector;
+
+import com.docflow.context.RequestUserTaskDecorator;
+import com.docflow.service.config.DataInjectorProperties;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+// Kept out of the context as an Executor bean so Boot's applicationTaskExecutor stays auto-configured.
+// With spring.threads.virtual.enabled (Java 21) sheet writes run on virtual threads, still capped at max-concurrent-sheets
+// so parallel sheets cannot exhaust the connection pool.
+@Component
+public class DataInjectorExecutor implements DisposableBean {
+
+    private final AsyncTaskExecutor delegate;
+
+    public DataInjectorExecutor(DataInjectorProperties properties,
+                                RequestUserTaskDecorator taskDecorator,
+                                @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        int threads = Math.max(1, properties.getMaxConcurrentSheets());
+        if (virtualThreads) {
+            SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("data-injector-");
+            executor.setVirtualThreads(true);
+            executor.setConcurrencyLimit(threads);
+            executor.setTaskDecorator(taskDecorator);
+            this.delegate = executor;
+        } else {
+            ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+            executor.setCorePoolSize(threads);
+            executor.setMaxPoolSize(threads);
+            executor.setThreadNamePrefix("data-injector-");
+            executor.setTaskDecorator(taskDecorator);
+            executor.initialize();
+            this.delegate = executor;
+        }
+    }
+
+    public <T> CompletableFuture<T> submit(Supplier<T> task) {
+        return CompletableFuture.supplyAsync(task, delegate);
+    }
+
+    @Override
+    public void destroy() throws Exception {
+        if (delegate instanceof DisposableBean disposable) {
+            disposable.destroy();
+        } else if (delegate instanceof AutoCloseable closeable) {
+            closeable.close();
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.docflow.service.injector;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Optional;
+
+// Remembers checksums of successfully loaded files so that an identical re-upload can be skipped entirely.
+@Component
+public class DataInjectorLoadRegistry {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public DataInjectorLoadRegistry(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public String checksum(MultipartFile file) {
+        MessageDigest digest = sha256();
+        byte[] buffer = new byte[64 * 1024];
+        try (InputStream inputStream = file.getInputStream()) {
+            int read;
+            while ((read = inputStream.read(buffer)) != -1) {
+                digest.update(buffer, 0, read);
+            }
+        } catch (IOException ex) {
+            throw new IllegalStateException("Unable to read uploaded file", ex);
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    // The scope describes how the file was interpreted (profiles, delimiter) so a mapping change forces a reload.
+    public String scope(String description) {
+        return HexFormat.of().formatHex(sha256().digest(description.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    public Optional<Integer> findCompletedLoad(String checksum, String scope) {
+        List<Integer> totals = jdbcTemplate.queryForList(
+            "SELECT total_rows FROM data_injector_load WHERE file_checksum = ? AND load_scope = ? ORDER BY loaded_at DESC",
+            Integer.class, checksum, scope);
+        return totals.stream().findFirst();
+    }
+
+    public void recordCompletedLoad(String checksum, String scope, String fileName, int totalRows, String loadedBy) {
+        jdbcTemplate.update(
+            "INSERT INTO data_injector_load (file_checksum, load_scope, file_name, total_rows, loaded_by, loaded_at) "
+                + "VALUES (?, ?, ?, ?, ?, SYSTIMESTAMP)",
+            checksum, scope, fileName, totalRows, loadedBy);
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 is not available", ex);
+        }
+    }
+}
@@ -0,0 +1,179 @@
+package com.docflow.service.injector;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+// RFC 4180 style reader that reuses its read and record buffers; Strings are only created for requested fields.
+public final class DelimitedRowReader implements Closeable {
+
+    private static final int DEFAULT_BUFFER_SIZE = 64 * 1024;
+    private static final char QUOTE = '"';
+    private static final char BYTE_ORDER_MARK = '\uFEFF';
+
+    private final Reader reader;
+    private final char delimiter;
+    private final char[] buffer;
+    private int position;
+    private int limit;
+
+    private char[] record = new char[1024];
+    private int recordLength;
+    private int[] fieldStarts = new int[32];
+    private int[] fieldEnds = new int[32];
+    private int fieldCount;
+    private long recordNumber;
+
+    public DelimitedRowReader(Reader reader, char delimiter) {
+        this(reader, delimiter, DEFAULT_BUFFER_SIZE);
+    }
+
+    public DelimitedRowReader(Reader reader, char delimiter, int bufferSize) {
+        if (reader == null) {
+            throw new IllegalArgumentException("Reader must not be null");
+        }
+        if (delimiter == QUOTE || delimiter == '\r' || delimiter == '\n') {
+            throw new IllegalArgumentException("Unsupported delimiter: " + delimiter);
+        }
+        this.reader = reader;
+        this.delimiter = delimiter;
+        this.buffer = new char[Math.max(bufferSize, 16)];
+    }
+
+    public boolean next() throws IOException {
+        recordLength = 0;
+        fieldCount = 0;
+        if (!ensureAvailable()) {
+            return false;
+        }
+        if (recordNumber == 0 && buffer[position] == BYTE_ORDER_MARK) {
+            position++;
+        }
+
+        int fieldStart = 0;
+        boolean inQuotes = false;
+        while (true) {
+            if (!ensureAvailable()) {
+                if (inQuotes) {
+                    throw new IllegalArgumentException("Unterminated quoted field in record " + (recordNumber + 1));
+                }
+                endField(fieldStart);
+                break;
+            }
+            char current = buffer[position++];
+            if (inQuotes) {
+                if (current != QUOTE) {
+                    append(current);
+                } else if (ensureAvailable() && buffer[position] == QUOTE) {
+                    position++;
+                    append(QUOTE);
+                } else {
+                    inQuotes = false;
+                }
+            } else if (current == delimiter) {
+                endField(fieldStart);
+                fieldStart = recordLength;
+            } else if (current == QUOTE) {
+                inQuotes = true;
+            } else if (current == '\n') {
+                endField(fieldStart);
+                break;
+            } else if (current == '\r') {
+                if (ensureAvailable() && buffer[position] == '\n') {
+                    position++;
+                }
+                endField(fieldStart);
+                break;
+            } else {
+                append(current);
+            }
+        }
+
+        recordNumber++;
+        return true;
+    }
+
+    public long recordNumber() {
+        return recordNumber;
+    }
+
+    public int fieldCount() {
+        return fieldCount;
+    }
+
+    public String value(int index) {
+        if (index < 0 || index >= fieldCount) {
+            return null;
+        }
+        int start = trimmedStart(index);
+        int end = trimmedEnd(index);
+        if (start >= end) {
+            return null;
+        }
+        return new String(record, start, end - start);
+    }
+
+    public List<String> values() {
+        List<String> values = new ArrayList<>(fieldCount);
+        for (int index = 0; index < fieldCount; index++) {
+            values.add(value(index));
+        }
+        return values;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    private int trimmedStart(int index) {
+        int start = fieldStarts[index];
+        int end = fieldEnds[index];
+        while (start < end && record[start] <= ' ') {
+            start++;
+        }
+        return start;
+    }
+
+    private int trimmedEnd(int index) {
+        int start = fieldStarts[index];
+        int end = fieldEnds[index];
+        while (end > start && record[end - 1] <= ' ') {
+            end--;
+        }
+        return end;
+    }
+
+    private boolean ensureAvailable() throws IOException {
+        if (position < limit) {
+            return true;
+        }
+        int read = reader.read(buffer, 0, buffer.length);
+        while (read == 0) {
+            read = reader.read(buffer, 0, buffer.length);
+        }
+        position = 0;
+        limit = Math.max(read, 0);
+        return read > 0;
+    }
+
+    private void append(char value) {
+        if (recordLength == record.length) {
+            record = Arrays.copyOf(record, record.length * 2);
+        }
+        record[recordLength++] = value;
+    }
+
+    private void endField(int fieldStart) {
+        if (fieldCount == fieldStarts.length) {
+            fieldStarts = Arrays.copyOf(fieldStarts, fieldStarts.length * 2);
+            fieldEnds = Arrays.copyOf(fieldEnds, fieldEnds.length * 2);
+        }
+        fieldStarts[fieldCount] = fieldStart;
+        fieldEnds[fieldCount] = recordLength;
+        fieldCount++;
+    }
+}
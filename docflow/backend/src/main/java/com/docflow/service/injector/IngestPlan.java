@@ -0,0 +1,331 @@
+package com.docflow.service.injector;
+
+import com.docflow.service.config.ExcelHeaderMappingResolver.ColumnBinding;
+import com.docflow.service.config.ExcelHeaderMappingResolver.HeaderDescriptor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.sql.Date;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.IntFunction;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+// Built once per upload from the resolved header; row mapping and SQL generation then avoid regex and string work.
+public final class IngestPlan {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(IngestPlan.class);
+    private static final Pattern COLUMN_NAME = Pattern.compile("[A-Za-z0-9_]+");
+
+    private final String tableName;
+    private final String primaryKeyColumn;
+    private final String[] slotColumns;
+    private final ColumnPlan[] columns;
+    private final int primaryKeySlot;
+    private final Map<ColumnSignature, StatementTemplate> insertTemplates = new ConcurrentHashMap<>();
+    private final Map<ColumnSignature, StatementTemplate> updateTemplates = new ConcurrentHashMap<>();
+    private final Map<Integer, String> existingKeysSql = new ConcurrentHashMap<>();
+
+    private IngestPlan(String tableName,
+                       String primaryKeyColumn,
+                       String[] slotColumns,
+                       ColumnPlan[] columns,
+                       int primaryKeySlot) {
+        this.tableName = tableName;
+        this.primaryKeyColumn = primaryKeyColumn;
+        this.slotColumns = slotColumns;
+        this.columns = columns;
+        this.primaryKeySlot = primaryKeySlot;
+    }
+
+    public static IngestPlan compile(String tableName, String primaryKey, HeaderDescriptor headerDescriptor) {
+        String primaryKeyColumn = sqlColumnName(primaryKey);
+        String normalizedPrimaryKey = normalize(primaryKeyColumn);
+
+        Map<String, Integer> slotsByColumn = new LinkedHashMap<>();
+        List<ColumnPlan> columnPlans = new ArrayList<>();
+        int primaryKeySlot = -1;
+
+        for (Map.Entry<Integer, ColumnBinding> entry : headerDescriptor.mappedColumns().entrySet()) {
+            ColumnBinding binding = entry.getValue();
+            String target = binding.targetColumn();
+            if (target == null) {
+                continue;
+            }
+            Integer slot = slotsByColumn.get(target);
+            if (slot == null) {
+                sqlColumnName(target);
+                slot = slotsByColumn.size();
+                slotsByColumn.put(target, slot);
+                if (primaryKeySlot < 0 && normalize(target).equals(normalizedPrimaryKey)) {
+                    primaryKeySlot = slot;
+                }
+            }
+            columnPlans.add(new ColumnPlan(entry.getKey(), slot, binding.extractorPattern()));
+        }
+
+        if (primaryKeySlot < 0) {
+            throw new IllegalArgumentException("Header must include a column mapped to primary key: " + primaryKey);
+        }
+
+        return new IngestPlan(
+            tableName,
+            primaryKeyColumn,
+            slotsByColumn.keySet().toArray(String[]::new),
+            columnPlans.toArray(ColumnPlan[]::new),
+            primaryKeySlot
+        );
+    }
+
+    public IngestRow readRow(IntFunction<Object> cellReader) {
+        Object[] values = new Object[slotColumns.length];
+        long[] mask = new long[(slotColumns.length + 63) >>> 6];
+        boolean hasValues = false;
+
+        for (ColumnPlan column : columns) {
+            Object value = cellReader.apply(column.sourceIndex());
+            if (value == null) {
+                continue;
+            }
+            Object resolved = column.extract(value);
+            if (resolved == null || (resolved instanceof String text && text.isBlank())) {
+                continue;
+            }
+            values[column.slot()] = toSqlValue(resolved);
+            mask[column.slot() >>> 6] |= 1L << column.slot();
+            hasValues = true;
+        }
+
+        return new IngestRow(values, new ColumnSignature(mask), hasValues);
+    }
+
+    public String tableName() {
+        return tableName;
+    }
+
+    public String primaryKeyColumn() {
+        return primaryKeyColumn;
+    }
+
+    public String existingKeysSql(int keyCount) {
+        return existingKeysSql.computeIfAbsent(keyCount, count -> {
+            StringBuilder placeholders = new StringBuilder();
+            for (int index = 0; index < count; index++) {
+                placeholders.append(index > 0 ? ", ?" : "?");
+            }
+            return "SELECT " + primaryKeyColumn + " FROM " + tableName
+                + " WHERE " + primaryKeyColumn + " IN (" + placeholders + ")";
+        });
+    }
+
+    // Hash of the mapped column names and canonical values; equal rows hash equally regardless of cell formatting.
+    public String fingerprint(IngestRow row, MessageDigest digest) {
+        Object[] values = row.values();
+        digest.reset();
+        for (int slot = 0; slot < values.length; slot++) {
+            Object value = values[slot];
+            if (value == null) {
+                continue;
+            }
+            digest.update(slotColumns[slot].getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) '=');
+            digest.update(canonicalValue(value).getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0x1F);
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    public Object primaryKeyValue(IngestRow row) {
+        return row.values()[primaryKeySlot];
+    }
+
+    public StatementTemplate insertTemplate(IngestRow row) {
+        return insertTemplates.computeIfAbsent(row.signature(), this::buildInsertTemplate);
+    }
+
+    public StatementTemplate updateTemplate(IngestRow row) {
+        return updateTemplates.computeIfAbsent(row.signature(), this::buildUpdateTemplate);
+    }
+
+    private StatementTemplate buildInsertTemplate(ColumnSignature signature) {
+        int[] slots = signature.slots(slotColumns.length, -1);
+        StringBuilder columnList = new StringBuilder();
+        StringBuilder placeholders = new StringBuilder();
+        for (int index = 0; index < slots.length; index++) {
+            if (index > 0) {
+                columnList.append(", ");
+                placeholders.append(", ");
+            }
+            columnList.append(slotColumns[slots[index]]);
+            placeholders.append('?');
+        }
+        String sql = "INSERT INTO " + tableName + " (" + columnList + ") VALUES (" + placeholders + ")";
+        return new StatementTemplate(sql, slots);
+    }
+
+    private StatementTemplate buildUpdateTemplate(ColumnSignature signature) {
+        int[] assignedSlots = signature.slots(slotColumns.length, primaryKeySlot);
+        if (assignedSlots.length == 0) {
+            return StatementTemplate.EMPTY;
+        }
+        StringBuilder assignments = new StringBuilder();
+        for (int index = 0; index < assignedSlots.length; index++) {
+            if (index > 0) {
+                assignments.append(", ");
+            }
+            assignments.append(slotColumns[assignedSlots[index]]).append(" = ?");
+        }
+        int[] slots = Arrays.copyOf(assignedSlots, assignedSlots.length + 1);
+        slots[assignedSlots.length] = primaryKeySlot;
+        String sql = "UPDATE " + tableName + " SET " + assignments + " WHERE " + primaryKeyColumn + " = ?";
+        return new StatementTemplate(sql, slots);
+    }
+
+    static Object toSqlValue(Object value) {
+        if (value instanceof String stringValue) {
+            return stringValue.trim();
+        }
+        if (value instanceof LocalDateTime localDateTime) {
+            return Timestamp.valueOf(localDateTime);
+        }
+        if (value instanceof LocalDate localDate) {
+            return Date.valueOf(localDate);
+        }
+        if (value instanceof LocalTime localTime) {
+            return Time.valueOf(localTime);
+        }
+        if (value instanceof Double doubleValue) {
+            return BigDecimal.valueOf(doubleValue);
+        }
+        if (value instanceof Float floatValue) {
+            return BigDecimal.valueOf(floatValue.doubleValue());
+        }
+        return value;
+    }
+
+    static String canonicalValue(Object value) {
+        if (value instanceof BigDecimal decimal) {
+            return decimal.stripTrailingZeros().toPlainString();
+        }
+        if (value instanceof Number number) {
+            return new BigDecimal(number.toString()).stripTrailingZeros().toPlainString();
+        }
+        return value.toString().trim();
+    }
+
+    private static String sqlColumnName(String columnName) {
+        if (columnName == null || columnName.isBlank()) {
+            throw new IllegalArgumentException("Column name cannot be blank");
+        }
+        if (!COLUMN_NAME.matcher(columnName).matches()) {
+            throw new IllegalArgumentException("Invalid column name: " + columnName);
+        }
+        return columnName;
+    }
+
+    private static String normalize(String value) {
+        StringBuilder normalized = new StringBuilder(value.length());
+        for (int index = 0; index < value.length(); index++) {
+            char current = value.charAt(index);
+            if ((current >= 'A' && current <= 'Z') || (current >= 'a' && current <= 'z')
+                || (current >= '0' && current <= '9')) {
+                normalized.append(current);
+            }
+        }
+        return normalized.toString().toLowerCase(Locale.ROOT);
+    }
+
+    public record IngestRow(Object[] values, ColumnSignature signature, boolean hasValues) {
+    }
+
+    public record StatementTemplate(String sql, int[] slots) {
+
+        private static final StatementTemplate EMPTY = new StatementTemplate(null, new int[0]);
+
+        public boolean isEmpty() {
+            return slots.length == 0;
+        }
+
+        public Object[] bind(IngestRow row) {
+            Object[] parameters = new Object[slots.length];
+            Object[] values = row.values();
+            for (int index = 0; index < slots.length; index++) {
+                parameters[index] = values[slots[index]];
+            }
+            return parameters;
+        }
+    }
+
+    private record ColumnPlan(int sourceIndex, int slot, Pattern extractorPattern) {
+
+        private Object extract(Object value) {
+            if (!(value instanceof String stringValue)) {
+                return value;
+            }
+            if (extractorPattern == null) {
+                return stringValue.trim();
+            }
+            Matcher matcher = extractorPattern.matcher(stringValue);
+            if (matcher.find()) {
+                String extracted = matcher.groupCount() >= 1 ? matcher.group(1) : matcher.group();
+                return extracted != null ? extracted.trim() : null;
+            }
+            LOGGER.warn("Extractor pattern '{}' did not match value '{}'", extractorPattern.pattern(), stringValue);
+            return stringValue.trim();
+        }
+    }
+
+    public static final class ColumnSignature {
+
+        private final long[] words;
+        private final int hash;
+
+        private ColumnSignature(long[] words) {
+            this.words = words;
+            this.hash = Arrays.hashCode(words);
+        }
+
+        private int[] slots(int slotCount, int excludedSlot) {
+            int count = 0;
+            for (long word : words) {
+                count += Long.bitCount(word);
+            }
+            if (excludedSlot >= 0 && (words[excludedSlot >>> 6] & (1L << excludedSlot)) != 0) {
+                count--;
+            }
+            int[] slots = new int[count];
+            int position = 0;
+            for (int slot = 0; slot < slotCount; slot++) {
+                if (slot != excludedSlot && (words[slot >>> 6] & (1L << slot)) != 0) {
+                    slots[position++] = slot;
+                }
+            }
+            return slots;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other instanceof ColumnSignature signature && Arrays.equals(words, signature.words);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
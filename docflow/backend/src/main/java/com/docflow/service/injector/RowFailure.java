@@ -0,0 +1,5 @@
+package com.docflow.service.injector;
+
+// A source row that could not be written; column is null when the database error does not name one.
+public record RowFailure(long rowNumber, String column, String reason) {
+}
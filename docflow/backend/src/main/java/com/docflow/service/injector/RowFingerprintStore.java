@@ -0,0 +1,62 @@
+package com.docflow.service.injector;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+// Side table of per-row content hashes keyed by target table and primary key, used by delta loads.
+public class RowFingerprintStore {
+
+    private static final String MERGE_SQL = """
+        MERGE INTO data_injector_row_fingerprint f
+        USING (SELECT ? AS target_table, ? AS row_key, ? AS fingerprint FROM dual) s
+        ON (f.target_table = s.target_table AND f.row_key = s.row_key)
+        WHEN MATCHED THEN UPDATE SET f.fingerprint = s.fingerprint, f.updated_at = SYSTIMESTAMP
+        WHEN NOT MATCHED THEN INSERT (target_table, row_key, fingerprint, updated_at)
+            VALUES (s.target_table, s.row_key, s.fingerprint, SYSTIMESTAMP)
+        """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final String targetTable;
+
+    public RowFingerprintStore(JdbcTemplate jdbcTemplate, String targetTable) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.targetTable = targetTable.toUpperCase(Locale.ROOT);
+    }
+
+    // Callers keep keys within Oracle's 1000 element IN-list limit.
+    public Map<String, String> find(List<String> rowKeys) {
+        Map<String, String> fingerprints = new HashMap<>();
+        if (rowKeys.isEmpty()) {
+            return fingerprints;
+        }
+
+        StringBuilder sql = new StringBuilder(
+            "SELECT row_key, fingerprint FROM data_injector_row_fingerprint WHERE target_table = ? AND row_key IN (");
+        Object[] parameters = new Object[rowKeys.size() + 1];
+        parameters[0] = targetTable;
+        for (int index = 0; index < rowKeys.size(); index++) {
+            sql.append(index > 0 ? ", ?" : "?");
+            parameters[index + 1] = rowKeys.get(index);
+        }
+        sql.append(')');
+
+        jdbcTemplate.query(sql.toString(), resultSet -> {
+            fingerprints.put(resultSet.getString(1), resultSet.getString(2));
+        }, parameters);
+        return fingerprints;
+    }
+
+    public void save(Map<String, String> fingerprintsByKey) {
+        if (fingerprintsByKey.isEmpty()) {
+            return;
+        }
+        List<Object[]> parameters = fingerprintsByKey.entrySet().stream()
+            .map(entry -> new Object[] {targetTable, entry.getKey(), entry.getValue()})
+            .toList();
+        jdbcTemplate.batchUpdate(MERGE_SQL, parameters);
+    }
+}
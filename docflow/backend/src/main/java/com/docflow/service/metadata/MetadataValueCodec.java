@@ -0,0 +1,254 @@
+package com.docflow.service.metadata;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.stereotype.Component;
+
+import java.math.BigInteger;
+
+// Encodes metadata values as JSON text, as stored in document_metadata.field_value. Strings, whole numbers, doubles,
+// booleans and null are written and read directly, producing the same text and Java types as the application's
+// ObjectMapper; only objects, arrays and other types go through Jackson. Stored text that is not valid JSON (values
+// saved before JSON encoding) is returned unchanged, detected without throwing except for text starting with { or [.
+@Component
+public class MetadataValueCodec {
+
+    private static final char[] HEX = "0123456789ABCDEF".toCharArray();
+
+    private final ObjectMapper objectMapper;
+
+    public MetadataValueCodec(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    public String encode(Object value) {
+        if (value == null) {
+            return null;
+        }
+        if (value instanceof String text) {
+            return quote(text);
+        }
+        if (value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte
+            || value instanceof BigInteger || value instanceof Boolean) {
+            return value.toString();
+        }
+        if (value instanceof Double number && Double.isFinite(number)) {
+            return Double.toString(number);
+        }
+        if (value instanceof Float number && Float.isFinite(number)) {
+            return Float.toString(number);
+        }
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Unable to serialize metadata value", e);
+        }
+    }
+
+    public Object decode(String stored) {
+        if (stored == null) {
+            return null;
+        }
+        int start = 0;
+        int end = stored.length();
+        while (start < end && isWhitespace(stored.charAt(start))) {
+            start++;
+        }
+        while (end > start && isWhitespace(stored.charAt(end - 1))) {
+            end--;
+        }
+        if (start == end) {
+            return stored;
+        }
+        char first = stored.charAt(start);
+        if (first == '"') {
+            String text = unquote(stored, start, end);
+            return text != null ? text : stored;
+        }
+        if (first == '-' || (first >= '0' && first <= '9')) {
+            Object number = parseNumber(stored, start, end);
+            return number != null ? number : stored;
+        }
+        if (first == '{' || first == '[') {
+            try {
+                return objectMapper.readValue(stored, Object.class);
+            } catch (JsonProcessingException e) {
+                return stored;
+            }
+        }
+        int length = end - start;
+        if (length == 4 && stored.startsWith("true", start)) {
+            return Boolean.TRUE;
+        }
+        if (length == 5 && stored.startsWith("false", start)) {
+            return Boolean.FALSE;
+        }
+        if (length == 4 && stored.startsWith("null", start)) {
+            return null;
+        }
+        return stored;
+    }
+
+    // Same escaping as Jackson's default generator: quote, backslash and control characters only.
+    private static String quote(String text) {
+        StringBuilder json = null;
+        for (int index = 0; index < text.length(); index++) {
+            char c = text.charAt(index);
+            if (c >= 0x20 && c != '"' && c != '\\') {
+                if (json != null) {
+                    json.append(c);
+                }
+                continue;
+            }
+            if (json == null) {
+                json = new StringBuilder(text.length() + 16).append('"').append(text, 0, index);
+            }
+            switch (c) {
+                case '"' -> json.append("\\\"");
+                case '\\' -> json.append("\\\\");
+                case '\b' -> json.append("\\b");
+                case '\t' -> json.append("\\t");
+                case '\n' -> json.append("\\n");
+                case '\f' -> json.append("\\f");
+                case '\r' -> json.append("\\r");
+                default -> json.append("\\u00").append(HEX[c >> 4]).append(HEX[c & 0xF]);
+            }
+        }
+        if (json == null) {
+            return "\"" + text + "\"";
+        }
+        return json.append('"').toString();
+    }
+
+    // The string between the quotes at start and end - 1, or null when that is not exactly one JSON string.
+    private static String unquote(String stored, int start, int end) {
+        if (end - start < 2 || stored.charAt(end - 1) != '"') {
+            return null;
+        }
+        int from = start + 1;
+        int to = end - 1;
+        int escape = -1;
+        for (int index = from; index < to; index++) {
+            char c = stored.charAt(index);
+            if (c == '\\') {
+                escape = index;
+                break;
+            }
+            if (c == '"' || c < 0x20) {
+                return null;
+            }
+        }
+        if (escape < 0) {
+            return stored.substring(from, to);
+        }
+        StringBuilder text = new StringBuilder(to - from).append(stored, from, escape);
+        for (int index = escape; index < to; index++) {
+            char c = stored.charAt(index);
+            if (c == '"' || c < 0x20) {
+                return null;
+            }
+            if (c != '\\') {
+                text.append(c);
+                continue;
+            }
+            if (++index >= to) {
+                return null;
+            }
+            switch (stored.charAt(index)) {
+                case '"' -> text.append('"');
+                case '\\' -> text.append('\\');
+                case '/' -> text.append('/');
+                case 'b' -> text.append('\b');
+                case 'f' -> text.append('\f');
+                case 'n' -> text.append('\n');
+                case 'r' -> text.append('\r');
+                case 't' -> text.append('\t');
+                case 'u' -> {
+                    if (index + 4 >= to) {
+                        return null;
+                    }
+                    int code = 0;
+                    for (int digit = 1; digit <= 4; digit++) {
+                        int value = Character.digit(stored.charAt(index + digit), 16);
+                        if (value < 0) {
+                            return null;
+                        }
+                        code = code * 16 + value;
+                    }
+                    text.append((char) code);
+                    index += 4;
+                }
+                default -> {
+                    return null;
+                }
+            }
+        }
+        return text.toString();
+    }
+
+    // JSON number grammar; whole numbers become Integer, Long or BigInteger and others Double, as Jackson maps them.
+    private static Object parseNumber(String stored, int start, int end) {
+        int index = start;
+        if (stored.charAt(index) == '-') {
+            index++;
+        }
+        int integerStart = index;
+        if (index < end && stored.charAt(index) == '0') {
+            index++;
+        } else {
+            while (index < end && isDigit(stored.charAt(index))) {
+                index++;
+            }
+        }
+        int integerDigits = index - integerStart;
+        if (integerDigits == 0) {
+            return null;
+        }
+        boolean whole = true;
+        if (index < end && stored.charAt(index) == '.') {
+            whole = false;
+            int fractionStart = ++index;
+            while (index < end && isDigit(stored.charAt(index))) {
+                index++;
+            }
+            if (index == fractionStart) {
+                return null;
+            }
+        }
+        if (index < end && (stored.charAt(index) == 'e' || stored.charAt(index) == 'E')) {
+            whole = false;
+            index++;
+            if (index < end && (stored.charAt(index) == '+' || stored.charAt(index) == '-')) {
+                index++;
+            }
+            int exponentStart = index;
+            while (index < end && isDigit(stored.charAt(index))) {
+                index++;
+            }
+            if (index == exponentStart) {
+                return null;
+            }
+        }
+        if (index != end) {
+            return null;
+        }
+        String number = stored.substring(start, end);
+        if (!whole) {
+            return Double.parseDouble(number);
+        }
+        if (integerDigits <= 18) {
+            long value = Long.parseLong(number);
+            return value == (int) value ? (Object) (int) value : (Object) value;
+        }
+        BigInteger value = new BigInteger(number);
+        return value.bitLength() < 64 ? (Object) value.longValue() : value;
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private static boolean isWhitespace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\r';
+    }
+}
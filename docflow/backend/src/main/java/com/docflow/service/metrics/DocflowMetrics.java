@@ -0,0 +1,103 @@
+package com.docflow.service.metrics;
+
+import com.docflow.api.dto.DataInjectorSheetResult;
+import com.docflow.domain.DocumentStatus;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+// Business-level meters that the per-method docflow.method.duration timers cannot express: workflow transitions,
+// storage volume and data injector throughput. All distributions publish histograms for Prometheus percentiles.
+@Component
+public class DocflowMetrics {
+
+    private final MeterRegistry registry;
+    private final DistributionSummary injectorBatchSize;
+
+    public DocflowMetrics(MeterRegistry registry) {
+        this.registry = registry;
+        this.injectorBatchSize = DistributionSummary.builder("docflow.injector.batch.size")
+            .description("Rows per data injector JDBC batch flush")
+            .baseUnit("rows")
+            .publishPercentileHistogram()
+            .register(registry);
+    }
+
+    public void recordWorkflowAction(String action, DocumentStatus from, DocumentStatus to, long elapsedNanos) {
+        Timer.builder("docflow.workflow.action")
+            .description("Duration of document status transitions")
+            .tag("action", action != null ? action : "UNKNOWN")
+            .tag("from", from != null ? from.name() : "NONE")
+            .tag("to", to != null ? to.name() : "NONE")
+            .publishPercentileHistogram()
+            .register(registry)
+            .record(elapsedNanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void recordBytesStored(String adapter, long bytes) {
+        storageBytes(adapter, "stored").increment(bytes);
+    }
+
+    public void recordBytesServed(String adapter, long bytes) {
+        storageBytes(adapter, "served").increment(bytes);
+    }
+
+    public void recordInjectorBatch(int rows) {
+        injectorBatchSize.record(rows);
+    }
+
+    public void recordInjectorSheet(DataInjectorSheetResult sheet) {
+        String table = sheet.getTargetTable() != null ? sheet.getTargetTable() : "unknown";
+        injectorRows(table, "inserted").increment(sheet.getInserted());
+        injectorRows(table, "updated").increment(sheet.getUpdated());
+        injectorRows(table, "unchanged").increment(sheet.getUnchanged());
+        injectorRows(table, "skipped").increment(sheet.getSkipped());
+        injectorRows(table, "failed").increment(sheet.getFailed());
+        if (sheet.getElapsedMillis() > 0 && sheet.getTotalRows() > 0) {
+            DistributionSummary.builder("docflow.injector.throughput")
+                .description("Rows per second of each loaded sheet")
+                .baseUnit("rows/s")
+                .tag("table", table)
+                .publishPercentileHistogram()
+                .register(registry)
+                .record(sheet.getTotalRows() * 1000.0 / sheet.getElapsedMillis());
+        }
+    }
+
+    public void recordInjectorUpload(String source, int roundTrips, Duration elapsed) {
+        DistributionSummary.builder("docflow.injector.round.trips")
+            .description("Database round trips per data injector upload")
+            .tag("source", source)
+            .publishPercentileHistogram()
+            .register(registry)
+            .record(roundTrips);
+        Timer.builder("docflow.injector.upload")
+            .description("Duration of data injector uploads")
+            .tag("source", source)
+            .publishPercentileHistogram()
+            .register(registry)
+            .record(elapsed);
+    }
+
+    private Counter storageBytes(String adapter, String direction) {
+        return Counter.builder("docflow.storage.bytes")
+            .description("Document file bytes written to and read from storage")
+            .baseUnit("bytes")
+            .tag("adapter", adapter)
+            .tag("direction", direction)
+            .register(registry);
+    }
+
+    private Counter injectorRows(String table, String outcome) {
+        return Counter.builder("docflow.injector.rows")
+            .description("Data injector rows by outcome; rate() gives rows per second")
+            .tag("table", table)
+            .tag("outcome", outcome)
+            .register(registry);
+    }
+}
@@ -0,0 +1,51 @@
+package com.docflow.service.search;
+
+import java.util.Locale;
+
+// How the review screen's document number box is matched. Document numbers are the numeric document ids, so a
+// number is looked up exactly and anything else is a prefix; both stay on an index. A leading '*' (or the contains
+// match mode) asks for the old substring match, which has to scan.
+public record DocumentNumberQuery(Mode mode, String value) {
+
+    public enum Mode {
+        EXACT,
+        PREFIX,
+        CONTAINS
+    }
+
+    private static final char WILDCARD = '*';
+
+    public static DocumentNumberQuery parse(String input) {
+        if (input == null) {
+            return null;
+        }
+        String trimmed = input.trim();
+        boolean leadingWildcard = !trimmed.isEmpty() && trimmed.charAt(0) == WILDCARD;
+        boolean trailingWildcard = !trimmed.isEmpty() && trimmed.charAt(trimmed.length() - 1) == WILDCARD;
+        String core = trimmed.replaceAll("^\\*+|\\*+$", "").trim();
+        if (core.isEmpty()) {
+            return null;
+        }
+        if (leadingWildcard) {
+            return new DocumentNumberQuery(Mode.CONTAINS, core);
+        }
+        if (!trailingWildcard && core.chars().allMatch(Character::isDigit)) {
+            return new DocumentNumberQuery(Mode.EXACT, core);
+        }
+        return new DocumentNumberQuery(Mode.PREFIX, core);
+    }
+
+    // Query text that parse reads back as a substring match.
+    public static String contains(String input) {
+        return input == null || input.isBlank() ? input : WILDCARD + input.trim() + WILDCARD;
+    }
+
+    // Lower-cased LIKE pattern with '\' escaping the user's own % and _ characters.
+    public String likePattern() {
+        String escaped = value.toLowerCase(Locale.ROOT)
+            .replace("\\", "\\\\")
+            .replace("%", "\\%")
+            .replace("_", "\\_");
+        return mode == Mode.CONTAINS ? "%" + escaped + "%" : escaped + "%";
+    }
+}
@@ -14,13 +14,27 @@ public class DocumentSearchFilter {
     private final FilterOperation operation;
     private final String rawValue;
     private final String type;
+    private final SearchValueType valueType;
+    private final Object boundValue;
 
     private DocumentSearchFilter(String key, FilterSource source, FilterOperation operation, String rawValue, String type) {
+        this(key, source, operation, rawValue, type, null, null);
+    }
+
+    private DocumentSearchFilter(String key,
+                                 FilterSource source,
+                                 FilterOperation operation,
+                                 String rawValue,
+                                 String type,
+                                 SearchValueType valueType,
+                                 Object boundValue) {
         this.key = key;
         this.source = source;
         this.operation = operation;
         this.rawValue = rawValue;
         this.type = type;
+        this.valueType = valueType;
+        this.boundValue = boundValue;
     }
 
     public static DocumentSearchFilter fromDefinition(FilterDefinition definition, Object candidateValue) {
@@ -44,6 +58,35 @@ public class DocumentSearchFilter {
         );
     }
 
+    // Values that cannot be converted to the attribute type drop the filter, as the uncompiled path does.
+    public static DocumentSearchFilter fromCompiled(SearchFilterPlan.CompiledFilter filter, Object candidateValue) {
+        String raw = normaliseCandidate(candidateValue);
+        if (raw == null || raw.isBlank()) {
+            return null;
+        }
+        FilterParseResult parsed = parseRawValue(raw);
+        if (parsed == null || parsed.value().isBlank()) {
+            return null;
+        }
+        Object boundValue = null;
+        if (filter.valueType() != null && parsed.operation() != FilterOperation.LIKE) {
+            boolean comparison = parsed.operation() != FilterOperation.EQUALS;
+            boundValue = filter.valueType().convert(parsed.value(), comparison);
+            if (boundValue == null) {
+                return null;
+            }
+        }
+        return new DocumentSearchFilter(
+            filter.attributeName(),
+            filter.source(),
+            parsed.operation(),
+            parsed.value(),
+            filter.type(),
+            filter.valueType(),
+            boundValue
+        );
+    }
+
     public static DocumentSearchFilter metadataPlaceholder(String key, String value) {
         String raw = normaliseCandidate(value);
         if (raw == null || raw.isBlank()) {
@@ -146,6 +189,14 @@ public class DocumentSearchFilter {
         return type;
     }
 
+    public SearchValueType getValueType() {
+        return valueType;
+    }
+
+    public Object getBoundValue() {
+        return boundValue;
+    }
+
     @Override
     public String toString() {
         return "DocumentSearchFilter{" +
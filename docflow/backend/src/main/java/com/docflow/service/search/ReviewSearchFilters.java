@@ -0,0 +1,43 @@
+package com.docflow.service.search;
+
+import java.util.List;
+import java.util.Map;
+
+// Turns the review screen's search inputs into repository filters, the same way for search, export, facets and the
+// change stream.
+public final class ReviewSearchFilters {
+
+    private ReviewSearchFilters() {
+    }
+
+    // Binds the configured dynamic filters and appends the free-form metadata key/value filter when both are given.
+    public static List<DocumentSearchFilter> build(SearchFilterPlan plan,
+                                                   Map<String, Object> dynamicFilters,
+                                                   String metadataKey,
+                                                   String metadataValue) {
+        List<DocumentSearchFilter> filters = plan.bind(dynamicFilters);
+
+        String sanitizedMetadataKey = sanitize(metadataKey);
+        String sanitizedMetadataValue = sanitize(metadataValue);
+        if (sanitizedMetadataKey != null && sanitizedMetadataValue != null) {
+            DocumentSearchFilter placeholder = DocumentSearchFilter.metadataPlaceholder(
+                sanitizedMetadataKey,
+                sanitizedMetadataValue
+            );
+            if (placeholder != null) {
+                filters.add(placeholder);
+            }
+        }
+
+        return filters;
+    }
+
+    // Blank input means "no criterion".
+    public static String sanitize(String value) {
+        if (value == null) {
+            return null;
+        }
+        String trimmed = value.trim();
+        return trimmed.isEmpty() ? null : trimmed;
+    }
+}
@@ -0,0 +1,156 @@
+package com.docflow.service.search;
+
+import com.docflow.api.dto.FilterDefinition;
+import com.docflow.api.dto.FilterSource;
+import com.docflow.domain.DocumentParent;
+import jakarta.persistence.Column;
+import jakarta.persistence.Transient;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+// Review filter definitions compiled once per config version: keys validated and document attributes resolved up
+// front, so a search only parses operators and converts the submitted values.
+public final class SearchFilterPlan {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(SearchFilterPlan.class);
+    private static final Map<String, DocumentAttribute> DOCUMENT_ATTRIBUTES = resolveDocumentAttributes();
+
+    private final List<CompiledFilter> filters;
+
+    private SearchFilterPlan(List<CompiledFilter> filters) {
+        this.filters = filters;
+    }
+
+    // Invalid definitions are skipped with a warning; stored config predating validation must not break search.
+    public static SearchFilterPlan compile(List<FilterDefinition> definitions) {
+        List<CompiledFilter> filters = new ArrayList<>();
+        List<String> problems = compileInto(definitions, filters);
+        problems.forEach(problem -> LOGGER.warn("Ignoring review filter definition: {}", problem));
+        return new SearchFilterPlan(List.copyOf(filters));
+    }
+
+    public static void validate(List<FilterDefinition> definitions) {
+        List<String> problems = compileInto(definitions, new ArrayList<>());
+        if (!problems.isEmpty()) {
+            throw new IllegalArgumentException("Invalid review filter configuration: " + String.join("; ", problems));
+        }
+    }
+
+    public List<DocumentSearchFilter> bind(Map<String, Object> submittedFilters) {
+        if (submittedFilters == null || submittedFilters.isEmpty()) {
+            return new ArrayList<>();
+        }
+        List<DocumentSearchFilter> bound = new ArrayList<>();
+        for (CompiledFilter filter : filters) {
+            Object candidate = submittedFilters.get(filter.key());
+            if (candidate == null) {
+                continue;
+            }
+            DocumentSearchFilter searchFilter = DocumentSearchFilter.fromCompiled(filter, candidate);
+            if (searchFilter != null) {
+                bound.add(searchFilter);
+            }
+        }
+        return bound;
+    }
+
+    public List<CompiledFilter> filters() {
+        return filters;
+    }
+
+    private static List<String> compileInto(List<FilterDefinition> definitions, List<CompiledFilter> filters) {
+        if (definitions == null) {
+            return Collections.emptyList();
+        }
+        List<String> problems = new ArrayList<>();
+        Set<String> seenKeys = new HashSet<>();
+        for (int index = 0; index < definitions.size(); index++) {
+            FilterDefinition definition = definitions.get(index);
+            if (definition == null) {
+                problems.add("definition " + (index + 1) + " is empty");
+                continue;
+            }
+            String key = definition.getKey() != null ? definition.getKey().trim() : "";
+            if (key.isEmpty()) {
+                problems.add("definition " + (index + 1) + " has no key");
+                continue;
+            }
+            if (definition.getSource() == null) {
+                problems.add("filter '" + key + "' has no source");
+                continue;
+            }
+            if (!seenKeys.add(key)) {
+                problems.add("filter '" + key + "' is defined more than once");
+                continue;
+            }
+            if (definition.getSource() == FilterSource.DOCUMENT_PARENT) {
+                DocumentAttribute attribute = DOCUMENT_ATTRIBUTES.get(key.toLowerCase(Locale.ROOT));
+                if (attribute == null) {
+                    problems.add("filter '" + key + "' does not name a document field");
+                    continue;
+                }
+                filters.add(new CompiledFilter(key, definition.getSource(), definition.getType(),
+                    attribute.name(), attribute.valueType(), optionsOf(definition)));
+            } else {
+                filters.add(new CompiledFilter(key, definition.getSource(), definition.getType(), key, null,
+                    optionsOf(definition)));
+            }
+        }
+        return problems;
+    }
+
+    private static List<String> optionsOf(FilterDefinition definition) {
+        if (definition.getOptions() == null) {
+            return List.of();
+        }
+        return definition.getOptions().stream()
+            .filter(option -> option != null && !option.isBlank())
+            .map(String::trim)
+            .distinct()
+            .toList();
+    }
+
+    // Attribute names and column names both resolve to the entity attribute used by the criteria query.
+    private static Map<String, DocumentAttribute> resolveDocumentAttributes() {
+        Map<String, DocumentAttribute> attributes = new HashMap<>();
+        for (Field field : DocumentParent.class.getDeclaredFields()) {
+            if (Modifier.isStatic(field.getModifiers()) || field.isAnnotationPresent(Transient.class)) {
+                continue;
+            }
+            DocumentAttribute attribute = new DocumentAttribute(field.getName(), SearchValueType.of(field.getType()));
+            attributes.put(field.getName().toLowerCase(Locale.ROOT), attribute);
+            Column column = field.getAnnotation(Column.class);
+            if (column != null && !column.name().isBlank()) {
+                attributes.putIfAbsent(column.name().toLowerCase(Locale.ROOT), attribute);
+            }
+        }
+        return Map.copyOf(attributes);
+    }
+
+    // For META_DATA filters attributeName is the metadata field key and valueType is null.
+    public record CompiledFilter(String key,
+                                 FilterSource source,
+                                 String type,
+                                 String attributeName,
+                                 SearchValueType valueType,
+                                 List<String> options) {
+
+        public boolean hasOptions() {
+            return !options.isEmpty();
+        }
+    }
+
+    private record DocumentAttribute(String name, SearchValueType valueType) {
+    }
+}
@@ -0,0 +1,99 @@
+package com.docflow.service.search;
+
+import com.docflow.api.dto.FilterSource;
+import com.docflow.domain.DocumentSearchProjection;
+import org.springframework.data.domain.Sort;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+// Assignment of metadata keys to the numbered slot columns of document_search_projection.
+public final class SearchProjectionLayout {
+
+    private static final Set<String> DOCUMENT_ATTRIBUTES = Set.of(
+        "id", "documentNumber", "title", "status", "createdBy", "createdAt", "updatedBy", "updatedAt");
+
+    private static final SearchProjectionLayout EMPTY = new SearchProjectionLayout(List.of());
+
+    // Index i holds the key stored in slot i + 1; null marks a free slot.
+    private final List<String> slotKeys;
+
+    private SearchProjectionLayout(List<String> slotKeys) {
+        this.slotKeys = slotKeys;
+    }
+
+    public static SearchProjectionLayout empty() {
+        return EMPTY;
+    }
+
+    public static SearchProjectionLayout of(List<String> slotKeys) {
+        if (slotKeys == null || slotKeys.isEmpty()) {
+            return EMPTY;
+        }
+        List<String> slots = new ArrayList<>(Collections.nCopies(DocumentSearchProjection.SLOT_COUNT, null));
+        for (int index = 0; index < Math.min(slotKeys.size(), slots.size()); index++) {
+            slots.set(index, slotKeys.get(index));
+        }
+        return new SearchProjectionLayout(Collections.unmodifiableList(slots));
+    }
+
+    // Keys that are still configured keep their slot, so writers that have not yet seen the new layout stay
+    // correct for them. Keys beyond the slot count are left out and searched through document_metadata.
+    public SearchProjectionLayout reassign(List<String> metadataKeys) {
+        List<String> slots = new ArrayList<>(Collections.nCopies(DocumentSearchProjection.SLOT_COUNT, null));
+        for (int index = 0; index < slotKeys.size(); index++) {
+            String key = slotKeys.get(index);
+            if (key != null && metadataKeys.contains(key)) {
+                slots.set(index, key);
+            }
+        }
+        for (String key : metadataKeys) {
+            if (slots.contains(key)) {
+                continue;
+            }
+            int free = slots.indexOf(null);
+            if (free < 0) {
+                break;
+            }
+            slots.set(free, key);
+        }
+        return new SearchProjectionLayout(Collections.unmodifiableList(slots));
+    }
+
+    public boolean isEmpty() {
+        return slotKeys.stream().allMatch(key -> key == null);
+    }
+
+    // Slot number starting at 1, or 0 when the key has no slot.
+    public int slotOf(String metadataKey) {
+        return slotKeys.indexOf(metadataKey) + 1;
+    }
+
+    public List<String> slotKeys() {
+        return slotKeys;
+    }
+
+    public boolean covers(List<DocumentSearchFilter> filters, Sort sort) {
+        if (isEmpty()) {
+            return false;
+        }
+        for (DocumentSearchFilter filter : filters) {
+            boolean covered = filter.getSource() == FilterSource.META_DATA
+                ? slotOf(filter.getKey()) > 0
+                : DOCUMENT_ATTRIBUTES.contains(filter.getKey());
+            if (!covered) {
+                return false;
+            }
+        }
+        if (sort != null) {
+            for (Sort.Order order : sort) {
+                if (!DOCUMENT_ATTRIBUTES.contains(order.getProperty())) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+}
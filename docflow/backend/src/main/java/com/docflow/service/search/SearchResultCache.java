@@ -0,0 +1,176 @@
+package com.docflow.service.search;
+
+import com.docflow.api.dto.DocumentSummary;
+import com.docflow.domain.DocumentStatus;
+import com.docflow.domain.repository.DocumentRepository;
+import com.docflow.domain.repository.DocumentRepository.StatusVersion;
+import com.docflow.service.event.DocumentChangeEvent;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Review search result pages, invalidated after commit by document writes touching the page's status. Every status
+// scope has a generation; a page computed while a write to its scope committed is not kept, so a slow query cannot
+// put a pre-write page back after the invalidation ran. Writes committed by other nodes are noticed by comparing
+// per-status row counts and versions of document_parent at most once per refresh interval.
+@Component
+public class SearchResultCache {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(SearchResultCache.class);
+
+    private final DocumentRepository documentRepository;
+    private final long refreshIntervalNanos;
+    private final Cache<Key, Entry> cache;
+    private final Map<DocumentStatus, AtomicLong> statusGenerations = new EnumMap<>(DocumentStatus.class);
+    private final AtomicLong anyStatusGeneration = new AtomicLong();
+    private final Counter invalidations;
+    private final Counter discardedStores;
+    private final Timer staleness;
+    private volatile Map<DocumentStatus, Version> statusVersions = Map.of();
+    private volatile long versionsCheckedAt;
+
+    public SearchResultCache(DocumentRepository documentRepository,
+                             MeterRegistry meterRegistry,
+                             @Value("${docflow.search.cache.ttl:30s}") Duration ttl,
+                             @Value("${docflow.search.cache.size:1000}") long size,
+                             @Value("${docflow.search.cache.refresh-interval:5s}") Duration refreshInterval) {
+        this.documentRepository = documentRepository;
+        this.refreshIntervalNanos = refreshInterval.toNanos();
+        this.versionsCheckedAt = System.nanoTime();
+        this.cache = Caffeine.newBuilder()
+            .expireAfterWrite(ttl)
+            .maximumSize(size)
+            .recordStats()
+            .build();
+        for (DocumentStatus status : DocumentStatus.values()) {
+            statusGenerations.put(status, new AtomicLong());
+        }
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "documentSearch");
+        this.invalidations = Counter.builder("docflow.search.cache.invalidations").register(meterRegistry);
+        this.discardedStores = Counter.builder("docflow.search.cache.discarded").register(meterRegistry);
+        // Age of the pages served from the cache, i.e. how far behind the database a hit can be at most.
+        this.staleness = Timer.builder("docflow.search.cache.staleness")
+            .publishPercentiles(0.5, 0.99)
+            .register(meterRegistry);
+    }
+
+    public static Key key(String documentNumber,
+                          DocumentStatus status,
+                          List<DocumentSearchFilter> filters,
+                          Pageable pageable) {
+        return new Key(documentNumber, status, Set.copyOf(filters), pageable);
+    }
+
+    public Optional<Page<DocumentSummary>> lookup(Key key) {
+        refreshIfDue();
+        Entry entry = cache.getIfPresent(key);
+        if (entry == null) {
+            return Optional.empty();
+        }
+        staleness.record(System.nanoTime() - entry.storedAt(), TimeUnit.NANOSECONDS);
+        return Optional.of(entry.page());
+    }
+
+    // Taken before running the query and handed back to store.
+    public long generation(Key key) {
+        return generationOf(key.status()).get();
+    }
+
+    public void store(Key key, long generation, Page<DocumentSummary> page) {
+        AtomicLong current = generationOf(key.status());
+        if (current.get() != generation) {
+            discardedStores.increment();
+            return;
+        }
+        cache.put(key, new Entry(page, System.nanoTime()));
+        if (current.get() != generation) {
+            cache.invalidate(key);
+            discardedStores.increment();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onDocumentChange(DocumentChangeEvent event) {
+        Set<DocumentStatus> statuses = EnumSet.noneOf(DocumentStatus.class);
+        if (event.previousStatus() != null) {
+            statuses.add(event.previousStatus());
+        }
+        if (event.newStatus() != null) {
+            statuses.add(event.newStatus());
+        }
+        invalidate(statuses);
+    }
+
+    // Local writes show up here as well and cost one redundant invalidation of their statuses.
+    private void refreshIfDue() {
+        long now = System.nanoTime();
+        if (now - versionsCheckedAt < refreshIntervalNanos) {
+            return;
+        }
+        versionsCheckedAt = now;
+
+        Map<DocumentStatus, Version> versions = new EnumMap<>(DocumentStatus.class);
+        for (StatusVersion version : documentRepository.findStatusVersions()) {
+            versions.put(version.getStatus(),
+                new Version(version.getDocuments(), version.getLastId(), version.getUpdatedAt()));
+        }
+        Map<DocumentStatus, Version> previous = statusVersions;
+        statusVersions = versions;
+
+        Set<DocumentStatus> changed = EnumSet.noneOf(DocumentStatus.class);
+        for (DocumentStatus status : DocumentStatus.values()) {
+            if (!Objects.equals(previous.get(status), versions.get(status))) {
+                changed.add(status);
+            }
+        }
+        if (!changed.isEmpty()) {
+            LOGGER.debug("Documents in {} changed since the last check; evicting cached pages", changed);
+            invalidate(changed);
+        }
+    }
+
+    private void invalidate(Set<DocumentStatus> statuses) {
+        anyStatusGeneration.incrementAndGet();
+        statuses.forEach(status -> statusGenerations.get(status).incrementAndGet());
+        cache.asMap().keySet().removeIf(key -> key.status() == null || statuses.contains(key.status()));
+        invalidations.increment();
+    }
+
+    private AtomicLong generationOf(DocumentStatus status) {
+        return status == null ? anyStatusGeneration : statusGenerations.get(status);
+    }
+
+    public record Key(String documentNumber,
+                      DocumentStatus status,
+                      Set<DocumentSearchFilter> filters,
+                      Pageable pageable) {
+    }
+
+    private record Entry(Page<DocumentSummary> page, long storedAt) {
+    }
+
+    private record Version(long documents, Long lastId, OffsetDateTime updatedAt) {
+    }
+}
@@ -0,0 +1,100 @@
+package com.docflow.service.search;
+
+import com.docflow.domain.DocumentStatus;
+
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
+import java.util.Locale;
+
+// Converts raw filter text to the Java type of a document attribute; null means the value does not convert.
+public enum SearchValueType {
+
+    OFFSET_DATE_TIME {
+        @Override
+        Object parse(String value, boolean comparison) {
+            OffsetDateTime parsed;
+            try {
+                parsed = OffsetDateTime.parse(value);
+            } catch (DateTimeParseException ex) {
+                try {
+                    parsed = OffsetDateTime.parse(value + "T00:00:00Z");
+                } catch (DateTimeParseException ignored) {
+                    return null;
+                }
+            }
+            return comparison ? parsed.truncatedTo(ChronoUnit.SECONDS) : parsed;
+        }
+    },
+    DOCUMENT_STATUS {
+        @Override
+        Object parse(String value, boolean comparison) {
+            try {
+                return DocumentStatus.valueOf(value.toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException ex) {
+                return null;
+            }
+        }
+    },
+    LONG {
+        @Override
+        Object parse(String value, boolean comparison) {
+            try {
+                return Long.parseLong(value);
+            } catch (NumberFormatException ex) {
+                return null;
+            }
+        }
+    },
+    INTEGER {
+        @Override
+        Object parse(String value, boolean comparison) {
+            try {
+                return Integer.parseInt(value);
+            } catch (NumberFormatException ex) {
+                return null;
+            }
+        }
+    },
+    BOOLEAN {
+        @Override
+        Object parse(String value, boolean comparison) {
+            return Boolean.parseBoolean(value);
+        }
+    },
+    STRING {
+        @Override
+        Object parse(String value, boolean comparison) {
+            return value;
+        }
+    };
+
+    public static SearchValueType of(Class<?> javaType) {
+        if (OffsetDateTime.class.isAssignableFrom(javaType)) {
+            return OFFSET_DATE_TIME;
+        }
+        if (DocumentStatus.class.isAssignableFrom(javaType)) {
+            return DOCUMENT_STATUS;
+        }
+        if (Long.class.isAssignableFrom(javaType) || long.class.isAssignableFrom(javaType)) {
+            return LONG;
+        }
+        if (Integer.class.isAssignableFrom(javaType) || int.class.isAssignableFrom(javaType)) {
+            return INTEGER;
+        }
+        if (Boolean.class.isAssignableFrom(javaType) || boolean.class.isAssignableFrom(javaType)) {
+            return BOOLEAN;
+        }
+        return STRING;
+    }
+
+    public Object convert(String rawValue, boolean comparison) {
+        if (rawValue == null) {
+            return null;
+        }
+        String trimmed = rawValue.trim();
+        return trimmed.isEmpty() ? null : parse(trimmed, comparison);
+    }
+
+    abstract Object parse(String value, boolean comparison);
+}
@@ -1,5 +1,6 @@
 package com.docflow.storage;
 
+import com.docflow.service.metrics.DocflowMetrics;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.io.Resource;
 import org.springframework.core.io.UrlResource;
@@ -7,7 +8,6 @@ import org.springframework.stereotype.Component;
 
 import java.io.IOException;
 import java.io.InputStream;
-import java.net.MalformedURLException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
@@ -19,8 +19,11 @@ public class FileSystemStorageAdapter implements StorageAdapter {
 
     private final Path root;
     private final String rootPrefix;
+    private final DocflowMetrics metrics;
 
-    public FileSystemStorageAdapter(@Value("${docflow.storage.filesystem.root:uploads}") String root) {
+    public FileSystemStorageAdapter(@Value("${docflow.storage.filesystem.root:uploads}") String root,
+                                    DocflowMetrics metrics) {
+        this.metrics = metrics;
         this.root = Paths.get(root).normalize();
         Path fileName = this.root.getFileName();
         this.rootPrefix = fileName != null ? fileName.toString() : this.root.toString();
@@ -42,7 +45,8 @@ public class FileSystemStorageAdapter implements StorageAdapter {
             if (targetFile.getParent() != null) {
                 Files.createDirectories(targetFile.getParent());
             }
-            Files.copy(data, targetFile, StandardCopyOption.REPLACE_EXISTING);
+            long bytes = Files.copy(data, targetFile, StandardCopyOption.REPLACE_EXISTING);
+            metrics.recordBytesStored("filesystem", bytes);
             String normalizedRelative = relative.toString().replace('\\', '/');
             return rootPrefix + "/" + normalizedRelative;
         } catch (IOException ex) {
@@ -56,9 +60,11 @@ public class FileSystemStorageAdapter implements StorageAdapter {
         try {
             Resource resource = new UrlResource(file.toUri());
             if (resource.exists() && resource.isReadable()) {
+                // Counted when handed out for streaming; every caller sends the whole file.
+                metrics.recordBytesServed("filesystem", Files.size(file));
                 return resource;
             }
-        } catch (MalformedURLException ex) {
+        } catch (IOException ex) {
             throw new IllegalStateException("Failed to load file", ex);
         }
         throw new NoSuchElementException("File not found");
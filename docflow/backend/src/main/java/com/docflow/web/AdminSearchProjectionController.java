@@ -0,0 +1,31 @@
+package com.docflow.web;
+
+import com.docflow.api.dto.SearchProjectionRebuildResponse;
+import com.docflow.context.RequestUser;
+import com.docflow.context.RequestUserContext;
+import com.docflow.service.DocumentSearchProjectionService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/admin/search-projection")
+public class AdminSearchProjectionController {
+
+    private final DocumentSearchProjectionService searchProjectionService;
+    private final RequestUserContext requestUserContext;
+
+    public AdminSearchProjectionController(DocumentSearchProjectionService searchProjectionService,
+                                           RequestUserContext requestUserContext) {
+        this.searchProjectionService = searchProjectionService;
+        this.requestUserContext = requestUserContext;
+    }
+
+    // Assigns slots to the current META_DATA review filters and backfills every document; run after changing them.
+    @PostMapping("/rebuild")
+    public ResponseEntity<SearchProjectionRebuildResponse> rebuild() {
+        RequestUser user = requestUserContext.requireUser();
+        return ResponseEntity.ok(searchProjectionService.rebuild(user));
+    }
+}
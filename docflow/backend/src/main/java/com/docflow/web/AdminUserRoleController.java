@@ -0,0 +1,34 @@
+package com.docflow.web;
+
+import com.docflow.context.RequestUserContext;
+import com.docflow.security.UserRoleCache;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/admin/user-roles")
+public class AdminUserRoleController {
+
+    private final UserRoleCache userRoleCache;
+    private final RequestUserContext requestUserContext;
+
+    public AdminUserRoleController(UserRoleCache userRoleCache, RequestUserContext requestUserContext) {
+        this.userRoleCache = userRoleCache;
+        this.requestUserContext = requestUserContext;
+    }
+
+    // For role changes made directly in user_roles; without a userId every cached user is dropped.
+    @PostMapping("/cache/evict")
+    public ResponseEntity<Void> evict(@RequestParam(value = "userId", required = false) String userId) {
+        requestUserContext.requireUser();
+        if (userId == null || userId.isBlank()) {
+            userRoleCache.evictAll();
+        } else {
+            userRoleCache.evict(userId.trim());
+        }
+        return ResponseEntity.noContent().build();
+    }
+}
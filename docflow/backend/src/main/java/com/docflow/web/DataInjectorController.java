@@ -4,14 +4,21 @@ import com.docflow.api.dto.DataInjectorResponse;
 import com.docflow.context.RequestUser;
 import com.docflow.context.RequestUserContext;
 import com.docflow.service.DataInjectorService;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RequestPart;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.nio.charset.StandardCharsets;
+
 @RestController
 @RequestMapping("/api/documents/data-injector")
 public class DataInjectorController {
@@ -26,9 +33,36 @@ public class DataInjectorController {
     }
 
     @PostMapping(path = "/uploadexcel", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
-    public ResponseEntity<DataInjectorResponse> uploadExcel(@RequestPart("file") MultipartFile file) {
+    public ResponseEntity<DataInjectorResponse> uploadExcel(
+        @RequestPart("file") MultipartFile file,
+        @RequestParam(value = "force", defaultValue = "false") boolean force) {
+        RequestUser user = requestUserContext.requireUser();
+        DataInjectorResponse response = dataInjectorService.uploadExcel(file, force, user);
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping("/errors/{reportId}")
+    public ResponseEntity<String> downloadErrorReport(@PathVariable String reportId) {
+        requestUserContext.requireUser();
+        ContentDisposition contentDisposition = ContentDisposition.attachment()
+            .filename("data-injector-errors-" + reportId + ".csv")
+            .build();
+        return dataInjectorService.findErrorReport(reportId)
+            .map(report -> ResponseEntity.ok()
+                .contentType(new MediaType("text", "csv", StandardCharsets.UTF_8))
+                .header(HttpHeaders.CONTENT_DISPOSITION, contentDisposition.toString())
+                .body(report))
+            .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+
+    @PostMapping(path = "/uploadcsv", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<DataInjectorResponse> uploadDelimited(
+        @RequestPart("file") MultipartFile file,
+        @RequestParam(value = "delimiter", required = false) String delimiter,
+        @RequestParam(value = "profile", required = false) String profile,
+        @RequestParam(value = "force", defaultValue = "false") boolean force) {
         RequestUser user = requestUserContext.requireUser();
-        DataInjectorResponse response = dataInjectorService.uploadExcel(file, user);
+        DataInjectorResponse response = dataInjectorService.uploadDelimited(file, delimiter, profile, force, user);
         return ResponseEntity.ok(response);
     }
 }
@@ -2,6 +2,7 @@ package com.docflow.web;
 
 import com.docflow.api.dto.AuditEntryResponse;
 import com.docflow.api.dto.DocumentActionRequest;
+import com.docflow.api.dto.DocumentFacetsResponse;
 import com.docflow.api.dto.DocumentResponse;
 import com.docflow.api.dto.DocumentSummary;
 import com.docflow.api.dto.DocumentUploadMetadata;
@@ -11,8 +12,13 @@ import com.docflow.context.RequestUser;
 import com.docflow.context.RequestUserContext;
 import com.docflow.domain.AuditLog;
 import com.docflow.domain.DocumentStatus;
+import com.docflow.service.DocumentChangeStreamService;
+import com.docflow.service.DocumentExportService;
+import com.docflow.service.DocumentFacetService;
 import com.docflow.service.DocumentFile;
 import com.docflow.service.DocumentService;
+import com.docflow.service.export.DocumentExportFormat;
+import com.docflow.service.search.DocumentNumberQuery;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -29,6 +35,8 @@ import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import org.springframework.web.server.ResponseStatusException;
 
 import java.io.IOException;
@@ -45,13 +53,22 @@ import java.util.stream.Collectors;
 public class DocumentController {
 
     private final DocumentService documentService;
+    private final DocumentFacetService documentFacetService;
+    private final DocumentExportService documentExportService;
+    private final DocumentChangeStreamService documentChangeStreamService;
     private final RequestUserContext requestUserContext;
     private final ObjectMapper objectMapper;
 
     public DocumentController(DocumentService documentService,
+                              DocumentFacetService documentFacetService,
+                              DocumentExportService documentExportService,
+                              DocumentChangeStreamService documentChangeStreamService,
                               RequestUserContext requestUserContext,
                               ObjectMapper objectMapper) {
         this.documentService = documentService;
+        this.documentFacetService = documentFacetService;
+        this.documentExportService = documentExportService;
+        this.documentChangeStreamService = documentChangeStreamService;
         this.requestUserContext = requestUserContext;
         this.objectMapper = objectMapper;
     }
@@ -84,6 +101,7 @@ public class DocumentController {
     public ResponseEntity<Page<DocumentSummary>> searchDocuments(
         @RequestParam(value = "status", required = false) String status,
         @RequestParam(value = "id", required = false) String documentNumber,
+        @RequestParam(value = "numberMatch", required = false) String numberMatch,
         @RequestParam(value = "metadataKey", required = false) String metadataKey,
         @RequestParam(value = "metadataValue", required = false) String metadataValue,
         @RequestParam(value = "page", defaultValue = "0") int page,
@@ -94,11 +112,12 @@ public class DocumentController {
     ) {
         Sort.Direction sortDirection = parseDirection(direction);
         String sortProperty = resolveSortProperty(sortBy);
+        String numberQuery = documentNumberQuery(documentNumber, numberMatch);
         Pageable pageable = PageRequest.of(page, size, Sort.by(sortDirection, sortProperty));
 
         Map<String, Object> dynamicFilters = parseFilters(filtersJson);
         Page<DocumentSummary> results = documentService.searchDocuments(
-            documentNumber,
+            numberQuery,
             parseStatus(status),
             metadataKey,
             metadataValue,
@@ -109,6 +128,79 @@ public class DocumentController {
         return ResponseEntity.ok(results);
     }
 
+    @GetMapping("/facets")
+    public ResponseEntity<DocumentFacetsResponse> getFacets(
+        @RequestParam(value = "status", required = false) String status,
+        @RequestParam(value = "id", required = false) String documentNumber,
+        @RequestParam(value = "numberMatch", required = false) String numberMatch,
+        @RequestParam(value = "filters", required = false) String filtersJson
+    ) {
+        String numberQuery = documentNumberQuery(documentNumber, numberMatch);
+        DocumentFacetsResponse facets = documentFacetService.getFacets(
+            numberQuery,
+            parseStatus(status),
+            parseFilters(filtersJson)
+        );
+        return ResponseEntity.ok(facets);
+    }
+
+    // Server-sent change events for the review screen's current filters; clients refetch the page on each event.
+    @GetMapping(path = "/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamDocumentChanges(
+        @RequestParam(value = "status", required = false) String status,
+        @RequestParam(value = "id", required = false) String documentNumber,
+        @RequestParam(value = "numberMatch", required = false) String numberMatch,
+        @RequestParam(value = "filters", required = false) String filtersJson
+    ) {
+        RequestUser user = requestUserContext.requireUser();
+        return documentChangeStreamService.subscribe(
+            documentNumberQuery(documentNumber, numberMatch),
+            parseStatus(status),
+            parseFilters(filtersJson),
+            user
+        );
+    }
+
+    // Streams every match instead of a page; the body is written after this method returns.
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportDocuments(
+        @RequestParam(value = "status", required = false) String status,
+        @RequestParam(value = "id", required = false) String documentNumber,
+        @RequestParam(value = "numberMatch", required = false) String numberMatch,
+        @RequestParam(value = "metadataKey", required = false) String metadataKey,
+        @RequestParam(value = "metadataValue", required = false) String metadataValue,
+        @RequestParam(value = "sortBy", defaultValue = "id") String sortBy,
+        @RequestParam(value = "direction", defaultValue = "asc") String direction,
+        @RequestParam(value = "filters", required = false) String filtersJson,
+        @RequestParam(value = "format", defaultValue = "csv") String format,
+        @RequestParam(value = "includeMetadata", defaultValue = "false") boolean includeMetadata
+    ) {
+        DocumentExportFormat exportFormat = parseExportFormat(format);
+        String numberQuery = documentNumberQuery(documentNumber, numberMatch);
+        DocumentStatus statusFilter = parseStatus(status);
+        Sort sort = Sort.by(parseDirection(direction), resolveSortProperty(sortBy));
+        Map<String, Object> dynamicFilters = parseFilters(filtersJson);
+
+        StreamingResponseBody body = outputStream -> documentExportService.exportDocuments(
+            numberQuery,
+            statusFilter,
+            metadataKey,
+            metadataValue,
+            dynamicFilters,
+            sort,
+            exportFormat,
+            includeMetadata,
+            outputStream
+        );
+        ContentDisposition contentDisposition = ContentDisposition.attachment()
+            .filename("documents." + exportFormat.extension())
+            .build();
+        return ResponseEntity.ok()
+            .header(HttpHeaders.CONTENT_DISPOSITION, contentDisposition.toString())
+            .contentType(MediaType.parseMediaType(exportFormat.contentType() + ";charset=UTF-8"))
+            .body(body);
+    }
+
     @GetMapping("/download/{id}")
     public ResponseEntity<Resource> downloadFile(@PathVariable Long id) {
         try {
@@ -161,6 +253,17 @@ public class DocumentController {
         return ResponseEntity.ok(response);
     }
 
+    // JSON merge patch (RFC 7386) over the metadata map: only the submitted keys are written, null removes a key.
+    @PatchMapping(path = "/{id}/metadata", consumes = {"application/merge-patch+json", MediaType.APPLICATION_JSON_VALUE})
+    public ResponseEntity<DocumentResponse> patchMetadata(
+        @PathVariable Long id,
+        @RequestBody Map<String, Object> patch) {
+
+        RequestUser user = requestUserContext.requireUser();
+        DocumentResponse response = documentService.patchMetadata(id, patch, user);
+        return ResponseEntity.ok(response);
+    }
+
     // ────────────────────────────── AUDIT ──────────────────────────────
     @GetMapping("/{id}/audit")
     public ResponseEntity<List<AuditEntryResponse>> getAuditTrail(@PathVariable Long id) {
@@ -293,6 +396,25 @@ public class DocumentController {
         };
     }
 
+    // Exact or prefix matching by default; numberMatch=contains restores substring matching for this request.
+    private String documentNumberQuery(String documentNumber, String numberMatch) {
+        if (numberMatch == null || numberMatch.isBlank() || "auto".equalsIgnoreCase(numberMatch.trim())) {
+            return documentNumber;
+        }
+        if ("contains".equalsIgnoreCase(numberMatch.trim())) {
+            return DocumentNumberQuery.contains(documentNumber);
+        }
+        throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid numberMatch value");
+    }
+
+    private DocumentExportFormat parseExportFormat(String format) {
+        try {
+            return DocumentExportFormat.parse(format);
+        } catch (IllegalArgumentException ex) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid export format");
+        }
+    }
+
     private DocumentStatus parseStatus(String status) {
         if (status == null || status.isBlank()) {
             return null;
@@ -0,0 +1,5 @@
+-- The users seeded by the Liquibase changelog.
+INSERT INTO user_roles (id, user_id, role_name, assigned_at) VALUES (user_roles_seq.NEXTVAL, 'admin1', 'ADMIN', SYSTIMESTAMP);
+INSERT INTO user_roles (id, user_id, role_name, assigned_at) VALUES (user_roles_seq.NEXTVAL, 'maker1', 'MAKER', SYSTIMESTAMP);
+INSERT INTO user_roles (id, user_id, role_name, assigned_at) VALUES (user_roles_seq.NEXTVAL, 'reviewer1', 'REVIEWER', SYSTIMESTAMP);
+INSERT INTO user_roles (id, user_id, role_name, assigned_at) VALUES (user_roles_seq.NEXTVAL, 'checker1', 'CHECKER', SYSTIMESTAMP);
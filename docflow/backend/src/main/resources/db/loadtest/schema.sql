@@ -0,0 +1,31 @@
+-- Tables written only through JdbcTemplate, which Hibernate does not create. Identity columns stand in for the
+-- sequence-and-trigger ids of the Liquibase changelog.
+CREATE TABLE IF NOT EXISTS data_injector_load (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    file_checksum VARCHAR(64) NOT NULL,
+    load_scope VARCHAR(64) NOT NULL,
+    file_name VARCHAR(255),
+    total_rows INTEGER NOT NULL,
+    loaded_by VARCHAR(100) NOT NULL,
+    loaded_at TIMESTAMP(6) DEFAULT SYSTIMESTAMP NOT NULL
+);
+
+CREATE TABLE IF NOT EXISTS data_injector_row_fingerprint (
+    target_table VARCHAR(128) NOT NULL,
+    row_key VARCHAR(400) NOT NULL,
+    fingerprint VARCHAR(64) NOT NULL,
+    updated_at TIMESTAMP(6) DEFAULT SYSTIMESTAMP NOT NULL,
+    CONSTRAINT pk_data_injector_row_fp PRIMARY KEY (target_table, row_key)
+);
+
+-- Target of the default data injector profile (excel.* in application.yml).
+CREATE TABLE IF NOT EXISTS loan_data (
+    loan_no VARCHAR(50) PRIMARY KEY,
+    amount NUMBER(15, 2),
+    start_date DATE,
+    end_date DATE,
+    monthly_emi NUMBER(15, 2),
+    branch VARCHAR(50),
+    total_installment NUMBER(10),
+    user_id VARCHAR(100)
+);
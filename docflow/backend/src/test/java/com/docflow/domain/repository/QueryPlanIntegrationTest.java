@@ -0,0 +1,109 @@
+package com.docflow.domain.repository;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.oracle.OracleContainer;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Asserts that the optimizer picks the hot-path indexes once the tables hold a realistic number of rows.
+@SpringBootTest
+@Testcontainers(disabledWithoutDocker = true)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class QueryPlanIntegrationTest {
+
+    @Container
+    @SuppressWarnings("resource")
+    static final OracleContainer ORACLE = new OracleContainer("gvenzl/oracle-free:23-slim-faststart");
+
+    @DynamicPropertySource
+    static void configureDatasource(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", ORACLE::getJdbcUrl);
+        registry.add("spring.datasource.username", ORACLE::getUsername);
+        registry.add("spring.datasource.password", ORACLE::getPassword);
+        registry.add("spring.datasource.driver-class-name", ORACLE::getDriverClassName);
+        registry.add("spring.jpa.hibernate.ddl-auto", () -> "none");
+        registry.add("spring.jpa.properties.hibernate.dialect", () -> "org.hibernate.dialect.OracleDialect");
+    }
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeAll
+    void loadRows() {
+        // 20,000 documents, 1 in 50 rejected, each with two metadata rows and two audit entries.
+        jdbcTemplate.update("""
+            INSERT INTO document_parent (document_number, title, status, created_by, created_at, updated_at)
+            SELECT 'DOC-' || LPAD(LEVEL, 6, '0'), 'Document ' || LEVEL,
+                   CASE WHEN MOD(LEVEL, 50) = 0 THEN 'REJECTED' ELSE 'OPEN' END,
+                   'maker' || MOD(LEVEL, 20), SYSTIMESTAMP, SYSTIMESTAMP - NUMTODSINTERVAL(LEVEL, 'MINUTE')
+            FROM dual CONNECT BY LEVEL <= 20000
+            """);
+        jdbcTemplate.update("""
+            INSERT INTO document_metadata (document_id, field_key, field_value, created_by)
+            SELECT d.id, k.field_key, '"value"', 'maker1'
+            FROM document_parent d
+            CROSS JOIN (SELECT 'branch' AS field_key FROM dual UNION ALL SELECT 'region' FROM dual) k
+            """);
+        jdbcTemplate.update("""
+            INSERT INTO audit_log (document_id, field_key, change_type, changed_by, changed_at)
+            SELECT d.id, k.field_key, 'ADDED', 'maker1', SYSTIMESTAMP
+            FROM document_parent d
+            CROSS JOIN (SELECT 'branch' AS field_key FROM dual UNION ALL SELECT 'region' FROM dual) k
+            """);
+        for (String table : List.of("DOCUMENT_PARENT", "DOCUMENT_METADATA", "AUDIT_LOG")) {
+            jdbcTemplate.update("BEGIN DBMS_STATS.GATHER_TABLE_STATS(USER, ?, cascade => TRUE); END;", table);
+        }
+    }
+
+    @Test
+    void auditTrailUsesDocumentChangedIndex() {
+        assertThat(planObjects("SELECT * FROM audit_log WHERE document_id = :1 ORDER BY changed_at"))
+            .contains("IDX_AUDIT_LOG_DOCUMENT_CHANGED");
+    }
+
+    @Test
+    void metadataByDocumentUsesUniqueKey() {
+        assertThat(planObjects("SELECT * FROM document_metadata WHERE document_id = :1"))
+            .contains("UK_DOCUMENT_METADATA_DOCUMENT_KEY");
+    }
+
+    @Test
+    void statusListingSortedByUpdatedAtUsesStatusIndex() {
+        assertThat(planObjects("SELECT * FROM document_parent WHERE status = 'REJECTED' "
+            + "ORDER BY updated_at, id FETCH FIRST 10 ROWS ONLY"))
+            .contains("IDX_DOCUMENT_PARENT_STATUS_UPD");
+    }
+
+    @Test
+    void statusListingSortedByCreatorUsesStatusCreatorIndex() {
+        assertThat(planObjects("SELECT * FROM document_parent WHERE status = 'REJECTED' "
+            + "ORDER BY created_by, id FETCH FIRST 10 ROWS ONLY"))
+            .contains("IDX_DOCUMENT_PARENT_STATUS_CRT");
+    }
+
+    @Test
+    void documentNumberPrefixUsesLowerIndex() {
+        assertThat(planObjects("SELECT * FROM document_parent WHERE LOWER(document_number) LIKE 'doc-0001%'"))
+            .contains("IDX_DOCUMENT_PARENT_NUMBER_LC");
+    }
+
+    private List<String> planObjects(String sql) {
+        String statementId = UUID.randomUUID().toString().substring(0, 30);
+        jdbcTemplate.execute("EXPLAIN PLAN SET STATEMENT_ID = '" + statementId + "' FOR " + sql);
+        return jdbcTemplate.queryForList(
+            "SELECT object_name FROM plan_table WHERE statement_id = ? AND object_name IS NOT NULL",
+            String.class, statementId);
+    }
+}
@@ -0,0 +1,46 @@
+package com.docflow.logging;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ArgumentRendererTest {
+
+    private final ArgumentRenderer renderer = new ArgumentRenderer(20);
+
+    @Test
+    void rendersScalarsAndSummarisesContainers() {
+        Map<String, Object> metadata = new LinkedHashMap<>(Map.of("a", 1, "b", 2));
+        Object[] args = {42L, "maker1", metadata, new ArrayList<>(List.of(1, 2, 3)), new Object[5], null};
+
+        assertThat(new ArgumentRenderer(200).renderAll(args))
+            .isEqualTo("[42, \"maker1\", LinkedHashMap[size=2], ArrayList[size=3], Object[length=5], null]");
+    }
+
+    @Test
+    void stopsOnceTheLimitIsReached() {
+        assertThat(renderer.renderAll(new Object[] {"x".repeat(30), 1, 2})).isEqualTo("[\"" + "x".repeat(20) + "…\", …+2]");
+    }
+
+    @Test
+    void truncatesLongStrings() {
+        assertThat(renderer.render("x".repeat(50))).isEqualTo("\"" + "x".repeat(20) + "…\"");
+    }
+
+    @Test
+    void rendersOtherObjectsByTypeOnly() {
+        assertThat(renderer.render(new StringBuilderHolder())).isEqualTo("StringBuilderHolder");
+    }
+
+    private static final class StringBuilderHolder {
+        @Override
+        public String toString() {
+            throw new AssertionError("toString must not be called");
+        }
+    }
+}
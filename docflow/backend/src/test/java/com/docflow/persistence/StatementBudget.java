@@ -0,0 +1,63 @@
+package com.docflow.persistence;
+
+import java.util.Map;
+import java.util.stream.Collectors;
+
+// Opt-in test helper that pins how many Hibernate statements a block of code may issue:
+//
+//     try (StatementBudget budget = StatementBudget.start()) {
+//         documentService.createDocument(request);
+//         budget.assertAtMost(4);
+//     }
+//
+// Only statements prepared through Hibernate on the calling thread are counted.
+public final class StatementBudget implements AutoCloseable {
+
+    private final StatementStatistics.Recording recording;
+
+    private StatementBudget(StatementStatistics.Recording recording) {
+        this.recording = recording;
+    }
+
+    public static StatementBudget start() {
+        return new StatementBudget(StatementStatistics.begin());
+    }
+
+    public int count() {
+        return recording.total();
+    }
+
+    public void assertAtMost(int maxStatements) {
+        if (recording.total() > maxStatements) {
+            throw new AssertionError("Expected at most " + maxStatements + " statements but "
+                + recording.total() + " were issued:\n" + describe(recording.countsByShape()));
+        }
+    }
+
+    public void assertExactly(int statements) {
+        if (recording.total() != statements) {
+            throw new AssertionError("Expected " + statements + " statements but "
+                + recording.total() + " were issued:\n" + describe(recording.countsByShape()));
+        }
+    }
+
+    // Fails when any single statement shape ran more than maxRepeats times, regardless of the total.
+    public void assertNoRepeatsAbove(int maxRepeats) {
+        Map<String, Integer> repeated = recording.repeatedShapes(maxRepeats + 1);
+        if (!repeated.isEmpty()) {
+            throw new AssertionError("Statements repeated more than " + maxRepeats + " times:\n" + describe(repeated));
+        }
+    }
+
+    @Override
+    public void close() {
+        recording.close();
+    }
+
+    private static String describe(Map<String, Integer> countsByShape) {
+        return countsByShape.entrySet().stream()
+            .sorted(Map.Entry.<String, Integer>comparingByValue().reversed())
+            .map(entry -> "  " + entry.getValue() + "x " + entry.getKey())
+            .collect(Collectors.joining("\n"));
+    }
+}
@@ -0,0 +1,57 @@
+package com.docflow.persistence;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class StatementCountingFilterTest {
+
+    private final StatementCountingInspector inspector = new StatementCountingInspector();
+
+    @Test
+    void countsRequestStatementsPerEndpointAndFlagsRepeatedShapes() throws Exception {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        StatementCountingFilter filter = new StatementCountingFilter(registry, 3);
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/documents/7");
+        request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/api/documents/{id}");
+
+        filter.doFilter(request, new MockHttpServletResponse(), (req, res) -> {
+            inspector.inspect("select d.id from document_parent d where d.id=?");
+            for (int i = 0; i < 3; i++) {
+                inspector.inspect("select m.id from document_metadata m where m.document_id=?");
+            }
+        });
+
+        assertThat(registry.get("docflow.sql.statements").tag("uri", "/api/documents/{id}").summary().totalAmount())
+            .isEqualTo(4);
+        assertThat(registry.get("docflow.sql.n_plus_one").tag("uri", "/api/documents/{id}").counter().count())
+            .isEqualTo(1);
+    }
+
+    @Test
+    void inListsOfAnySizeShareAShape() {
+        assertThat(StatementStatistics.shapeOf("select * from t where id in (?, ?,?)"))
+            .isEqualTo(StatementStatistics.shapeOf("select *  from t\n where id in (?,?)"));
+    }
+
+    @Test
+    void budgetSeesStatementsOfNestedScopesAndIgnoresOthers() {
+        inspector.inspect("select 1");
+        try (StatementBudget outer = StatementBudget.start()) {
+            inspector.inspect("select a from t where id=?");
+            try (StatementBudget inner = StatementBudget.start()) {
+                inspector.inspect("select a from t where id=?");
+                inner.assertExactly(1);
+            }
+            outer.assertExactly(2);
+            assertThatThrownBy(() -> outer.assertNoRepeatsAbove(1))
+                .isInstanceOf(AssertionError.class)
+                .hasMessageContaining("2x select a from t where id=?");
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.docflow.security;
+
+import com.docflow.domain.UserRole;
+import com.docflow.domain.repository.UserRoleRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class UserRoleCacheTest {
+
+    private final UserRoleRepository repository = mock(UserRoleRepository.class);
+    private final UserRoleCache cache = new UserRoleCache(repository, new SimpleMeterRegistry(),
+        Duration.ofMinutes(5), Duration.ofSeconds(30), 100);
+
+    @Test
+    void rolesAndUnknownUsersAreLoadedOnce() {
+        when(repository.findByUserId("reviewer1")).thenReturn(List.of(role("reviewer1", "REVIEWER")));
+        when(repository.findByUserId("nobody")).thenReturn(List.of());
+
+        assertThat(cache.rolesOf("reviewer1")).containsExactly("REVIEWER");
+        assertThat(cache.rolesOf("reviewer1")).containsExactly("REVIEWER");
+        assertThat(cache.rolesOf("nobody")).isEmpty();
+        assertThat(cache.rolesOf("nobody")).isEmpty();
+
+        verify(repository, times(1)).findByUserId("reviewer1");
+        verify(repository, times(1)).findByUserId("nobody");
+    }
+
+    @Test
+    void evictReloadsRoles() {
+        when(repository.findByUserId("maker1"))
+            .thenReturn(List.of(role("maker1", "MAKER")))
+            .thenReturn(List.of(role("maker1", "MAKER"), role("maker1", "CHECKER")));
+
+        assertThat(cache.rolesOf("maker1")).containsExactly("MAKER");
+        cache.evict("maker1");
+        assertThat(cache.rolesOf("maker1")).containsExactlyInAnyOrder("MAKER", "CHECKER");
+    }
+
+    private static UserRole role(String userId, String roleName) {
+        UserRole role = new UserRole();
+        role.setUserId(userId);
+        role.setRoleName(roleName);
+        return role;
+    }
+}
@@ -0,0 +1,80 @@
+package com.docflow.service;
+
+import com.docflow.api.dto.DocumentFacetsResponse;
+import com.docflow.api.dto.FilterDefinition;
+import com.docflow.api.dto.FilterSource;
+import com.docflow.domain.DocumentStatus;
+import com.docflow.domain.repository.DocumentRepository;
+import com.docflow.service.search.SearchFilterPlan;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class DefaultDocumentFacetServiceTest {
+
+    @Mock
+    private DocumentRepository documentRepository;
+
+    @Mock
+    private ConfigService configService;
+
+    private DefaultDocumentFacetService facetService;
+
+    @BeforeEach
+    void setUp() {
+        facetService = new DefaultDocumentFacetService(documentRepository, configService, new SimpleMeterRegistry(),
+            Duration.ofMinutes(1), 100);
+        List<FilterDefinition> definitions = List.of(
+            definition("branch", List.of("BR001", "BR002")),
+            definition("region", List.of("North", "South")));
+        when(configService.getReviewFilterPlan()).thenReturn(SearchFilterPlan.compile(definitions));
+    }
+
+    @Test
+    void activeOptionFilterIsLeftOutOfItsOwnFacetAndResultsAreCached() {
+        when(documentRepository.countByStatus(isNull(), anyList()))
+            .thenReturn(Map.of(DocumentStatus.OPEN, 3L));
+        when(documentRepository.countMetadataOptions(eq(Map.of("branch", List.of("BR001", "BR002"))), isNull(),
+            eq(DocumentStatus.OPEN), eq(List.of())))
+            .thenReturn(Map.of("branch", Map.of("BR001", 3L, "BR002", 5L)));
+        when(documentRepository.countMetadataOptions(eq(Map.of("region", List.of("North", "South"))), isNull(),
+            eq(DocumentStatus.OPEN), argThat(filters -> filters.size() == 1)))
+            .thenReturn(Map.of("region", Map.of("North", 2L, "South", 1L)));
+
+        Map<String, Object> submitted = Map.of("branch", "BR001");
+        DocumentFacetsResponse facets = facetService.getFacets(null, DocumentStatus.OPEN, submitted);
+        facetService.getFacets(" ", DocumentStatus.OPEN, Map.of("branch", "BR001", "unknown", "x"));
+
+        assertThat(facets.getStatusCounts()).containsEntry("OPEN", 3L).containsEntry("DRAFT", 0L);
+        assertThat(facets.getOptionCounts().get("branch")).containsEntry("BR002", 5L);
+        assertThat(facets.getOptionCounts().get("region")).containsEntry("North", 2L);
+        verify(documentRepository, times(1)).countByStatus(any(), anyList());
+    }
+
+    private static FilterDefinition definition(String key, List<String> options) {
+        FilterDefinition definition = new FilterDefinition();
+        definition.setKey(key);
+        definition.setType("dropdown");
+        definition.setSource(FilterSource.META_DATA);
+        definition.setOptions(options);
+        return definition;
+    }
+}
@@ -1,12 +1,18 @@
 package com.docflow.service;
 
+import com.docflow.api.dto.DocumentResponse;
 import com.docflow.api.dto.DocumentSummary;
 import com.docflow.api.dto.FilterDefinition;
 import com.docflow.api.dto.FilterSource;
+import com.docflow.context.RequestUser;
 import com.docflow.domain.DocumentParent;
 import com.docflow.domain.DocumentStatus;
 import com.docflow.domain.repository.DocumentRepository;
+import com.docflow.service.event.DocumentChangeEvent;
+import com.docflow.service.metrics.DocflowMetrics;
 import com.docflow.service.search.DocumentSearchFilter;
+import com.docflow.service.search.SearchFilterPlan;
+import com.docflow.service.search.SearchResultCache;
 import com.docflow.storage.StorageAdapter;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -14,6 +20,7 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.ArgumentCaptor;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
@@ -22,11 +29,16 @@ import org.springframework.test.util.ReflectionTestUtils;
 
 import java.time.OffsetDateTime;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 import static org.mockito.Mockito.any;
 
@@ -51,6 +63,18 @@ class DefaultDocumentServiceTest {
     @Mock
     private ConfigService configService;
 
+    @Mock
+    private DocumentSearchProjectionService searchProjectionService;
+
+    @Mock
+    private SearchResultCache searchResultCache;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private DocflowMetrics metrics;
+
     @InjectMocks
     private DefaultDocumentService documentService;
 
@@ -66,7 +90,7 @@ class DefaultDocumentServiceTest {
 
         Pageable pageable = PageRequest.of(0, 10);
         Page<DocumentParent> repositoryResult = new PageImpl<>(List.of(draftDocument), pageable, 1);
-        when(configService.getReviewFilterDefinitions()).thenReturn(Collections.emptyList());
+        when(configService.getReviewFilterPlan()).thenReturn(SearchFilterPlan.compile(Collections.emptyList()));
         when(documentRepository.searchDocuments(null, DocumentStatus.DRAFT, Collections.emptyList(), pageable))
             .thenReturn(repositoryResult);
 
@@ -94,7 +118,7 @@ class DefaultDocumentServiceTest {
         branchFilter.setType("dropdown");
 
         Pageable pageable = PageRequest.of(0, 10);
-        when(configService.getReviewFilterDefinitions()).thenReturn(List.of(branchFilter));
+        when(configService.getReviewFilterPlan()).thenReturn(SearchFilterPlan.compile(List.of(branchFilter)));
         when(documentRepository.searchDocuments(any(), any(), any(), any()))
             .thenReturn(Page.empty(pageable));
 
@@ -123,5 +147,49 @@ class DefaultDocumentServiceTest {
         assertThat(filter.getSource()).isEqualTo(FilterSource.META_DATA);
         assertThat(filter.getRawValue()).isEqualTo("BR001");
     }
-}
 
+    @Test
+    void patchMetadataRespondsWithPatchedKeysOnly() {
+        DocumentParent document = new DocumentParent();
+        ReflectionTestUtils.setField(document, "id", 7L);
+        document.setDocumentNumber("DOC-7");
+        document.setStatus(DocumentStatus.DRAFT);
+        RequestUser user = new RequestUser("maker1", Set.of("MAKER"));
+
+        Map<String, Object> patch = new HashMap<>();
+        patch.put("branch_code", "BR002");
+        patch.put("legacy_flag", null);
+        Map<String, Object> patched = new HashMap<>(patch);
+        when(documentRepository.findById(7L)).thenReturn(Optional.of(document));
+        when(metadataService.patchMetadata(document, patch, user))
+            .thenReturn(new MetadataService.PatchResult(patched, true));
+
+        DocumentResponse response = documentService.patchMetadata(7L, patch, user);
+
+        assertThat(response.getMetadata()).isEqualTo(patched);
+        assertThat(document.getUpdatedBy()).isEqualTo("maker1");
+        verify(searchProjectionService).refresh(document);
+        ArgumentCaptor<DocumentChangeEvent> eventCaptor = ArgumentCaptor.forClass(DocumentChangeEvent.class);
+        verify(eventPublisher).publishEvent(eventCaptor.capture());
+        assertThat(eventCaptor.getValue().type()).isEqualTo(DocumentChangeEvent.Type.METADATA_UPDATED);
+        assertThat(eventCaptor.getValue().documentId()).isEqualTo(7L);
+    }
+
+    @Test
+    void patchMetadataWithoutChangesLeavesDocumentUntouched() {
+        DocumentParent document = new DocumentParent();
+        ReflectionTestUtils.setField(document, "id", 7L);
+        RequestUser user = new RequestUser("maker1", Set.of("MAKER"));
+        Map<String, Object> patch = Map.of("branch_code", "BR002");
+        when(documentRepository.findById(7L)).thenReturn(Optional.of(document));
+        when(metadataService.patchMetadata(document, patch, user))
+            .thenReturn(new MetadataService.PatchResult(patch, false));
+
+        DocumentResponse response = documentService.patchMetadata(7L, patch, user);
+
+        assertThat(response.getMetadata()).isEqualTo(patch);
+        assertThat(document.getUpdatedBy()).isNull();
+        verify(documentRepository, never()).save(any());
+        verifyNoInteractions(searchProjectionService, eventPublisher);
+    }
+}
@@ -0,0 +1,213 @@
+package com.docflow.service;
+
+import com.docflow.context.RequestUser;
+import com.docflow.domain.DocumentParent;
+import com.docflow.domain.repository.DocumentMetadataRepository;
+import com.docflow.service.metadata.MetadataValueCodec;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.sql.ResultSet;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+
+@ExtendWith(MockitoExtension.class)
+class DefaultMetadataServiceTest {
+
+    @Mock
+    private DocumentMetadataRepository metadataRepository;
+
+    @Mock
+    private AuditService auditService;
+
+    @Mock
+    private DocumentSearchProjectionService searchProjectionService;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private EntityManager entityManager;
+
+    private final RequestUser user = new RequestUser("maker1", Set.of("MAKER"));
+
+    private DefaultMetadataService metadataService;
+    private DocumentParent document;
+
+    @BeforeEach
+    void setUp() {
+        metadataService = new DefaultMetadataService(metadataRepository, auditService,
+            new MetadataValueCodec(new ObjectMapper()), searchProjectionService, jdbcTemplate);
+        ReflectionTestUtils.setField(metadataService, "entityManager", entityManager);
+        document = new DocumentParent();
+        ReflectionTestUtils.setField(document, "id", 7L);
+    }
+
+    @Test
+    void persistAppliesTheDiffWithOneBatchPerStatementKind() {
+        storedRows(row(1L, "loan_amount", "100"), row(2L, "branch_code", "\"BR001\""),
+            row(3L, "legacy_flag", "true"), row(4L, "product", "\"TERM_LOAN\""));
+        Map<String, Object> requested = new LinkedHashMap<>();
+        requested.put("loan_amount", 250);
+        requested.put("product", "TERM_LOAN");
+        requested.put("region", "north");
+        requested.put("priority", 2);
+
+        Map<String, Object> stored = metadataService.persistMetadata(document, requested, user);
+
+        assertThat(stored).containsExactlyEntriesOf(requested);
+        verify(entityManager).flush();
+        verify(jdbcTemplate).query(anyString(), any(RowCallbackHandler.class), any(Object[].class));
+        assertThat(batch("INSERT")).extracting(parameters -> parameters[1]).containsExactly("region", "priority");
+        assertThat(batch("UPDATE")).extracting(parameters -> parameters[3]).containsExactly(1L);
+        assertThat(batch("DELETE")).extracting(parameters -> parameters[0]).containsExactly(2L, 3L);
+        verifyNoMoreInteractions(jdbcTemplate);
+        verifyNoInteractions(metadataRepository);
+        assertThat(auditedChanges()).containsExactly(
+            new AuditService.FieldChange("loan_amount", 100, 250, "UPDATED"),
+            new AuditService.FieldChange("region", null, "north", "ADDED"),
+            new AuditService.FieldChange("priority", null, 2, "ADDED"),
+            new AuditService.FieldChange("branch_code", "BR001", null, "REMOVED"),
+            new AuditService.FieldChange("legacy_flag", true, null, "REMOVED"));
+        verify(searchProjectionService).refresh(document);
+    }
+
+    @Test
+    void persistWithUnchangedValuesWritesNothing() {
+        storedRows(row(1L, "loan_amount", "100"), row(2L, "branch_code", "\"BR001\""));
+        Map<String, Object> requested = new LinkedHashMap<>();
+        requested.put("loan_amount", 100);
+        requested.put("branch_code", "BR001");
+
+        Map<String, Object> stored = metadataService.persistMetadata(document, requested, user);
+
+        assertThat(stored).containsExactlyEntriesOf(requested);
+        verify(jdbcTemplate, never()).batchUpdate(anyString(), anyList());
+        assertThat(auditedChanges()).isEmpty();
+    }
+
+    @Test
+    void patchRemovesKeysSetToNullAndIgnoresMissingOnes() {
+        storedRows(row(1L, "branch_code", "\"BR001\""), row(2L, "legacy_flag", "true"));
+        Map<String, Object> patch = new LinkedHashMap<>();
+        patch.put("legacy_flag", null);
+        patch.put("never_stored", null);
+
+        MetadataService.PatchResult result = metadataService.patchMetadata(document, patch, user);
+
+        assertThat(result.changed()).isTrue();
+        assertThat(result.metadata()).containsOnlyKeys("legacy_flag", "never_stored").containsValue(null);
+        assertThat(batch("DELETE")).containsExactly(new Object[] {7L, "legacy_flag"});
+        verify(jdbcTemplate, never()).batchUpdate(startsWith("MERGE"), anyList());
+        assertThat(auditedChanges()).containsExactly(
+            new AuditService.FieldChange("legacy_flag", true, null, "REMOVED"));
+    }
+
+    @Test
+    void patchRemovingOnlyMissingKeysChangesNothing() {
+        storedRows();
+        Map<String, Object> patch = new LinkedHashMap<>();
+        patch.put("never_stored", null);
+
+        MetadataService.PatchResult result = metadataService.patchMetadata(document, patch, user);
+
+        assertThat(result.changed()).isFalse();
+        verify(jdbcTemplate, never()).batchUpdate(anyString(), anyList());
+        assertThat(auditedChanges()).isEmpty();
+    }
+
+    @Test
+    void patchUpsertsChangedKeysOnlyAndAuditsAddsAndUpdates() {
+        storedRows(row(1L, "branch_code", "\"BR001\""), row(2L, "loan_amount", "100"));
+        Map<String, Object> patch = new LinkedHashMap<>();
+        patch.put("branch_code", "BR001");
+        patch.put("loan_amount", 250);
+        patch.put("region", "north");
+
+        MetadataService.PatchResult result = metadataService.patchMetadata(document, patch, user);
+
+        assertThat(result.changed()).isTrue();
+        assertThat(result.metadata()).containsExactlyEntriesOf(patch);
+        assertThat(batch("MERGE")).extracting(parameters -> parameters[1]).containsExactly("loan_amount", "region");
+        verify(jdbcTemplate, never()).batchUpdate(startsWith("DELETE"), anyList());
+        assertThat(auditedChanges()).containsExactly(
+            new AuditService.FieldChange("loan_amount", 100, 250, "UPDATED"),
+            new AuditService.FieldChange("region", null, "north", "ADDED"));
+    }
+
+    @Test
+    void patchWithUnchangedValuesWritesNothing() {
+        storedRows(row(1L, "branch_code", "\"BR001\""));
+
+        MetadataService.PatchResult result = metadataService.patchMetadata(document, Map.of("branch_code", "BR001"), user);
+
+        assertThat(result.changed()).isFalse();
+        assertThat(result.metadata()).containsEntry("branch_code", "BR001");
+        verify(jdbcTemplate, never()).batchUpdate(anyString(), anyList());
+        assertThat(auditedChanges()).isEmpty();
+    }
+
+    private static Object[] row(long id, String fieldKey, String fieldValue) {
+        return new Object[] {id, fieldKey, fieldValue};
+    }
+
+    // Answers metadata reads with the stored rows; a read restricted to field keys only sees the rows it names.
+    private void storedRows(Object[]... rows) {
+        doAnswer(invocation -> {
+            Object[] arguments = invocation.getArguments();
+            List<Object> keys = Arrays.asList(arguments).subList(3, arguments.length);
+            RowCallbackHandler handler = invocation.getArgument(1);
+            for (Object[] row : rows) {
+                if (!keys.isEmpty() && !keys.contains(row[1])) {
+                    continue;
+                }
+                ResultSet resultSet = mock(ResultSet.class);
+                lenient().when(resultSet.getLong("id")).thenReturn((Long) row[0]);
+                lenient().when(resultSet.getString("field_key")).thenReturn((String) row[1]);
+                lenient().when(resultSet.getString("field_value")).thenReturn((String) row[2]);
+                handler.processRow(resultSet);
+            }
+            return null;
+        }).when(jdbcTemplate).query(anyString(), any(RowCallbackHandler.class), any(Object[].class));
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Object[]> batch(String statement) {
+        ArgumentCaptor<List<Object[]>> captor = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate).batchUpdate(startsWith(statement), captor.capture());
+        return captor.getValue();
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<AuditService.FieldChange> auditedChanges() {
+        ArgumentCaptor<List<AuditService.FieldChange>> captor = ArgumentCaptor.forClass(List.class);
+        verify(auditService).logFieldUpdates(eq(document), captor.capture(), eq(user), any());
+        return captor.getValue();
+    }
+}
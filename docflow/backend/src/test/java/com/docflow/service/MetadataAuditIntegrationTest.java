@@ -28,7 +28,7 @@ class MetadataAuditIntegrationTest {
 
     @Container
     @SuppressWarnings("resource")
-    static final OracleContainer ORACLE = new OracleContainer("gvenzl/oracle-xe:21-slim");
+    static final OracleContainer ORACLE = new OracleContainer("gvenzl/oracle-free:23-slim-faststart");
 
     @DynamicPropertySource
     static void configureDatasource(DynamicPropertyRegistry registry) {
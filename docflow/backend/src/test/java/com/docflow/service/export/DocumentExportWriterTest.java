@@ -0,0 +1,61 @@
+package com.docflow.service.export;
+
+import com.docflow.domain.DocumentParent;
+import com.docflow.domain.DocumentStatus;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DocumentExportWriterTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void csvQuotesFieldsAndCarriesMetadataAsJson() {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        DocumentExportWriter writer = new DocumentExportWriter(DocumentExportFormat.CSV, true, objectMapper, output);
+
+        writer.writeHeader();
+        writer.writeDocument(document(), Map.of("branch", "BR001"));
+        writer.flush();
+
+        assertThat(output.toString(StandardCharsets.UTF_8)).isEqualTo(
+            "id,documentNumber,title,status,createdBy,createdAt,updatedBy,updatedAt,metadata\r\n"
+                + "7,DOC-7,\"Report, \"\"final\"\"\",OPEN,maker1,2025-01-02T03:04:05Z,,,\"{\"\"branch\"\":\"\"BR001\"\"}\"\r\n");
+    }
+
+    @Test
+    void ndjsonWritesOneObjectPerLine() throws Exception {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        DocumentExportWriter writer = new DocumentExportWriter(DocumentExportFormat.NDJSON, false, objectMapper, output);
+
+        writer.writeHeader();
+        writer.writeDocument(document(), null);
+        writer.writeDocument(document(), null);
+        writer.flush();
+
+        String[] lines = output.toString(StandardCharsets.UTF_8).split("\n");
+        assertThat(lines).hasSize(2);
+        assertThat(objectMapper.readTree(lines[0]).get("title").asText()).isEqualTo("Report, \"final\"");
+        assertThat(objectMapper.readTree(lines[0]).has("metadata")).isFalse();
+    }
+
+    private static DocumentParent document() {
+        DocumentParent document = new DocumentParent();
+        ReflectionTestUtils.setField(document, "id", 7L);
+        document.setDocumentNumber("DOC-7");
+        document.setTitle("Report, \"final\"");
+        document.setStatus(DocumentStatus.OPEN);
+        document.setCreatedBy("maker1");
+        document.setCreatedAt(OffsetDateTime.of(2025, 1, 2, 3, 4, 5, 0, ZoneOffset.UTC));
+        return document;
+    }
+}
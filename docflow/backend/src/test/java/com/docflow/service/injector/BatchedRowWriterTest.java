@@ -0,0 +1,131 @@
+package com.docflow.service.injector;
+
+import com.docflow.service.config.ExcelHeaderMappingResolver.ColumnBinding;
+import com.docflow.service.config.ExcelHeaderMappingResolver.HeaderDescriptor;
+import com.docflow.service.injector.IngestPlan.IngestRow;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+
+import java.security.MessageDigest;
+import java.sql.ResultSet;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class BatchedRowWriterTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private RowFingerprintStore fingerprintStore;
+
+    private final List<String> executed = new ArrayList<>();
+    private IngestPlan plan;
+
+    @BeforeEach
+    void setUp() {
+        Map<Integer, ColumnBinding> columns = new LinkedHashMap<>();
+        columns.put(0, new ColumnBinding("LoanNo", "loan_no", null));
+        columns.put(1, new ColumnBinding("Branch", "branch", null));
+        columns.put(2, new ColumnBinding("Notes", "notes", null));
+        plan = IngestPlan.compile("loan_data", "loan_no", new HeaderDescriptor(columns, Set.of()));
+
+        doAnswer(invocation -> {
+            List<Object[]> parameters = invocation.getArgument(1);
+            parameters.forEach(row -> executed.add(invocation.getArgument(0) + " " + Arrays.toString(row)));
+            int[] results = new int[parameters.size()];
+            Arrays.fill(results, 1);
+            return results;
+        }).when(jdbcTemplate).batchUpdate(anyString(), anyList());
+    }
+
+    @Test
+    void repeatedKeyIsAppliedInSourceOrderWithLastFingerprint() throws Exception {
+        IngestRow first = row("1001", "BR001", null);
+        IngestRow second = row("1001", "BR002", null);
+        IngestRow third = row("1001", "BR003", "moved");
+        IngestRow last = row("1001", "BR004", null);
+        BatchedRowWriter writer = new BatchedRowWriter(jdbcTemplate, plan, 10, fingerprintStore, null, null);
+
+        writer.add(first, 2);
+        writer.add(second, 3);
+        writer.add(third, 4);
+        writer.add(last, 5);
+        writer.flush();
+
+        assertThat(executed).containsExactly(
+            "INSERT INTO loan_data (loan_no, branch) VALUES (?, ?) [1001, BR001]",
+            "UPDATE loan_data SET branch = ? WHERE loan_no = ? [BR002, 1001]",
+            "UPDATE loan_data SET branch = ?, notes = ? WHERE loan_no = ? [BR003, moved, 1001]",
+            "UPDATE loan_data SET branch = ? WHERE loan_no = ? [BR004, 1001]");
+        assertThat(writer.getInserted()).isEqualTo(1);
+        assertThat(writer.getUpdated()).isEqualTo(3);
+        assertThat(savedFingerprints()).containsExactly(Map.entry("1001", fingerprint(last)));
+    }
+
+    @Test
+    void repeatedKeyIsComparedWithItsPreviousRowNotTheStoredFingerprint() throws Exception {
+        IngestRow stored = row("1001", "BR001", null);
+        IngestRow changed = row("1001", "BR002", "moved");
+        existingKeys("1001");
+        when(fingerprintStore.find(List.of("1001"))).thenReturn(Map.of("1001", fingerprint(stored)));
+        BatchedRowWriter writer = new BatchedRowWriter(jdbcTemplate, plan, 10, fingerprintStore, null, null);
+
+        writer.add(changed, 2);
+        writer.add(stored, 3);
+        writer.flush();
+
+        assertThat(executed).containsExactly(
+            "UPDATE loan_data SET branch = ?, notes = ? WHERE loan_no = ? [BR002, moved, 1001]",
+            "UPDATE loan_data SET branch = ? WHERE loan_no = ? [BR001, 1001]");
+        assertThat(writer.getUnchanged()).isZero();
+        assertThat(savedFingerprints()).containsExactly(Map.entry("1001", fingerprint(stored)));
+    }
+
+    private IngestRow row(Object... values) {
+        return plan.readRow(index -> values[index]);
+    }
+
+    private String fingerprint(IngestRow row) throws Exception {
+        return plan.fingerprint(row, MessageDigest.getInstance("SHA-256"));
+    }
+
+    private void existingKeys(String... keys) {
+        doAnswer(invocation -> {
+            RowCallbackHandler handler = invocation.getArgument(1);
+            for (String key : keys) {
+                ResultSet resultSet = mock(ResultSet.class);
+                when(resultSet.getObject(1)).thenReturn(key);
+                handler.processRow(resultSet);
+            }
+            return null;
+        }).when(jdbcTemplate).query(anyString(), any(RowCallbackHandler.class), any(Object[].class));
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<String, String> savedFingerprints() {
+        ArgumentCaptor<Map<String, String>> captor = ArgumentCaptor.forClass(Map.class);
+        verify(fingerprintStore).save(captor.capture());
+        return captor.getValue();
+    }
+}
@@ -0,0 +1,56 @@
+package com.docflow.service.injector;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class DelimitedRowReaderTest {
+
+    @Test
+    void readsQuotedFieldsWithEmbeddedDelimitersQuotesAndLineBreaks() throws IOException {
+        String input = "\uFEFFLoanNo,Branch,Notes\r\n"
+            + "1001, BR001 ,\"first, \"\"quoted\"\" note\"\r\n"
+            + "1002,BR002,\"multi\nline\"\n";
+
+        try (DelimitedRowReader reader = new DelimitedRowReader(new StringReader(input), ',', 16)) {
+            assertThat(reader.next()).isTrue();
+            assertThat(reader.values()).containsExactly("LoanNo", "Branch", "Notes");
+
+            assertThat(reader.next()).isTrue();
+            assertThat(reader.recordNumber()).isEqualTo(2);
+            assertThat(reader.value(0)).isEqualTo("1001");
+            assertThat(reader.value(1)).isEqualTo("BR001");
+            assertThat(reader.value(2)).isEqualTo("first, \"quoted\" note");
+
+            assertThat(reader.next()).isTrue();
+            assertThat(reader.value(2)).isEqualTo("multi\nline");
+
+            assertThat(reader.next()).isFalse();
+        }
+    }
+
+    @Test
+    void treatsBlankAndMissingFieldsAsNull() throws IOException {
+        try (DelimitedRowReader reader = new DelimitedRowReader(new StringReader("a\t \t\n"), '\t')) {
+            assertThat(reader.next()).isTrue();
+            assertThat(reader.fieldCount()).isEqualTo(3);
+            assertThat(reader.value(0)).isEqualTo("a");
+            assertThat(reader.value(1)).isNull();
+            assertThat(reader.value(2)).isNull();
+            assertThat(reader.value(5)).isNull();
+        }
+    }
+
+    @Test
+    void rejectsUnterminatedQuotedField() throws IOException {
+        try (DelimitedRowReader reader = new DelimitedRowReader(new StringReader("\"open,1"), ',')) {
+            assertThatThrownBy(reader::next)
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("record 1");
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.docflow.service.metadata;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MetadataValueCodecTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final MetadataValueCodec codec = new MetadataValueCodec(objectMapper);
+
+    @Test
+    void encodesLikeJackson() throws JsonProcessingException {
+        List<Object> values = Arrays.asList("BR001", "", "quote \" and \\ slash /", "tab\tline\nfeed\r\b\f\u0001\u001f",
+            "ünïcødé €", 0, -42, Integer.MAX_VALUE, Long.MIN_VALUE, (short) 7, (byte) -3,
+            new BigInteger("123456789012345678901234567890"), 1.5d, -0.0d, 1e21d, 2.5f, true, false,
+            Double.NaN, List.of("retail", 1), Map.of("nested", true));
+        for (Object value : values) {
+            assertThat(codec.encode(value)).as("%s", value).isEqualTo(objectMapper.writeValueAsString(value));
+        }
+        assertThat(codec.encode(null)).isNull();
+    }
+
+    @Test
+    void decodesJsonScalarsToJacksonTypes() throws JsonProcessingException {
+        List<String> stored = List.of("\"BR001\"", "\"\"", "\"a\\\"b\\\\c\\/d\\n\\u00e9\\u20AC\"", "0", "-0", "42",
+            "-2147483648", "2147483648", "9223372036854775807", "9223372036854775808", "1.5", "-1.25e3", "1E2",
+            "true", "false", " 42 ", "[\"retail\",1]", "{\"nested\":true}");
+        for (String value : stored) {
+            Object expected = objectMapper.readValue(value, Object.class);
+            Object decoded = codec.decode(value);
+            assertThat(decoded).as(value).isEqualTo(expected);
+            if (expected != null) {
+                assertThat(decoded.getClass()).as(value).isEqualTo(expected.getClass());
+            }
+        }
+        assertThat(codec.decode("null")).isNull();
+        assertThat(codec.decode(null)).isNull();
+    }
+
+    @Test
+    void returnsTextThatIsNotJsonUnchanged() {
+        List<String> legacy = List.of("BR001", "Customer 42", "2024-01-31", "", "  ", "007", "1.", ".5", "+1", "-",
+            "1e", "NaN", "tru", "nullish", "\"unterminated", "\"bad \\x escape\"", "\"short \\u12\"", "{not json", "[1,");
+        for (String value : legacy) {
+            assertThat(codec.decode(value)).as(value).isEqualTo(value);
+        }
+    }
+
+    @Test
+    void roundTripsEncodedValues() {
+        List<Object> values = List.of("plain", "with \"quotes\"\n", 12, 3_000_000_000L, 0.1d, true,
+            List.of("a", "b"));
+        for (Object value : values) {
+            assertThat(codec.decode(codec.encode(value))).as("%s", value).isEqualTo(value);
+        }
+    }
+}
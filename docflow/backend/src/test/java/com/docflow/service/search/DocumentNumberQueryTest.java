@@ -0,0 +1,30 @@
+package com.docflow.service.search;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DocumentNumberQueryTest {
+
+    @Test
+    void digitsMatchExactlyAndOtherInputAsPrefix() {
+        assertThat(DocumentNumberQuery.parse(" 12345 "))
+            .isEqualTo(new DocumentNumberQuery(DocumentNumberQuery.Mode.EXACT, "12345"));
+        assertThat(DocumentNumberQuery.parse("123*"))
+            .isEqualTo(new DocumentNumberQuery(DocumentNumberQuery.Mode.PREFIX, "123"));
+
+        DocumentNumberQuery temporary = DocumentNumberQuery.parse("TMP_1");
+        assertThat(temporary.mode()).isEqualTo(DocumentNumberQuery.Mode.PREFIX);
+        assertThat(temporary.likePattern()).isEqualTo("tmp\\_1%");
+    }
+
+    @Test
+    void containsOnlyWhenRequested() {
+        DocumentNumberQuery query = DocumentNumberQuery.parse(DocumentNumberQuery.contains("45"));
+
+        assertThat(query.mode()).isEqualTo(DocumentNumberQuery.Mode.CONTAINS);
+        assertThat(query.likePattern()).isEqualTo("%45%");
+        assertThat(DocumentNumberQuery.parse("*")).isNull();
+        assertThat(DocumentNumberQuery.parse(null)).isNull();
+    }
+}
@@ -0,0 +1,69 @@
+package com.docflow.service.search;
+
+import com.docflow.api.dto.FilterDefinition;
+import com.docflow.api.dto.FilterSource;
+import com.docflow.domain.DocumentStatus;
+import org.junit.jupiter.api.Test;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SearchFilterPlanTest {
+
+    @Test
+    void bindsConvertedValuesForResolvedDocumentAttributes() {
+        SearchFilterPlan plan = SearchFilterPlan.compile(List.of(
+            definition("status", FilterSource.DOCUMENT_PARENT),
+            definition("created_at", FilterSource.DOCUMENT_PARENT),
+            definition("branch_code", FilterSource.META_DATA)
+        ));
+
+        List<DocumentSearchFilter> filters = plan.bind(Map.of(
+            "status", "open",
+            "created_at", ">2024-01-01",
+            "branch_code", "like:BR"
+        ));
+
+        assertThat(filters).hasSize(3);
+        assertThat(filters.get(0).getBoundValue()).isEqualTo(DocumentStatus.OPEN);
+        assertThat(filters.get(1).getKey()).isEqualTo("createdAt");
+        assertThat(filters.get(1).getOperation()).isEqualTo(FilterOperation.GREATER_THAN);
+        assertThat(filters.get(1).getBoundValue()).isEqualTo(OffsetDateTime.parse("2024-01-01T00:00:00Z"));
+        assertThat(filters.get(2).getOperation()).isEqualTo(FilterOperation.LIKE);
+        assertThat(filters.get(2).getRawValue()).isEqualTo("BR");
+    }
+
+    @Test
+    void dropsFiltersWhoseValueDoesNotConvert() {
+        SearchFilterPlan plan = SearchFilterPlan.compile(List.of(definition("status", FilterSource.DOCUMENT_PARENT)));
+
+        assertThat(plan.bind(Map.of("status", "not-a-status"))).isEmpty();
+    }
+
+    @Test
+    void rejectsUnknownDocumentFieldsAndDuplicateKeys() {
+        List<FilterDefinition> definitions = List.of(
+            definition("branchCode", FilterSource.DOCUMENT_PARENT),
+            definition("branch_code", FilterSource.META_DATA),
+            definition("branch_code", FilterSource.META_DATA)
+        );
+
+        assertThatThrownBy(() -> SearchFilterPlan.validate(definitions))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("'branchCode' does not name a document field")
+            .hasMessageContaining("'branch_code' is defined more than once");
+        assertThat(SearchFilterPlan.compile(definitions).filters()).hasSize(1);
+    }
+
+    private FilterDefinition definition(String key, FilterSource source) {
+        FilterDefinition definition = new FilterDefinition();
+        definition.setKey(key);
+        definition.setSource(source);
+        definition.setType("text");
+        return definition;
+    }
+}
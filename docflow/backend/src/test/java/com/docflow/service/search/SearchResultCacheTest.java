@@ -0,0 +1,95 @@
+package com.docflow.service.search;
+
+import com.docflow.api.dto.DocumentSummary;
+import com.docflow.domain.DocumentStatus;
+import com.docflow.domain.repository.DocumentRepository;
+import com.docflow.domain.repository.DocumentRepository.StatusVersion;
+import com.docflow.service.event.DocumentChangeEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class SearchResultCacheTest {
+
+    private final DocumentRepository documentRepository = mock(DocumentRepository.class);
+    private final SearchResultCache cache = new SearchResultCache(documentRepository, new SimpleMeterRegistry(),
+        Duration.ofMinutes(1), 100, Duration.ofMinutes(1));
+    private final Page<DocumentSummary> page = new PageImpl<>(List.of());
+
+    @Test
+    void writesInvalidateOnlyPagesOfTheStatusesTheyTouch() {
+        SearchResultCache.Key open = store(DocumentStatus.OPEN);
+        SearchResultCache.Key approved = store(DocumentStatus.APPROVED);
+        SearchResultCache.Key any = store(null);
+
+        cache.onDocumentChange(change(DocumentStatus.OPEN, DocumentStatus.UNDER_REVIEW));
+
+        assertThat(cache.lookup(open)).isEmpty();
+        assertThat(cache.lookup(any)).isEmpty();
+        assertThat(cache.lookup(approved)).contains(page);
+    }
+
+    @Test
+    void pageComputedAcrossAWriteIsNotStored() {
+        SearchResultCache.Key open = SearchResultCache.key(null, DocumentStatus.OPEN, List.of(), PageRequest.of(0, 10));
+        long generation = cache.generation(open);
+
+        cache.onDocumentChange(change(null, DocumentStatus.OPEN));
+        cache.store(open, generation, page);
+
+        assertThat(cache.lookup(open)).isEmpty();
+    }
+
+    @Test
+    void writesCommittedByAnotherNodeInvalidateTheirStatusesOnTheNextCheck() {
+        SearchResultCache polling = new SearchResultCache(documentRepository, new SimpleMeterRegistry(),
+            Duration.ofMinutes(1), 100, Duration.ZERO);
+        OffsetDateTime updatedAt = OffsetDateTime.parse("2024-05-01T10:00:00Z");
+        StatusVersion approvedVersion = version(DocumentStatus.APPROVED, 2, 9L, updatedAt);
+        List<StatusVersion> before = List.of(version(DocumentStatus.OPEN, 3, 12L, updatedAt), approvedVersion);
+        List<StatusVersion> afterCreate = List.of(version(DocumentStatus.OPEN, 4, 13L, updatedAt), approvedVersion);
+        when(documentRepository.findStatusVersions()).thenReturn(before);
+        polling.lookup(SearchResultCache.key(null, null, List.of(), PageRequest.of(0, 10)));
+        SearchResultCache.Key open = store(polling, DocumentStatus.OPEN);
+        SearchResultCache.Key approved = store(polling, DocumentStatus.APPROVED);
+
+        when(documentRepository.findStatusVersions()).thenReturn(afterCreate);
+
+        assertThat(polling.lookup(approved)).contains(page);
+        assertThat(polling.lookup(open)).isEmpty();
+    }
+
+    private SearchResultCache.Key store(DocumentStatus status) {
+        return store(cache, status);
+    }
+
+    private SearchResultCache.Key store(SearchResultCache target, DocumentStatus status) {
+        SearchResultCache.Key key = SearchResultCache.key(null, status, List.of(), PageRequest.of(0, 10));
+        target.store(key, target.generation(key), page);
+        return key;
+    }
+
+    private static StatusVersion version(DocumentStatus status, long documents, Long lastId, OffsetDateTime updatedAt) {
+        StatusVersion version = mock(StatusVersion.class);
+        when(version.getStatus()).thenReturn(status);
+        when(version.getDocuments()).thenReturn(documents);
+        when(version.getLastId()).thenReturn(lastId);
+        when(version.getUpdatedAt()).thenReturn(updatedAt);
+        return version;
+    }
+
+    private static DocumentChangeEvent change(DocumentStatus from, DocumentStatus to) {
+        return new DocumentChangeEvent(1L, DocumentChangeEvent.Type.STATUS_CHANGED, from, to, "maker1",
+            OffsetDateTime.now());
+    }
+}
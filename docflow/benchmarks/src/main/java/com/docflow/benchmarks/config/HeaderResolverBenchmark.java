@@ -0,0 +1,86 @@
+package com.docflow.benchmarks.config;
+
+import com.docflow.service.config.DataInjectorProperties;
+import com.docflow.service.config.ExcelHeaderMappingResolver;
+import com.docflow.service.config.ExcelHeaderMappingResolver.HeaderDescriptor;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+// Header resolution for an upload with the default profile from application.yml: explicit mappings, headers that
+// only match a target column after normalisation, and blank columns.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class HeaderResolverBenchmark {
+
+    private static final List<String> HEADERS = Arrays.asList(
+        "LoanNo", "Amount", "Start Date", "End Date", "Monthly EMI", "Branch", "Total Installment", "User ID",
+        "loan-no", "MONTHLY_EMI", "total installment", null, "  ");
+
+    private ExcelHeaderMappingResolver resolver;
+    private XSSFWorkbook workbook;
+    private Row headerRow;
+
+    @Setup
+    public void setUp() {
+        DataInjectorProperties properties = new DataInjectorProperties();
+        properties.setTargetTable("loan_data");
+        properties.setPrimaryKey("loan_no");
+        Map<String, String> mappings = new LinkedHashMap<>();
+        mappings.put("LoanNo", "loan_no");
+        mappings.put("Amount", "amount");
+        mappings.put("Start Date", "start_date");
+        mappings.put("End Date", "end_date");
+        mappings.put("Monthly EMI", "monthly_emi");
+        mappings.put("Branch", "branch");
+        mappings.put("Total Installment", "total_installment");
+        mappings.put("User ID", "user_id");
+        properties.setMappings(mappings);
+        properties.setExtractors(Map.of("branch", "BR(\\d+)"));
+        resolver = new ExcelHeaderMappingResolver(properties);
+
+        workbook = new XSSFWorkbook();
+        headerRow = workbook.createSheet("Loans").createRow(0);
+        for (int index = 0; index < HEADERS.size(); index++) {
+            if (HEADERS.get(index) != null) {
+                headerRow.createCell(index).setCellValue(HEADERS.get(index));
+            }
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        workbook.close();
+    }
+
+    @Benchmark
+    public HeaderDescriptor resolveHeaderList() {
+        return resolver.resolve(HEADERS);
+    }
+
+    @Benchmark
+    public HeaderDescriptor resolveExcelRow() {
+        return resolver.resolve(headerRow);
+    }
+}
@@ -0,0 +1,108 @@
+package com.docflow.benchmarks.e2e;
+
+import com.docflow.DocflowApplication;
+import com.docflow.context.RequestUser;
+import com.docflow.domain.DocumentParent;
+import com.docflow.domain.DocumentStatus;
+import com.docflow.domain.repository.DocumentRepository;
+import com.docflow.service.MetadataService;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+// The backend application on an in-memory H2 database (Oracle compatibility mode), seeded with documents and
+// metadata. Hibernate creates the schema, so Oracle-only paths (search projection MERGE, Liquibase) are disabled.
+@State(Scope.Benchmark)
+public class EmbeddedDocflow {
+
+    public static final int DOCUMENTS = 2_000;
+    public static final String[] BRANCHES = {"BR001", "BR002", "BR003", "BR004", "BR005"};
+    public static final RequestUser USER = new RequestUser("bench", Set.of("MAKER"));
+
+    private ConfigurableApplicationContext context;
+    private TransactionTemplate transactionTemplate;
+    private List<Long> documentIds;
+
+    @Setup(Level.Trial)
+    public void start() {
+        // Passed as arguments so they take precedence over the packaged application.yml.
+        context = new SpringApplicationBuilder(DocflowApplication.class)
+            .web(WebApplicationType.NONE)
+            .run(
+                "--spring.datasource.url=jdbc:h2:mem:docflow-bench;MODE=Oracle;DB_CLOSE_DELAY=-1;IGNORE_UNKNOWN_SETTINGS=TRUE",
+                "--spring.datasource.driver-class-name=org.h2.Driver",
+                "--spring.datasource.username=sa",
+                "--spring.datasource.password=",
+                "--spring.jpa.hibernate.ddl-auto=create-drop",
+                "--spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+                "--spring.liquibase.enabled=false",
+                "--docflow.search.projection.enabled=false",
+                "--logging.level.root=WARN",
+                "--logging.level.org.springframework.jdbc=WARN");
+        transactionTemplate = new TransactionTemplate(bean(PlatformTransactionManager.class));
+        documentIds = transactionTemplate.execute(status -> seed());
+    }
+
+    @TearDown(Level.Trial)
+    public void stop() {
+        if (context != null) {
+            context.close();
+        }
+    }
+
+    public <T> T bean(Class<T> type) {
+        return context.getBean(type);
+    }
+
+    public TransactionTemplate transactions() {
+        return transactionTemplate;
+    }
+
+    public List<Long> documentIds() {
+        return documentIds;
+    }
+
+    private List<Long> seed() {
+        DocumentRepository documentRepository = bean(DocumentRepository.class);
+        MetadataService metadataService = bean(MetadataService.class);
+        OffsetDateTime now = OffsetDateTime.now();
+        List<Long> ids = new ArrayList<>();
+        DocumentStatus[] statuses = DocumentStatus.values();
+        for (int index = 0; index < DOCUMENTS; index++) {
+            DocumentParent document = new DocumentParent();
+            document.setDocumentNumber(String.format("DOC-%06d", index));
+            document.setTitle("Loan application " + index);
+            document.setStatus(statuses[index % statuses.length]);
+            document.setCreatedBy("maker" + (index % 7));
+            document.setCreatedAt(now.minusMinutes(index));
+            documentRepository.save(document);
+            metadataService.persistMetadata(document, metadataFor(index), USER);
+            ids.add(document.getId());
+        }
+        return ids;
+    }
+
+    public static Map<String, Object> metadataFor(int index) {
+        Map<String, Object> metadata = new LinkedHashMap<>();
+        metadata.put("branch_code", BRANCHES[index % BRANCHES.length]);
+        metadata.put("loan_amount", 250_000 + index * 10);
+        metadata.put("customer_name", "Customer " + index);
+        metadata.put("approved", index % 3 == 0);
+        metadata.put("tags", List.of("retail", "priority-" + (index % 4)));
+        return metadata;
+    }
+}
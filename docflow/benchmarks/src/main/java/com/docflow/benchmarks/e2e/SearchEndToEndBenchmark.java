@@ -0,0 +1,97 @@
+package com.docflow.benchmarks.e2e;
+
+import com.docflow.api.dto.FilterDefinition;
+import com.docflow.api.dto.FilterSource;
+import com.docflow.domain.DocumentParent;
+import com.docflow.domain.DocumentStatus;
+import com.docflow.domain.repository.DocumentRepository;
+import com.docflow.service.MetadataService;
+import com.docflow.service.search.DocumentSearchFilter;
+import com.docflow.service.search.SearchFilterPlan;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+// Search and metadata paths through the real repositories and services on the embedded database: criteria
+// construction plus execution for review searches, bulk metadata reads and a metadata save that rewrites every value of a document.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 3)
+@Measurement(iterations = 5, time = 3)
+@Fork(1)
+public class SearchEndToEndBenchmark {
+
+    private DocumentRepository documentRepository;
+    private MetadataService metadataService;
+    private List<DocumentSearchFilter> filters;
+    private Pageable page;
+    private List<Long> pageOfIds;
+    private Long updatedDocumentId;
+    private int saves;
+
+    @Setup
+    public void setUp(EmbeddedDocflow docflow) {
+        documentRepository = docflow.bean(DocumentRepository.class);
+        metadataService = docflow.bean(MetadataService.class);
+
+        FilterDefinition branch = new FilterDefinition();
+        branch.setKey("branch_code");
+        branch.setSource(FilterSource.META_DATA);
+        branch.setType("select");
+        FilterDefinition maker = new FilterDefinition();
+        maker.setKey("createdBy");
+        maker.setSource(FilterSource.DOCUMENT_PARENT);
+        maker.setType("text");
+        filters = SearchFilterPlan.compile(List.of(branch, maker))
+            .bind(Map.of("branch_code", "BR002", "createdBy", "like:maker%"));
+        page = PageRequest.of(0, 25, Sort.by(Sort.Direction.DESC, "createdAt"));
+        pageOfIds = docflow.documentIds().subList(0, 50);
+        updatedDocumentId = docflow.documentIds().get(0);
+    }
+
+    @Benchmark
+    public Page<DocumentParent> searchDocuments() {
+        return documentRepository.searchDocuments(null, DocumentStatus.OPEN, filters, page);
+    }
+
+    @Benchmark
+    public Map<DocumentStatus, Long> countByStatus() {
+        return documentRepository.countByStatus(null, filters);
+    }
+
+    @Benchmark
+    public Set<Long> findMatchingIds() {
+        return documentRepository.findMatchingIds(pageOfIds, null, null, filters);
+    }
+
+    @Benchmark
+    public Map<Long, Map<String, Object>> metadataForPage() {
+        return metadataService.getMetadata(pageOfIds);
+    }
+
+    @Benchmark
+    public Map<String, Object> persistMetadata(EmbeddedDocflow docflow) {
+        Map<String, Object> metadata = EmbeddedDocflow.metadataFor(saves++ % 2);
+        return docflow.transactions().execute(status -> {
+            DocumentParent document = documentRepository.findById(updatedDocumentId).orElseThrow();
+            return metadataService.persistMetadata(document, metadata, EmbeddedDocflow.USER);
+        });
+    }
+}
@@ -0,0 +1,129 @@
+package com.docflow.benchmarks.injector;
+
+import com.docflow.service.config.ExcelHeaderMappingResolver.ColumnBinding;
+import com.docflow.service.config.ExcelHeaderMappingResolver.HeaderDescriptor;
+import com.docflow.service.injector.IngestPlan;
+import com.docflow.service.injector.IngestPlan.IngestRow;
+import com.docflow.service.injector.IngestPlan.StatementTemplate;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+// Compares the per-row mapping and SQL generation of the data injector before and after IngestPlan.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class IngestPlanBenchmark {
+
+    private static final String TABLE = "loan_data";
+    private static final String PRIMARY_KEY = "loan_no";
+    private static final String[] COLUMNS = {
+        "loan_no", "amount", "start_date", "end_date", "monthly_emi", "branch", "total_installment", "user_id"
+    };
+
+    private HeaderDescriptor headerDescriptor;
+    private IngestPlan plan;
+    private Object[][] rows;
+
+    @Setup
+    public void setUp() {
+        Map<Integer, ColumnBinding> bindings = new LinkedHashMap<>();
+        for (int index = 0; index < COLUMNS.length; index++) {
+            bindings.put(index, new ColumnBinding(COLUMNS[index], COLUMNS[index], null));
+        }
+        headerDescriptor = new HeaderDescriptor(bindings, new LinkedHashSet<>());
+        plan = IngestPlan.compile(TABLE, PRIMARY_KEY, headerDescriptor);
+
+        rows = new Object[1024][];
+        LocalDateTime start = LocalDateTime.of(2024, 1, 1, 0, 0);
+        for (int row = 0; row < rows.length; row++) {
+            rows[row] = new Object[]{
+                100_000L + row,
+                250_000.5d + row,
+                start.plusDays(row),
+                start.plusYears(5).plusDays(row),
+                4_250.75d,
+                "BR" + (row % 40),
+                60L,
+                "maker" + (row % 7)
+            };
+        }
+    }
+
+    @Benchmark
+    public void legacyRowMapping(Blackhole blackhole) {
+        for (Object[] cells : rows) {
+            Map<String, Object> values = new LinkedHashMap<>();
+            Object primaryKeyValue = null;
+            for (Map.Entry<Integer, ColumnBinding> entry : headerDescriptor.mappedColumns().entrySet()) {
+                Object value = cells[entry.getKey()];
+                if (value == null) {
+                    continue;
+                }
+                String target = entry.getValue().targetColumn();
+                values.put(target, value instanceof String text ? text.trim() : value);
+                if (legacyMatches(target, PRIMARY_KEY)) {
+                    primaryKeyValue = value;
+                }
+            }
+
+            List<String> columns = new ArrayList<>();
+            List<Object> parameters = new ArrayList<>();
+            for (Map.Entry<String, Object> entry : values.entrySet()) {
+                columns.add(legacySqlColumnName(entry.getKey()));
+                parameters.add(entry.getValue());
+            }
+            String placeholders = String.join(", ", columns.stream().map(column -> "?").toList());
+            String sql = "INSERT INTO " + TABLE + " (" + String.join(", ", columns) + ") VALUES (" + placeholders + ")";
+            blackhole.consume(sql);
+            blackhole.consume(parameters.toArray());
+            blackhole.consume(primaryKeyValue);
+        }
+    }
+
+    @Benchmark
+    public void plannedRowMapping(Blackhole blackhole) {
+        for (Object[] cells : rows) {
+            IngestRow row = plan.readRow(columnIndex -> cells[columnIndex]);
+            StatementTemplate insert = plan.insertTemplate(row);
+            blackhole.consume(insert.sql());
+            blackhole.consume(insert.bind(row));
+            blackhole.consume(plan.primaryKeyValue(row));
+        }
+    }
+
+    private static boolean legacyMatches(String left, String right) {
+        return legacyNormalize(left).equals(legacyNormalize(right));
+    }
+
+    private static String legacyNormalize(String value) {
+        return value.replaceAll("[^A-Za-z0-9]", "").toLowerCase(Locale.ROOT);
+    }
+
+    private static String legacySqlColumnName(String columnName) {
+        if (!columnName.matches("[A-Za-z0-9_]+")) {
+            throw new IllegalArgumentException("Invalid column name: " + columnName);
+        }
+        return columnName;
+    }
+}
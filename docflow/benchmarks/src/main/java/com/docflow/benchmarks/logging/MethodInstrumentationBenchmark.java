@@ -0,0 +1,122 @@
+package com.docflow.benchmarks.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.LoggerContext;
+import com.docflow.logging.InstrumentationInterceptor;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.slf4j.LoggerFactory;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+// Per-call overhead of the removed catch-all MethodLoggerAspect against InstrumentationInterceptor, on a service-like
+// call taking a 40 entry metadata map. Logback runs without appenders, so the numbers cover argument rendering and
+// event creation but not console I/O; the DEBUG rows correspond to the old production logging level.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MethodInstrumentationBenchmark {
+
+    @Param({"INFO", "DEBUG"})
+    public String level;
+
+    private MetadataCalls direct;
+    private MetadataCalls legacyAspect;
+    private MetadataCalls instrumented;
+    private Map<String, Object> metadata;
+
+    @Setup
+    public void setUp() {
+        LoggerContext loggerContext = (LoggerContext) LoggerFactory.getILoggerFactory();
+        loggerContext.reset();
+        loggerContext.getLogger("com.docflow").setLevel(Level.toLevel(level));
+
+        metadata = new LinkedHashMap<>();
+        for (int field = 0; field < 40; field++) {
+            metadata.put("field" + field, "value of metadata field " + field);
+        }
+
+        direct = new MetadataCalls();
+
+        AspectJProxyFactory legacyFactory = new AspectJProxyFactory(new MetadataCalls());
+        legacyFactory.setProxyTargetClass(true);
+        legacyFactory.addAspect(new LegacyMethodLoggerAspect());
+        legacyAspect = legacyFactory.getProxy();
+
+        StaticListableBeanFactory beans = new StaticListableBeanFactory();
+        beans.addBean("meterRegistry", new SimpleMeterRegistry());
+        ProxyFactory instrumentedFactory = new ProxyFactory(new MetadataCalls());
+        instrumentedFactory.setProxyTargetClass(true);
+        instrumentedFactory.addAdvice(new InstrumentationInterceptor(beans.getBeanProvider(MeterRegistry.class), 0.01, 200));
+        instrumented = (MetadataCalls) instrumentedFactory.getProxy();
+    }
+
+    @Benchmark
+    public Map<String, Object> direct() {
+        return direct.persist(42L, metadata);
+    }
+
+    @Benchmark
+    public Map<String, Object> legacyAspect() {
+        return legacyAspect.persist(42L, metadata);
+    }
+
+    @Benchmark
+    public Map<String, Object> instrumented() {
+        return instrumented.persist(42L, metadata);
+    }
+
+    public static class MetadataCalls {
+
+        public Map<String, Object> persist(Long documentId, Map<String, Object> requestedMetadata) {
+            return requestedMetadata;
+        }
+    }
+
+    // MethodLoggerAspect as it was before instrumentation became opt-in.
+    @Aspect
+    public static class LegacyMethodLoggerAspect {
+
+        private static final org.slf4j.Logger log = LoggerFactory.getLogger("com.docflow.logging.MethodLoggerAspect");
+
+        @Around("execution(* com.docflow.benchmarks.logging..*(..))")
+        public Object logMethod(ProceedingJoinPoint joinPoint) throws Throwable {
+            String method = joinPoint.getSignature().toShortString();
+            Object[] args = joinPoint.getArgs();
+            log.debug("▶️ Entering {} with args: {}", method, Arrays.toString(args));
+            long start = System.currentTimeMillis();
+
+            try {
+                Object result = joinPoint.proceed();
+                log.debug("✅ Exiting {} -> {} ({} ms)", method, result, System.currentTimeMillis() - start);
+                return result;
+            } catch (Throwable ex) {
+                log.error("💥 Exception in {}: {}", method, ex.getMessage(), ex);
+                throw ex;
+            }
+        }
+    }
+}
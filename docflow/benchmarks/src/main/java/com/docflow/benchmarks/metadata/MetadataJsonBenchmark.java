@@ -0,0 +1,109 @@
+package com.docflow.benchmarks.metadata;
+
+import com.docflow.service.metadata.MetadataValueCodec;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// Metadata value (de)serialisation: the original DefaultMetadataService code, where every value went through the
+// application's ObjectMapper and values stored before JSON encoding fell back to the raw text via an exception,
+// against MetadataValueCodec. The document values mirror the seed data of the end-to-end suite.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MetadataJsonBenchmark {
+
+    private ObjectMapper objectMapper;
+    private MetadataValueCodec codec;
+    private List<Object> values;
+    private List<String> stored;
+    private List<String> legacyStored;
+
+    @Setup
+    public void setUp() throws JsonProcessingException {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        codec = new MetadataValueCodec(objectMapper);
+        values = List.of("BR002", 250_420, "Customer 42", true, List.of("retail", "priority-2"));
+        stored = new ArrayList<>();
+        for (Object value : values) {
+            stored.add(objectMapper.writeValueAsString(value));
+        }
+        legacyStored = List.of("BR002", "Customer 42", "2024-01-31");
+    }
+
+    @Benchmark
+    public void jacksonSerialize(Blackhole blackhole) {
+        for (Object value : values) {
+            blackhole.consume(serializeValue(value));
+        }
+    }
+
+    @Benchmark
+    public void jacksonDeserialize(Blackhole blackhole) {
+        for (String value : stored) {
+            blackhole.consume(deserializeValue(value));
+        }
+    }
+
+    @Benchmark
+    public void jacksonDeserializeLegacyText(Blackhole blackhole) {
+        for (String value : legacyStored) {
+            blackhole.consume(deserializeValue(value));
+        }
+    }
+
+    @Benchmark
+    public void codecSerialize(Blackhole blackhole) {
+        for (Object value : values) {
+            blackhole.consume(codec.encode(value));
+        }
+    }
+
+    @Benchmark
+    public void codecDeserialize(Blackhole blackhole) {
+        for (String value : stored) {
+            blackhole.consume(codec.decode(value));
+        }
+    }
+
+    @Benchmark
+    public void codecDeserializeLegacyText(Blackhole blackhole) {
+        for (String value : legacyStored) {
+            blackhole.consume(codec.decode(value));
+        }
+    }
+
+    private String serializeValue(Object value) {
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Unable to serialize metadata value", e);
+        }
+    }
+
+    private Object deserializeValue(String value) {
+        try {
+            return objectMapper.readValue(value, Object.class);
+        } catch (JsonProcessingException e) {
+            return value;
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package com.docflow.benchmarks.search;
+
+import com.docflow.api.dto.FilterDefinition;
+import com.docflow.api.dto.FilterSource;
+import com.docflow.service.search.DocumentSearchFilter;
+import com.docflow.service.search.SearchFilterPlan;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+// Turning submitted review filters into search filters: per-definition parsing as DocumentSearchFilter.fromDefinition
+// does it, against binding through a SearchFilterPlan compiled once per config version.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SearchFilterParsingBenchmark {
+
+    private List<FilterDefinition> definitions;
+    private Map<String, Object> submitted;
+    private SearchFilterPlan plan;
+
+    @Setup
+    public void setUp() {
+        definitions = List.of(
+            definition("createdBy", FilterSource.DOCUMENT_PARENT, "text"),
+            definition("createdAt", FilterSource.DOCUMENT_PARENT, "date"),
+            definition("title", FilterSource.DOCUMENT_PARENT, "text"),
+            definition("branch_code", FilterSource.META_DATA, "select"),
+            definition("loan_amount", FilterSource.META_DATA, "number"),
+            definition("customer_name", FilterSource.META_DATA, "text"));
+        submitted = new LinkedHashMap<>();
+        submitted.put("createdBy", "maker3");
+        submitted.put("createdAt", ">2024-01-01T00:00:00Z");
+        submitted.put("title", "like:%application%");
+        submitted.put("branch_code", List.of("BR002"));
+        submitted.put("loan_amount", "< 300000");
+        submitted.put("customer_name", "  Customer 42 ");
+        plan = SearchFilterPlan.compile(definitions);
+    }
+
+    @Benchmark
+    public void fromDefinition(Blackhole blackhole) {
+        List<DocumentSearchFilter> filters = new ArrayList<>();
+        for (FilterDefinition definition : definitions) {
+            Object candidate = submitted.get(definition.getKey());
+            if (candidate != null) {
+                DocumentSearchFilter filter = DocumentSearchFilter.fromDefinition(definition, candidate);
+                if (filter != null) {
+                    filters.add(filter);
+                }
+            }
+        }
+        blackhole.consume(filters);
+    }
+
+    @Benchmark
+    public List<DocumentSearchFilter> compiledPlanBind() {
+        return plan.bind(submitted);
+    }
+
+    @Benchmark
+    public List<DocumentSearchFilter> compileAndBind() {
+        return SearchFilterPlan.compile(definitions).bind(submitted);
+    }
+
+    private static FilterDefinition definition(String key, FilterSource source, String type) {
+        FilterDefinition definition = new FilterDefinition();
+        definition.setKey(key);
+        definition.setSource(source);
+        definition.setType(type);
+        return definition;
+    }
+}
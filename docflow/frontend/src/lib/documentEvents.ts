@@ -0,0 +1,72 @@
+import { loadUser } from './user';
+import type { DocumentChangeEvent } from '../types/documents';
+
+const RECONNECT_DELAY_MS = 5000;
+
+// EventSource cannot send the X-USER-ID header, so the stream is read with fetch and parsed here.
+export function subscribeToDocumentChanges(
+  params: Record<string, string | undefined>,
+  onChange: (event: DocumentChangeEvent) => void,
+): () => void {
+  const controller = new AbortController();
+  const query = new URLSearchParams();
+  Object.entries(params).forEach(([key, value]) => {
+    if (value) {
+      query.set(key, value);
+    }
+  });
+
+  const connect = async () => {
+    while (!controller.signal.aborted) {
+      try {
+        const user = loadUser();
+        const response = await fetch(`/api/documents/events?${query.toString()}`, {
+          headers: user ? { 'X-USER-ID': user.userId, Accept: 'text/event-stream' } : {},
+          signal: controller.signal,
+        });
+        if (response.ok && response.body) {
+          await readEvents(response.body, onChange);
+        }
+      } catch (error) {
+        if (controller.signal.aborted) {
+          return;
+        }
+      }
+      await new Promise((resolve) => window.setTimeout(resolve, RECONNECT_DELAY_MS));
+    }
+  };
+
+  connect();
+  return () => controller.abort();
+}
+
+async function readEvents(body: ReadableStream<Uint8Array>, onChange: (event: DocumentChangeEvent) => void) {
+  const reader = body.getReader();
+  const decoder = new TextDecoder();
+  let buffer = '';
+  for (;;) {
+    const { done, value } = await reader.read();
+    if (done) {
+      return;
+    }
+    buffer += decoder.decode(value, { stream: true }).replace(/\r\n/g, '\n');
+    let boundary = buffer.indexOf('\n\n');
+    while (boundary >= 0) {
+      const block = buffer.slice(0, boundary);
+      buffer = buffer.slice(boundary + 2);
+      const data = block
+        .split('\n')
+        .filter((line) => line.startsWith('data:'))
+        .map((line) => line.slice(5).trimStart())
+        .join('\n');
+      if (data) {
+        try {
+          onChange(JSON.parse(data) as DocumentChangeEvent);
+        } catch (error) {
+          // Ignore malformed events; the next one triggers the same refresh.
+        }
+      }
+      boundary = buffer.indexOf('\n\n');
+    }
+  }
+}
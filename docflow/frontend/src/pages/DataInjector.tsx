@@ -22,6 +22,20 @@ export default function DataInjector() {
     setResult(null);
   };
 
+  const handleDownloadErrors = async (reportId: string) => {
+    try {
+      const response = await api.get(`/documents/data-injector/errors/${reportId}`, { responseType: 'blob' });
+      const objectUrl = URL.createObjectURL(response.data as Blob);
+      const link = document.createElement('a');
+      link.href = objectUrl;
+      link.download = `data-injector-errors-${reportId}.csv`;
+      link.click();
+      URL.revokeObjectURL(objectUrl);
+    } catch (error) {
+      setErrorMessage('Error report is no longer available.');
+    }
+  };
+
   const handleSubmit = async (event: FormEvent) => {
     event.preventDefault();
     if (!file) {
@@ -34,10 +48,11 @@ export default function DataInjector() {
 
     const formData = new FormData();
     formData.append('file', file);
+    const endpoint = /\.(csv|tsv|tab)$/i.test(file.name) ? 'uploadcsv' : 'uploadexcel';
 
     try {
       const response = await api.post<DataInjectorResponse>(
-        '/documents/data-injector/uploadexcel',
+        `/documents/data-injector/${endpoint}`,
         formData,
         {
           headers: {
@@ -60,7 +75,7 @@ export default function DataInjector() {
       <div className="rounded border border-slate-200 bg-white p-6 shadow-sm transition-colors dark:border-slate-700 dark:bg-slate-900">
         <h1 className="text-xl font-semibold text-slate-800 dark:text-slate-100">Data Injector</h1>
         <p className="mt-2 text-sm text-slate-600 dark:text-slate-300">
-          Upload a prepared Excel workbook to bulk insert or update document records. Each row should include a
+          Upload a prepared Excel workbook or CSV/TSV export to bulk insert or update document records. Each row should include a
           <span className="mx-1 rounded bg-slate-100 px-1 font-mono text-xs dark:bg-slate-800">DocumentNumber</span>
           column and optional metadata columns.
         </p>
@@ -76,12 +91,12 @@ export default function DataInjector() {
           </legend>
           <label className="block text-sm">
             <span className="text-xs font-semibold uppercase tracking-wide text-slate-600 dark:text-slate-300">
-              Excel file
+              Excel or CSV file
             </span>
             <input
               key={fileInputKey}
               type="file"
-              accept=".xls,.xlsx"
+              accept=".xls,.xlsx,.csv,.tsv"
               className="mt-1 block w-full text-sm text-slate-600 file:mr-4 file:rounded file:border-0 file:bg-blue-600 file:px-4 file:py-2 file:text-sm file:font-semibold file:text-white file:transition file:hover:bg-blue-700 dark:text-slate-300 dark:file:bg-blue-500 dark:file:hover:bg-blue-400"
               onChange={handleFileChange}
             />
@@ -111,6 +126,9 @@ export default function DataInjector() {
           <div className="text-base font-semibold">
             ✅ Data Injection Complete
           </div>
+          {result.unchangedFile ? (
+            <div>This file was already loaded and has not changed; no rows were written.</div>
+          ) : null}
           <dl className="grid gap-2 sm:grid-cols-2">
             <div>
               <dt className="text-xs uppercase tracking-wide text-emerald-600 dark:text-emerald-300">Total Rows</dt>
@@ -124,17 +142,54 @@ export default function DataInjector() {
               <dt className="text-xs uppercase tracking-wide text-emerald-600 dark:text-emerald-300">Updated</dt>
               <dd className="text-base font-semibold">{result.updated}</dd>
             </div>
+            <div>
+              <dt className="text-xs uppercase tracking-wide text-emerald-600 dark:text-emerald-300">Unchanged</dt>
+              <dd className="text-base font-semibold">{result.unchanged}</dd>
+            </div>
             <div>
               <dt className="text-xs uppercase tracking-wide text-emerald-600 dark:text-emerald-300">Skipped</dt>
               <dd className="text-base font-semibold">{result.skipped}</dd>
             </div>
+            <div>
+              <dt className="text-xs uppercase tracking-wide text-emerald-600 dark:text-emerald-300">Failed</dt>
+              <dd className="text-base font-semibold">{result.failed}</dd>
+            </div>
           </dl>
+          {result.errorReportId ? (
+            <button
+              type="button"
+              className="text-sm font-semibold text-rose-700 underline dark:text-rose-300"
+              onClick={() => handleDownloadErrors(result.errorReportId as string)}
+            >
+              Download error report
+            </button>
+          ) : null}
           <div>
             <div className="text-xs uppercase tracking-wide text-emerald-600 dark:text-emerald-300">Ignored Columns</div>
             <div className="mt-1 font-semibold">
               {result.ignoredColumns.length > 0 ? result.ignoredColumns.join(', ') : 'None'}
             </div>
           </div>
+          {result.sheets.length > 1 || result.ignoredSheets.length > 0 ? (
+            <div>
+              <div className="text-xs uppercase tracking-wide text-emerald-600 dark:text-emerald-300">Sheets</div>
+              <ul className="mt-1 space-y-1">
+                {result.sheets.map((sheet) => (
+                  <li key={sheet.sheetName}>
+                    <span className="font-semibold">{sheet.sheetName}</span> → {sheet.targetTable ?? '—'}:{' '}
+                    {sheet.error
+                      ? <span className="text-rose-600 dark:text-rose-300">{sheet.error}</span>
+                      : `${sheet.inserted} inserted, ${sheet.updated} updated, ${sheet.skipped} skipped, ${sheet.failed} failed`}
+                  </li>
+                ))}
+                {result.ignoredSheets.map((name) => (
+                  <li key={name} className="opacity-70">
+                    <span className="font-semibold">{name}</span>: no matching profile
+                  </li>
+                ))}
+              </ul>
+            </div>
+          ) : null}
         </div>
       ) : null}
     </div>
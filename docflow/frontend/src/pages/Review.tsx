@@ -6,6 +6,7 @@ import api from '../lib/api';
 import { fieldsForRole, parseUploadFieldConfig, UploadFieldDefinition } from '../lib/config';
 import { parseReviewFilterConfig, ReviewFilterDefinition } from '../lib/reviewFilters';
 import { convertDocxToHtml, convertXlsxToHtml } from '../lib/documentPreview';
+import { subscribeToDocumentChanges } from '../lib/documentEvents';
 import {
   DynamicFormValues,
   isDynamicFormValueEmpty,
@@ -14,7 +15,7 @@ import {
 import { useUser } from '../lib/UserContext';
 import { DocumentStatus, normalizeStatus } from '../lib/documentStatus';
 import type { UserRole } from '../lib/user';
-import type { DocumentResponse, DocumentSummary, PageResponse } from '../types/documents';
+import type { DocumentFacets, DocumentResponse, DocumentSummary, PageResponse } from '../types/documents';
 
 interface ConfigResponse {
   configJson: string | null;
@@ -58,6 +59,8 @@ export default function Review() {
   // const [metadataValueFilter, setMetadataValueFilter] = useState('');
   const [documentsPage, setDocumentsPage] = useState<PageResponse<DocumentSummary> | null>(null);
   const [documentsLoading, setDocumentsLoading] = useState(false);
+  const [facets, setFacets] = useState<DocumentFacets | null>(null);
+  const [streamParams, setStreamParams] = useState<Record<string, string | undefined> | null>(null);
   const [selectedDocumentId, setSelectedDocumentId] = useState<number | null>(null);
   const [currentPage, setCurrentPage] = useState(0);
   const [sortBy, setSortBy] = useState<SortColumn>('id');
@@ -250,10 +253,24 @@ export default function Review() {
         if (Object.keys(filtersPayload).length > 0) {
           params.filters = JSON.stringify(filtersPayload);
         }
+        api
+          .get<DocumentFacets>('/documents/facets', {
+            params: { status: params.status, id: params.id, filters: params.filters },
+          })
+          .then((facetResponse) => setFacets(facetResponse.data))
+          .catch(() => setFacets(null));
         const response = await api.get<PageResponse<DocumentSummary>>('/documents/search', {
           params,
         });
         const data = response.data;
+        setStreamParams((current) => {
+          const next = {
+            status: params.status as string,
+            id: params.id as string,
+            filters: params.filters as string | undefined,
+          };
+          return JSON.stringify(current) === JSON.stringify(next) ? current : next;
+        });
         setDocumentsPage(data);
         setCurrentPage(data.number ?? pageToLoad);
         setSortBy(sortToUse);
@@ -267,6 +284,57 @@ export default function Review() {
     [collectFilterPayload, currentPage, sortBy, sortDirection, documentIdFilter, statusFilter],
   );
 
+  // Refetch the visible page when the server reports a change matching the applied filters.
+  const fetchDocumentsRef = useRef(fetchDocuments);
+  fetchDocumentsRef.current = fetchDocuments;
+
+  useEffect(() => {
+    if (!streamParams) {
+      return undefined;
+    }
+    let refreshTimer: number | undefined;
+    const unsubscribe = subscribeToDocumentChanges(streamParams, () => {
+      window.clearTimeout(refreshTimer);
+      refreshTimer = window.setTimeout(() => fetchDocumentsRef.current(), 500);
+    });
+    return () => {
+      window.clearTimeout(refreshTimer);
+      unsubscribe();
+    };
+  }, [streamParams]);
+
+  const [exporting, setExporting] = useState(false);
+
+  const handleExport = useCallback(async () => {
+    setExporting(true);
+    setTableError(null);
+    try {
+      const filtersPayload = collectFilterPayload();
+      const response = await api.get('/documents/export', {
+        params: {
+          status: statusFilter === 'ALL' ? '' : statusFilter,
+          id: documentIdFilter.trim(),
+          sortBy,
+          direction: sortDirection,
+          filters: Object.keys(filtersPayload).length > 0 ? JSON.stringify(filtersPayload) : undefined,
+          format: 'csv',
+          includeMetadata: true,
+        },
+        responseType: 'blob',
+      });
+      const objectUrl = URL.createObjectURL(response.data as Blob);
+      const link = window.document.createElement('a');
+      link.href = objectUrl;
+      link.download = 'documents.csv';
+      link.click();
+      URL.revokeObjectURL(objectUrl);
+    } catch (error) {
+      setTableError('Unable to export documents.');
+    } finally {
+      setExporting(false);
+    }
+  }, [collectFilterPayload, documentIdFilter, sortBy, sortDirection, statusFilter]);
+
   const handleFilterSubmit = useCallback(
     (event: FormEvent<HTMLFormElement>) => {
       event.preventDefault();
@@ -532,7 +600,7 @@ export default function Review() {
             <span className="text-xs font-semibold uppercase tracking-wide text-slate-600 dark:text-slate-300">Document ID</span>
             <input
               type="text"
-              placeholder="Document ID (e.g. DOC-2025-000123)"
+              placeholder="Document number or prefix (*text* to search within)"
               className="rounded border border-slate-300 px-3 py-2 text-sm transition-colors focus:border-blue-500 focus:outline-none focus:ring focus:ring-blue-200 dark:border-slate-600 dark:bg-slate-900 dark:text-slate-100 dark:focus:border-blue-400 dark:focus:ring-blue-500/40"
               value={documentIdFilter}
               onChange={(event) => setDocumentIdFilter(event.target.value)}
@@ -548,6 +616,7 @@ export default function Review() {
               {STATUS_FILTER_OPTIONS.map((option) => (
                 <option key={option.value} value={option.value}>
                   {option.label}
+                  {option.value !== 'ALL' && facets ? ` (${facets.statusCounts[option.value] ?? 0})` : ''}
                 </option>
               ))}
             </select>
@@ -568,6 +637,9 @@ export default function Review() {
                   {(filter.options ?? []).map((option) => (
                     <option key={option} value={option}>
                       {option}
+                      {facets?.optionCounts[filter.key]?.[option] !== undefined
+                        ? ` (${facets.optionCounts[filter.key][option]})`
+                        : ''}
                     </option>
                   ))}
                 </select>
@@ -590,6 +662,14 @@ export default function Review() {
             >
               {documentsLoading ? 'Loading…' : 'Load Documents'}
             </button>
+            <button
+              type="button"
+              className="inline-flex items-center rounded border border-slate-300 px-4 py-2 text-sm font-semibold text-slate-700 shadow-sm transition hover:bg-slate-100 disabled:cursor-not-allowed disabled:opacity-60 dark:border-slate-600 dark:text-slate-200 dark:hover:bg-slate-800"
+              onClick={handleExport}
+              disabled={exporting}
+            >
+              {exporting ? 'Exporting…' : 'Export CSV'}
+            </button>
             {reviewFiltersLoading ? (
               <span className="text-xs text-slate-500 dark:text-slate-300">Loading filters…</span>
             ) : null}
@@ -1,7 +1,29 @@
+export interface DataInjectorSheetResult {
+  sheetName: string;
+  profile: string;
+  targetTable: string | null;
+  totalRows: number;
+  inserted: number;
+  updated: number;
+  unchanged: number;
+  skipped: number;
+  failed: number;
+  batches: number;
+  elapsedMillis: number;
+  error: string | null;
+  ignoredColumns: string[];
+}
+
 export interface DataInjectorResponse {
   totalRows: number;
   inserted: number;
   updated: number;
+  unchanged: number;
   skipped: number;
+  failed: number;
+  unchangedFile: boolean;
+  errorReportId: string | null;
   ignoredColumns: string[];
+  ignoredSheets: string[];
+  sheets: DataInjectorSheetResult[];
 }
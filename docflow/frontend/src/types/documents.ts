@@ -31,3 +31,17 @@ export interface PageResponse<T> {
   number: number;
   size: number;
 }
+
+export interface DocumentFacets {
+  statusCounts: Record<string, number>;
+  optionCounts: Record<string, Record<string, number>>;
+}
+
+export interface DocumentChangeEvent {
+  documentId: number;
+  type: 'CREATED' | 'STATUS_CHANGED' | 'METADATA_UPDATED';
+  previousStatus: DocumentStatus | string | null;
+  newStatus: DocumentStatus | string | null;
+  changedBy: string;
+  changedAt: string;
+}
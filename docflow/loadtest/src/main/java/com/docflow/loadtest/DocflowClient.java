@@ -0,0 +1,104 @@
+package com.docflow.loadtest;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.UUID;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+// Minimal DocFlow API client on the JDK HTTP client, so the module stays free of dependencies. Every call sends
+// X-USER-ID, fails on a non-2xx status and returns the number of response bytes, or the body where callers need it.
+final class DocflowClient {
+
+    private static final Pattern ID = Pattern.compile("\"id\"\\s*:\\s*(\\d+)");
+
+    private final HttpClient client;
+    private final String baseUrl;
+
+    DocflowClient(String baseUrl) {
+        this.client = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(10))
+            .build();
+        this.baseUrl = baseUrl.endsWith("/") ? baseUrl.substring(0, baseUrl.length() - 1) : baseUrl;
+    }
+
+    long get(String user, String path) throws IOException, InterruptedException {
+        HttpResponse<InputStream> response = client.send(request(user, path).GET().build(),
+            HttpResponse.BodyHandlers.ofInputStream());
+        try (InputStream body = response.body()) {
+            long size = body.transferTo(OutputStream.nullOutputStream());
+            check(response, path);
+            return size;
+        }
+    }
+
+    String postJson(String user, String path, String json) throws IOException, InterruptedException {
+        return send(request(user, path)
+            .header("Content-Type", "application/json")
+            .POST(HttpRequest.BodyPublishers.ofString(json)), path);
+    }
+
+    String putJson(String user, String path, String json) throws IOException, InterruptedException {
+        return send(request(user, path)
+            .header("Content-Type", "application/json")
+            .PUT(HttpRequest.BodyPublishers.ofString(json)), path);
+    }
+
+    // Multipart upload with an optional JSON part named "metadata" and a file part named "file".
+    String postMultipart(String user, String path, String metadataJson, String fileName, byte[] file)
+        throws IOException, InterruptedException {
+        String boundary = "docflow-" + UUID.randomUUID();
+        ByteArrayOutputStream body = new ByteArrayOutputStream(file.length + 1024);
+        if (metadataJson != null) {
+            part(body, boundary, "Content-Disposition: form-data; name=\"metadata\"\r\n"
+                + "Content-Type: application/json\r\n", metadataJson.getBytes(StandardCharsets.UTF_8));
+        }
+        part(body, boundary, "Content-Disposition: form-data; name=\"file\"; filename=\"" + fileName + "\"\r\n"
+            + "Content-Type: application/octet-stream\r\n", file);
+        body.write(("--" + boundary + "--\r\n").getBytes(StandardCharsets.US_ASCII));
+        return send(request(user, path)
+            .header("Content-Type", "multipart/form-data; boundary=" + boundary)
+            .POST(HttpRequest.BodyPublishers.ofByteArray(body.toByteArray())), path);
+    }
+
+    static long idOf(String json) {
+        Matcher matcher = ID.matcher(json);
+        if (!matcher.find()) {
+            throw new IllegalStateException("Response has no id: " + json);
+        }
+        return Long.parseLong(matcher.group(1));
+    }
+
+    private HttpRequest.Builder request(String user, String path) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path))
+            .header("X-USER-ID", user)
+            .timeout(Duration.ofSeconds(60));
+    }
+
+    private String send(HttpRequest.Builder request, String path) throws IOException, InterruptedException {
+        HttpResponse<String> response = client.send(request.build(), HttpResponse.BodyHandlers.ofString());
+        check(response, path);
+        return response.body();
+    }
+
+    private static void check(HttpResponse<?> response, String path) throws IOException {
+        if (response.statusCode() / 100 != 2) {
+            throw new IOException(response.request().method() + " " + path + " returned " + response.statusCode());
+        }
+    }
+
+    private static void part(ByteArrayOutputStream body, String boundary, String headers, byte[] content) {
+        body.writeBytes(("--" + boundary + "\r\n" + headers + "\r\n").getBytes(StandardCharsets.UTF_8));
+        body.writeBytes(content);
+        body.writeBytes("\r\n".getBytes(StandardCharsets.US_ASCII));
+    }
+}
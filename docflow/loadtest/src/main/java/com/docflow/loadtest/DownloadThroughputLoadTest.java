@@ -0,0 +1,110 @@
+package com.docflow.loadtest;
+
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Concurrent GET /api/documents/download/{id} at increasing client concurrency, reporting throughput and latency per
+// level. Run it against the backend with and without the virtual-threads profile to compare the two models.
+public final class DownloadThroughputLoadTest {
+
+    private static final int MAX_SAMPLES = 5_000_000;
+
+    private final HttpClient client;
+    private final String baseUrl;
+    private final String userId;
+    private final List<String> documentIds;
+    private final AtomicLong sequence = new AtomicLong();
+
+    DownloadThroughputLoadTest(String baseUrl, String userId, List<String> documentIds) {
+        this.client = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(10))
+            .build();
+        this.baseUrl = baseUrl.endsWith("/") ? baseUrl.substring(0, baseUrl.length() - 1) : baseUrl;
+        this.userId = userId;
+        this.documentIds = documentIds;
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestOptions options = LoadTestOptions.parse(args);
+        List<String> ids = options.list("ids", "");
+        if (ids.isEmpty()) {
+            throw new IllegalArgumentException("--ids must name at least one document with a stored file");
+        }
+        DownloadThroughputLoadTest test = new DownloadThroughputLoadTest(
+            options.string("base-url", "http://localhost:8080"),
+            options.string("user", "reviewer1"),
+            ids);
+        Duration warmup = options.seconds("warmup", 5);
+        Duration duration = options.seconds("duration", 30);
+        String label = options.string("label", "-");
+
+        System.out.printf(Locale.ROOT, "%-10s %11s %9s %7s %10s %9s %9s %9s%n",
+            "label", "concurrency", "requests", "errors", "req/s", "MB/s", "p50 ms", "p99 ms");
+        for (int concurrency : options.integers("concurrency", "50,200,800")) {
+            test.run(concurrency, warmup);
+            LatencyRecorder result = test.run(concurrency, duration);
+            double seconds = duration.toMillis() / 1000.0;
+            System.out.printf(Locale.ROOT, "%-10s %11d %9d %7d %10.1f %9.2f %9.1f %9.1f%n",
+                label, concurrency, result.requests(), result.errors(),
+                result.requests() / seconds, result.bytes() / seconds / (1024 * 1024),
+                result.percentileMillis(0.50), result.percentileMillis(0.99));
+        }
+    }
+
+    // Closed loop: each worker issues its next request as soon as the previous one has been read to the end.
+    LatencyRecorder run(int concurrency, Duration duration) throws InterruptedException {
+        LatencyRecorder recorder = new LatencyRecorder(MAX_SAMPLES);
+        long deadline = System.nanoTime() + duration.toNanos();
+        ExecutorService workers = Executors.newFixedThreadPool(concurrency);
+        for (int worker = 0; worker < concurrency; worker++) {
+            workers.execute(() -> {
+                while (System.nanoTime() < deadline) {
+                    download(recorder);
+                }
+            });
+        }
+        workers.shutdown();
+        if (!workers.awaitTermination(duration.toSeconds() + 60, TimeUnit.SECONDS)) {
+            workers.shutdownNow();
+        }
+        return recorder;
+    }
+
+    private void download(LatencyRecorder recorder) {
+        String id = documentIds.get((int) (sequence.getAndIncrement() % documentIds.size()));
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + "/api/documents/download/" + id))
+            .header("X-USER-ID", userId)
+            .timeout(Duration.ofSeconds(60))
+            .GET()
+            .build();
+        long start = System.nanoTime();
+        try {
+            HttpResponse<InputStream> response = client.send(request, HttpResponse.BodyHandlers.ofInputStream());
+            try (InputStream body = response.body()) {
+                long size = body.transferTo(OutputStream.nullOutputStream());
+                if (response.statusCode() == 200) {
+                    recorder.success(System.nanoTime() - start, size);
+                } else {
+                    recorder.error();
+                }
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            recorder.error();
+        } catch (Exception ex) {
+            recorder.error();
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.docflow.loadtest;
+
+import java.util.Collection;
+import java.util.Map;
+
+// Just enough JSON writing for request bodies built from maps, lists, strings, numbers and booleans.
+final class Json {
+
+    private Json() {
+    }
+
+    static String write(Object value) {
+        StringBuilder json = new StringBuilder();
+        append(json, value);
+        return json.toString();
+    }
+
+    private static void append(StringBuilder json, Object value) {
+        if (value == null) {
+            json.append("null");
+        } else if (value instanceof Number || value instanceof Boolean) {
+            json.append(value);
+        } else if (value instanceof Map<?, ?> map) {
+            json.append('{');
+            boolean first = true;
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                if (!first) {
+                    json.append(',');
+                }
+                first = false;
+                append(json, entry.getKey().toString());
+                json.append(':');
+                append(json, entry.getValue());
+            }
+            json.append('}');
+        } else if (value instanceof Collection<?> collection) {
+            json.append('[');
+            boolean first = true;
+            for (Object item : collection) {
+                if (!first) {
+                    json.append(',');
+                }
+                first = false;
+                append(json, item);
+            }
+            json.append(']');
+        } else {
+            json.append('"');
+            for (char c : value.toString().toCharArray()) {
+                switch (c) {
+                    case '"' -> json.append("\\\"");
+                    case '\\' -> json.append("\\\\");
+                    case '\n' -> json.append("\\n");
+                    case '\r' -> json.append("\\r");
+                    case '\t' -> json.append("\\t");
+                    default -> {
+                        if (c < 0x20) {
+                            json.append(String.format("\\u%04x", (int) c));
+                        } else {
+                            json.append(c);
+                        }
+                    }
+                }
+            }
+            json.append('"');
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.docflow.loadtest;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+// Request outcomes for one run. Latencies go into a fixed array sized for the run so recording never allocates or
+// locks on the measured path; samples past capacity still count towards throughput.
+public final class LatencyRecorder {
+
+    private final long[] latenciesNanos;
+    private final AtomicLong recorded = new AtomicLong();
+    private final LongAdder errors = new LongAdder();
+    private final LongAdder bytes = new LongAdder();
+
+    public LatencyRecorder(int capacity) {
+        this.latenciesNanos = new long[capacity];
+    }
+
+    public void success(long latencyNanos, long responseBytes) {
+        long index = recorded.getAndIncrement();
+        if (index < latenciesNanos.length) {
+            latenciesNanos[(int) index] = latencyNanos;
+        }
+        bytes.add(responseBytes);
+    }
+
+    public void error() {
+        errors.increment();
+    }
+
+    public long requests() {
+        return recorded.get();
+    }
+
+    public long errors() {
+        return errors.sum();
+    }
+
+    public long bytes() {
+        return bytes.sum();
+    }
+
+    // Percentile in milliseconds, e.g. 0.99 for p99.
+    public double percentileMillis(double percentile) {
+        int count = (int) Math.min(recorded.get(), latenciesNanos.length);
+        if (count == 0) {
+            return 0;
+        }
+        long[] sorted = Arrays.copyOf(latenciesNanos, count);
+        Arrays.sort(sorted);
+        int index = (int) Math.ceil(percentile * count) - 1;
+        return sorted[Math.max(0, Math.min(count - 1, index))] / 1_000_000.0;
+    }
+}
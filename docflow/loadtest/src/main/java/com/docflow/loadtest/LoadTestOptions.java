@@ -0,0 +1,49 @@
+package com.docflow.loadtest;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// --name=value command line options shared by the load tests.
+public final class LoadTestOptions {
+
+    private final Map<String, String> values;
+
+    private LoadTestOptions(Map<String, String> values) {
+        this.values = values;
+    }
+
+    public static LoadTestOptions parse(String[] args) {
+        Map<String, String> values = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("Expected --name=value but got " + arg);
+            }
+            int separator = arg.indexOf('=');
+            values.put(arg.substring(2, separator), arg.substring(separator + 1));
+        }
+        return new LoadTestOptions(values);
+    }
+
+    public String string(String name, String defaultValue) {
+        String value = values.get(name);
+        return value == null || value.isBlank() ? defaultValue : value.trim();
+    }
+
+    public Duration seconds(String name, long defaultSeconds) {
+        return Duration.ofSeconds(Long.parseLong(string(name, Long.toString(defaultSeconds))));
+    }
+
+    public List<String> list(String name, String defaultValue) {
+        return Arrays.stream(string(name, defaultValue).split(","))
+            .map(String::trim)
+            .filter(value -> !value.isEmpty())
+            .toList();
+    }
+
+    public List<Integer> integers(String name, String defaultValue) {
+        return list(name, defaultValue).stream().map(Integer::parseInt).toList();
+    }
+}
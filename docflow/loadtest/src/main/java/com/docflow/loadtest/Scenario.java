@@ -0,0 +1,137 @@
+package com.docflow.loadtest;
+
+import java.io.IOException;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// One scripted user action against the seeded data set. Each execution returns the response bytes it read and
+// throws on any failure, which the harness counts as an error.
+enum Scenario {
+
+    // A maker uploads a new document with metadata and a file.
+    UPLOAD {
+        @Override
+        long execute(Context context, int worker, Random random) throws IOException, InterruptedException {
+            context.generator.upload(context.nextDocumentIndex(), random);
+            return 0;
+        }
+    },
+
+    // A reviewer pages through search results with a random mix of status, number, metadata and review filters.
+    SEARCH {
+        @Override
+        long execute(Context context, int worker, Random random) throws IOException, InterruptedException {
+            StringBuilder query = new StringBuilder("/api/documents/search?size=25&page=").append(random.nextInt(4));
+            if (random.nextBoolean()) {
+                query.append("&status=").append(SyntheticDataGenerator.WORKFLOW.get(random.nextInt(4)));
+            }
+            if (random.nextInt(4) == 0) {
+                query.append("&numberMatch=contains&id=").append(1 + random.nextInt(99));
+            }
+            if (random.nextInt(4) == 0) {
+                query.append("&metadataKey=product_type&metadataValue=")
+                    .append(SyntheticDataGenerator.PRODUCTS.get(random.nextInt(4)));
+            }
+            Map<String, Object> filters = new LinkedHashMap<>();
+            if (random.nextBoolean()) {
+                filters.put("branch_code", pick(SyntheticDataGenerator.BRANCHES, random));
+            }
+            if (random.nextInt(3) == 0) {
+                filters.put("loan_amount", (random.nextBoolean() ? ">" : "<") + (100_000 + random.nextInt(800) * 1_000));
+            }
+            if (random.nextInt(4) == 0) {
+                filters.put("createdBy", "like:maker%");
+            }
+            if (!filters.isEmpty()) {
+                query.append("&filters=").append(URLEncoder.encode(Json.write(filters), StandardCharsets.UTF_8));
+            }
+            query.append("&sortBy=").append(pick(SORTS, random))
+                .append("&direction=").append(random.nextBoolean() ? "asc" : "desc");
+            return context.client.get(SyntheticDataGenerator.REVIEWER, query.toString());
+        }
+    },
+
+    // A reviewer moves a random document to another workflow status.
+    WORKFLOW {
+        @Override
+        long execute(Context context, int worker, Random random) throws IOException, InterruptedException {
+            long id = pick(context.documentIds, random);
+            String status = pick(SyntheticDataGenerator.WORKFLOW, random);
+            return context.client.putJson(SyntheticDataGenerator.REVIEWER, "/api/documents/" + id + "/status",
+                Json.write(Map.of("status", status, "comment", "load test"))).length();
+        }
+    },
+
+    // A reviewer downloads the file of a random document.
+    DOWNLOAD {
+        @Override
+        long execute(Context context, int worker, Random random) throws IOException, InterruptedException {
+            return context.client.get(SyntheticDataGenerator.REVIEWER,
+                "/api/documents/download/" + pick(context.documentIds, random));
+        }
+    },
+
+    // A maker injects an Excel workbook into loan_data. Each worker owns a range of loan numbers twice the workbook
+    // size, so its uploads mix inserts and updates without lock conflicts between concurrent workbooks.
+    INJECT {
+        @Override
+        long execute(Context context, int worker, Random random) throws IOException, InterruptedException {
+            int first = random.nextInt(context.injectionRows + 1);
+            List<List<Object>> rows = new ArrayList<>();
+            rows.add(List.of("LoanNo", "Amount", "Start Date", "End Date", "Monthly EMI", "Branch",
+                "Total Installment", "User ID"));
+            for (int row = 0; row < context.injectionRows; row++) {
+                int months = 12 * (1 + random.nextInt(20));
+                rows.add(List.of(
+                    String.format(Locale.ROOT, "LN%04d-%06d", worker, first + row),
+                    100_000 + random.nextInt(900_000),
+                    "2024-01-15",
+                    "2034-01-15",
+                    1_000 + random.nextInt(9_000),
+                    pick(SyntheticDataGenerator.BRANCHES, random),
+                    months,
+                    SyntheticDataGenerator.MAKER));
+            }
+            byte[] workbook = XlsxWorkbook.write("Loans", rows);
+            return context.client.postMultipart(SyntheticDataGenerator.MAKER,
+                "/api/documents/data-injector/uploadexcel", null, "loans.xlsx", workbook).length();
+        }
+    };
+
+    private static final List<String> SORTS = List.of("id", "updatedAt", "createdBy", "status");
+
+    abstract long execute(Context context, int worker, Random random) throws IOException, InterruptedException;
+
+    private static <T> T pick(List<T> values, Random random) {
+        return values.get(random.nextInt(values.size()));
+    }
+
+    // Shared by every worker of a run.
+    static final class Context {
+
+        private final DocflowClient client;
+        private final SyntheticDataGenerator generator;
+        private final List<Long> documentIds;
+        private final int injectionRows;
+        private final AtomicInteger uploads;
+
+        Context(DocflowClient client, SyntheticDataGenerator generator, List<Long> documentIds, int injectionRows) {
+            this.client = client;
+            this.generator = generator;
+            this.documentIds = documentIds;
+            this.injectionRows = injectionRows;
+            this.uploads = new AtomicInteger(documentIds.size());
+        }
+
+        private int nextDocumentIndex() {
+            return uploads.getAndIncrement();
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package com.docflow.loadtest;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+// Seeds a running backend with synthetic data, then runs each scripted scenario in turn at every concurrency level
+// and reports throughput with p50/p99 latency. Start the backend with mvn -Ploadtest for an in-memory database.
+public final class ScenarioLoadTest {
+
+    private static final int MAX_SAMPLES = 5_000_000;
+
+    public static void main(String[] args) throws Exception {
+        LoadTestOptions options = LoadTestOptions.parse(args);
+        long seed = Long.parseLong(options.string("seed", "42"));
+        List<Integer> fileSizes = options.list("file-sizes", "16k,256k,2m").stream()
+            .map(ScenarioLoadTest::parseSize)
+            .toList();
+        DocflowClient client = new DocflowClient(options.string("base-url", "http://localhost:8080"));
+        SyntheticDataGenerator generator = new SyntheticDataGenerator(client,
+            Integer.parseInt(options.string("fields", "12")),
+            Integer.parseInt(options.string("history", "4")),
+            fileSizes,
+            seed);
+
+        int documents = Integer.parseInt(options.string("documents", "1000"));
+        long generateStart = System.nanoTime();
+        List<Long> documentIds = generator.generate(documents, Integer.parseInt(options.string("generator-threads", "8")));
+        System.out.printf(Locale.ROOT, "Generated %d documents in %.1f s%n", documentIds.size(),
+            (System.nanoTime() - generateStart) / 1e9);
+
+        Scenario.Context context = new Scenario.Context(client, generator, documentIds,
+            Integer.parseInt(options.string("injection-rows", "500")));
+        Duration warmup = options.seconds("warmup", 5);
+        Duration duration = options.seconds("duration", 30);
+        String label = options.string("label", "-");
+        List<Scenario> scenarios = options.list("scenarios", "search,download,workflow,upload,inject").stream()
+            .map(name -> Scenario.valueOf(name.toUpperCase(Locale.ROOT)))
+            .toList();
+
+        List<String> report = new ArrayList<>();
+        report.add("label,scenario,concurrency,requests,errors,requests_per_second,mb_per_second,p50_ms,p99_ms");
+        System.out.printf(Locale.ROOT, "%-10s %-9s %11s %9s %7s %10s %9s %9s %9s%n",
+            "label", "scenario", "concurrency", "requests", "errors", "req/s", "MB/s", "p50 ms", "p99 ms");
+        for (Scenario scenario : scenarios) {
+            for (int concurrency : options.integers("concurrency", "8,32")) {
+                run(scenario, context, concurrency, warmup, seed);
+                LatencyRecorder result = run(scenario, context, concurrency, duration, seed);
+                double seconds = duration.toMillis() / 1000.0;
+                double throughput = result.requests() / seconds;
+                double megabytes = result.bytes() / seconds / (1024 * 1024);
+                double p50 = result.percentileMillis(0.50);
+                double p99 = result.percentileMillis(0.99);
+                System.out.printf(Locale.ROOT, "%-10s %-9s %11d %9d %7d %10.1f %9.2f %9.1f %9.1f%n",
+                    label, scenario.name().toLowerCase(Locale.ROOT), concurrency, result.requests(), result.errors(),
+                    throughput, megabytes, p50, p99);
+                report.add(String.format(Locale.ROOT, "%s,%s,%d,%d,%d,%.1f,%.2f,%.1f,%.1f",
+                    label, scenario.name().toLowerCase(Locale.ROOT), concurrency, result.requests(), result.errors(),
+                    throughput, megabytes, p50, p99));
+            }
+        }
+
+        String reportPath = options.string("report", "");
+        if (!reportPath.isEmpty()) {
+            writeReport(Path.of(reportPath), report);
+        }
+    }
+
+    // Closed loop as in DownloadThroughputLoadTest; each worker has its own seeded random, so runs are repeatable.
+    static LatencyRecorder run(Scenario scenario, Scenario.Context context, int concurrency, Duration duration,
+                               long seed) throws InterruptedException {
+        LatencyRecorder recorder = new LatencyRecorder(MAX_SAMPLES);
+        long deadline = System.nanoTime() + duration.toNanos();
+        ExecutorService workers = Executors.newFixedThreadPool(concurrency);
+        for (int worker = 0; worker < concurrency; worker++) {
+            int workerIndex = worker;
+            Random random = new Random(seed + scenario.ordinal() * 1_000L + worker);
+            workers.execute(() -> {
+                while (System.nanoTime() < deadline) {
+                    long start = System.nanoTime();
+                    try {
+                        long bytes = scenario.execute(context, workerIndex, random);
+                        recorder.success(System.nanoTime() - start, bytes);
+                    } catch (InterruptedException ex) {
+                        Thread.currentThread().interrupt();
+                        recorder.error();
+                        return;
+                    } catch (Exception ex) {
+                        recorder.error();
+                    }
+                }
+            });
+        }
+        workers.shutdown();
+        if (!workers.awaitTermination(duration.toSeconds() + 120, TimeUnit.SECONDS)) {
+            workers.shutdownNow();
+        }
+        return recorder;
+    }
+
+    // Sizes in bytes with an optional k or m suffix, e.g. 512, 64k, 2m.
+    static int parseSize(String value) {
+        String normalized = value.trim().toLowerCase(Locale.ROOT);
+        int multiplier = 1;
+        if (normalized.endsWith("k")) {
+            multiplier = 1024;
+        } else if (normalized.endsWith("m")) {
+            multiplier = 1024 * 1024;
+        }
+        String digits = multiplier == 1 ? normalized : normalized.substring(0, normalized.length() - 1);
+        int size = Integer.parseInt(digits) * multiplier;
+        if (size <= 0) {
+            throw new IllegalArgumentException("File sizes must be positive: " + value);
+        }
+        return size;
+    }
+
+    private static void writeReport(Path path, List<String> lines) throws IOException {
+        try (PrintWriter writer = new PrintWriter(Files.newBufferedWriter(path, StandardCharsets.UTF_8))) {
+            lines.forEach(writer::println);
+        }
+        System.out.println("Report written to " + path.toAbsolutePath());
+    }
+}
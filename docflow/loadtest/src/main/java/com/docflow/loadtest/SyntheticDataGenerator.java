@@ -0,0 +1,116 @@
+package com.docflow.loadtest;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+// Seeds a running backend through its public API: the review filter config, then documents with the configured
+// number of metadata fields and an attached file, each given an audit history of metadata edits and status changes.
+// Everything derives from the seed, so the same options produce the same data set.
+final class SyntheticDataGenerator {
+
+    static final String MAKER = "maker1";
+    static final String REVIEWER = "reviewer1";
+    static final String ADMIN = "admin1";
+    static final List<String> BRANCHES = List.of("BR001", "BR002", "BR003", "BR004", "BR005", "BR006", "BR007",
+        "BR008", "BR009", "BR010", "BR011", "BR012");
+    static final List<String> PRODUCTS = List.of("HOME", "AUTO", "PERSONAL", "BUSINESS");
+    static final List<String> WORKFLOW = List.of("OPEN", "UNDER_REVIEW", "REWORK", "APPROVED");
+
+    private static final String REVIEW_FILTERS = Json.write(List.of(
+        Map.of("key", "branch_code", "label", "Branch", "type", "select", "source", "META_DATA", "options", BRANCHES),
+        Map.of("key", "product_type", "label", "Product", "type", "select", "source", "META_DATA", "options", PRODUCTS),
+        Map.of("key", "loan_amount", "label", "Loan amount", "type", "number", "source", "META_DATA"),
+        Map.of("key", "createdBy", "label", "Created by", "type", "text", "source", "DOCUMENT_PARENT")));
+
+    private final DocflowClient client;
+    private final int fields;
+    private final int history;
+    private final List<Integer> fileSizes;
+    private final long seed;
+
+    SyntheticDataGenerator(DocflowClient client, int fields, int history, List<Integer> fileSizes, long seed) {
+        this.client = client;
+        this.fields = fields;
+        this.history = history;
+        this.fileSizes = fileSizes;
+        this.seed = seed;
+    }
+
+    List<Long> generate(int documents, int threads) throws Exception {
+        client.postJson(ADMIN, "/api/admin/config/review-filters", Json.write(Map.of("configJson", REVIEW_FILTERS)));
+        ExecutorService workers = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<Long>> created = new ArrayList<>();
+            for (int index = 0; index < documents; index++) {
+                int documentIndex = index;
+                created.add(workers.submit(() -> createWithHistory(documentIndex)));
+            }
+            List<Long> ids = new ArrayList<>();
+            for (Future<Long> future : created) {
+                ids.add(future.get());
+            }
+            return Collections.unmodifiableList(ids);
+        } finally {
+            workers.shutdownNow();
+        }
+    }
+
+    long upload(int index, Random random) throws IOException, InterruptedException {
+        String metadata = Json.write(Map.of("title", "Loan application " + index, "metadata", metadata(index, random)));
+        int size = fileSizes.get(index % fileSizes.size());
+        String response = client.postMultipart(MAKER, "/api/documents/upload", metadata,
+            "application-" + index + ".bin", content(size, random));
+        return DocflowClient.idOf(response);
+    }
+
+    // The first five fields are the ones the review filters and searches use; the rest are free text.
+    Map<String, Object> metadata(int index, Random random) {
+        Map<String, Object> metadata = new LinkedHashMap<>();
+        List<Object> values = List.of(
+            BRANCHES.get(random.nextInt(BRANCHES.size())),
+            PRODUCTS.get(random.nextInt(PRODUCTS.size())),
+            50_000 + random.nextInt(950) * 1_000,
+            "Customer " + index,
+            LocalDate.of(2024, 1, 1).plusDays(random.nextInt(600)).toString());
+        List<String> keys = List.of("branch_code", "product_type", "loan_amount", "customer_name", "application_date");
+        for (int field = 0; field < fields; field++) {
+            if (field < keys.size()) {
+                metadata.put(keys.get(field), values.get(field));
+            } else {
+                metadata.put(String.format("field_%02d", field + 1), "value " + random.nextInt(10_000));
+            }
+        }
+        return metadata;
+    }
+
+    private long createWithHistory(int index) throws IOException, InterruptedException {
+        Random random = new Random(seed * 31 + index);
+        long id = upload(index, random);
+        Map<String, Object> metadata = metadata(index, random);
+        for (int entry = 0; entry < history; entry++) {
+            if (entry % 2 == 0) {
+                metadata.put("customer_name", "Customer " + index + " rev " + entry);
+                client.putJson(MAKER, "/api/documents/" + id + "/metadata", Json.write(Map.of("metadata", metadata)));
+            } else {
+                String status = WORKFLOW.get((entry / 2) % WORKFLOW.size());
+                client.putJson(REVIEWER, "/api/documents/" + id + "/status", Json.write(Map.of("status", status)));
+            }
+        }
+        return id;
+    }
+
+    private static byte[] content(int size, Random random) {
+        byte[] content = new byte[size];
+        random.nextBytes(content);
+        return content;
+    }
+}
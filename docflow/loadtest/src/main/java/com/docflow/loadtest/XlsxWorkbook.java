@@ -0,0 +1,87 @@
+package com.docflow.loadtest;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+// Writes a single-sheet .xlsx with inline strings and numbers: the smallest package POI reads, without pulling POI
+// into the load test.
+final class XlsxWorkbook {
+
+    private XlsxWorkbook() {
+    }
+
+    static byte[] write(String sheetName, List<List<Object>> rows) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ZipOutputStream zip = new ZipOutputStream(bytes)) {
+            entry(zip, "[Content_Types].xml", """
+                <?xml version="1.0" encoding="UTF-8" standalone="yes"?>
+                <Types xmlns="http://schemas.openxmlformats.org/package/2006/content-types">
+                <Default Extension="rels" ContentType="application/vnd.openxmlformats-package.relationships+xml"/>
+                <Default Extension="xml" ContentType="application/xml"/>
+                <Override PartName="/xl/workbook.xml" ContentType="application/vnd.openxmlformats-officedocument.spreadsheetml.sheet.main+xml"/>
+                <Override PartName="/xl/worksheets/sheet1.xml" ContentType="application/vnd.openxmlformats-officedocument.spreadsheetml.worksheet+xml"/>
+                </Types>""");
+            entry(zip, "_rels/.rels", """
+                <?xml version="1.0" encoding="UTF-8" standalone="yes"?>
+                <Relationships xmlns="http://schemas.openxmlformats.org/package/2006/relationships">
+                <Relationship Id="rId1" Type="http://schemas.openxmlformats.org/officeDocument/2006/relationships/officeDocument" Target="xl/workbook.xml"/>
+                </Relationships>""");
+            entry(zip, "xl/workbook.xml", """
+                <?xml version="1.0" encoding="UTF-8" standalone="yes"?>
+                <workbook xmlns="http://schemas.openxmlformats.org/spreadsheetml/2006/main" xmlns:r="http://schemas.openxmlformats.org/officeDocument/2006/relationships">
+                <sheets><sheet name="%s" sheetId="1" r:id="rId1"/></sheets>
+                </workbook>""".formatted(escape(sheetName)));
+            entry(zip, "xl/_rels/workbook.xml.rels", """
+                <?xml version="1.0" encoding="UTF-8" standalone="yes"?>
+                <Relationships xmlns="http://schemas.openxmlformats.org/package/2006/relationships">
+                <Relationship Id="rId1" Type="http://schemas.openxmlformats.org/officeDocument/2006/relationships/worksheet" Target="worksheets/sheet1.xml"/>
+                </Relationships>""");
+            entry(zip, "xl/worksheets/sheet1.xml", sheet(rows));
+        }
+        return bytes.toByteArray();
+    }
+
+    private static String sheet(List<List<Object>> rows) {
+        StringBuilder xml = new StringBuilder("""
+            <?xml version="1.0" encoding="UTF-8" standalone="yes"?>
+            <worksheet xmlns="http://schemas.openxmlformats.org/spreadsheetml/2006/main"><sheetData>""");
+        for (int row = 0; row < rows.size(); row++) {
+            xml.append("<row r=\"").append(row + 1).append("\">");
+            List<Object> cells = rows.get(row);
+            for (int column = 0; column < cells.size(); column++) {
+                Object value = cells.get(column);
+                String reference = columnName(column) + (row + 1);
+                if (value instanceof Number number) {
+                    xml.append("<c r=\"").append(reference).append("\"><v>").append(number).append("</v></c>");
+                } else if (value != null) {
+                    xml.append("<c r=\"").append(reference).append("\" t=\"inlineStr\"><is><t>")
+                        .append(escape(value.toString())).append("</t></is></c>");
+                }
+            }
+            xml.append("</row>");
+        }
+        return xml.append("</sheetData></worksheet>").toString();
+    }
+
+    private static String columnName(int index) {
+        StringBuilder name = new StringBuilder();
+        for (int remaining = index + 1; remaining > 0; remaining = (remaining - 1) / 26) {
+            name.insert(0, (char) ('A' + (remaining - 1) % 26));
+        }
+        return name.toString();
+    }
+
+    private static void entry(ZipOutputStream zip, String name, String content) throws IOException {
+        zip.putNextEntry(new ZipEntry(name));
+        zip.write(content.getBytes(StandardCharsets.UTF_8));
+        zip.closeEntry();
+    }
+
+    private static String escape(String value) {
+        return value.replace("&", "&amp;").replace("<", "&lt;").replace(">", "&gt;").replace("\"", "&quot;");
+    }
+}